@@ -0,0 +1,29 @@
+package com.projecthub.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for asynchronous bulk jobs.
+ * The pool is small and bounded so background jobs hold at most one database connection per worker
+ * and never compete with request threads for the rest of the pool.
+ */
+@Configuration
+public class BulkJobConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor bulkJobExecutor(
+            @Value("${app.bulk-jobs.workers:2}") int workers,
+            @Value("${app.bulk-jobs.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bulk-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
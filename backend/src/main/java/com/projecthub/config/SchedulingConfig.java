@@ -0,0 +1,16 @@
+package com.projecthub.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables periodic background work such as creating occurrences of recurring tasks.
+ * Every node runs the schedules; the jobs themselves coordinate through row locks.
+ * Set {@code app.scheduling.enabled=false} to keep a node out of background work.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -2,6 +2,7 @@ package com.projecthub.config;
 
 import com.projecthub.security.JwtAuthenticationEntryPoint;
 import com.projecthub.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -66,6 +67,10 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**").permitAll()
+                        // The feed URL carries its own secret, since calendar clients cannot send a JWT
+                        .requestMatchers("/calendar/feed/**").permitAll()
+                        // Streamed responses finish on an async dispatch of an already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 );
 
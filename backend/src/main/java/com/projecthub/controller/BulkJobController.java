@@ -0,0 +1,67 @@
+package com.projecthub.controller;
+
+import com.projecthub.dto.BulkJobRequest;
+import com.projecthub.dto.BulkJobResponse;
+import com.projecthub.security.UserDetailsImpl;
+import com.projecthub.service.BulkJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+/**
+ * REST controller for asynchronous bulk task jobs.
+ * Jobs are visible only to the user who submitted them.
+ */
+@RestController
+@RequestMapping("/tasks/bulk/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class BulkJobController {
+
+    private final BulkJobService bulkJobService;
+
+    /**
+     * Submit a bulk job. Responds before any task is processed.
+     * POST /api/tasks/bulk/jobs
+     */
+    @PostMapping
+    public ResponseEntity<BulkJobResponse> submitJob(
+            @Valid @RequestBody BulkJobRequest request,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Bulk {} job for {} tasks by user {}", request.getOperation(), request.getTaskIds().size(), userId);
+
+        BulkJobResponse response = bulkJobService.submit(request.getOperation(), request.getTaskIds(), userId);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(response.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    /**
+     * Get the progress of a bulk job, and its per-task outcomes once it has ended.
+     * GET /api/tasks/bulk/jobs/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BulkJobResponse> getJob(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        return ResponseEntity.ok(bulkJobService.getJob(jobId, userId));
+    }
+
+    /**
+     * Extract user ID from authentication token.
+     */
+    private Long getUserIdFromAuth(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+}
@@ -0,0 +1,96 @@
+package com.projecthub.controller;
+
+import com.projecthub.dto.CalendarFeedResponse;
+import com.projecthub.security.UserDetailsImpl;
+import com.projecthub.service.CalendarService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * REST controller for the calendar of a user's tasks across all of their projects.
+ * Responses are streamed and support conditional GET through ETag / If-None-Match.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarService calendarService;
+
+    /**
+     * Get every day a task is due on in a date range, including upcoming occurrences of recurring tasks.
+     * GET /api/calendar?from=2024-01-01&to=2024-01-31
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<StreamingResponseBody> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication,
+            WebRequest request) {
+        Long userId = getUserIdFromAuth(authentication);
+        String etag = calendarService.getVersionTag(userId, from, to);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        log.info("Calendar request from {} to {} by user {}", from, to, userId);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> calendarService.writeJson(userId, from, to, out));
+    }
+
+    /**
+     * Create a private ICS feed URL for calendar applications, revoking the previous one.
+     * POST /api/calendar/feed-token
+     */
+    @PostMapping("/calendar/feed-token")
+    public ResponseEntity<CalendarFeedResponse> createFeed(Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        return ResponseEntity.status(HttpStatus.CREATED).body(calendarService.createFeedToken(userId));
+    }
+
+    /**
+     * Subscribe to a user's tasks from the last month to a year ahead, authenticated by the secret in the URL.
+     * GET /api/calendar/feed/{token}.ics
+     */
+    @GetMapping("/calendar/feed/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> getFeed(@PathVariable String token, WebRequest request) {
+        Long userId = calendarService.findFeedOwner(token);
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(CalendarService.FEED_DAYS_BEFORE);
+        LocalDate to = today.plusDays(CalendarService.FEED_DAYS_AFTER);
+        String etag = calendarService.getVersionTag(userId, from, to);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        log.info("Calendar feed request for user {}", userId);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(TEXT_CALENDAR)
+                .body(out -> calendarService.writeIcs(userId, from, to, out));
+    }
+
+    /**
+     * Extract user ID from authentication token.
+     */
+    private Long getUserIdFromAuth(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+}
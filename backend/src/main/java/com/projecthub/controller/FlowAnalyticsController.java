@@ -0,0 +1,81 @@
+package com.projecthub.controller;
+
+import com.projecthub.dto.CumulativeFlowResponse;
+import com.projecthub.dto.CycleTimeResponse;
+import com.projecthub.dto.ThroughputResponse;
+import com.projecthub.security.UserDetailsImpl;
+import com.projecthub.service.FlowAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for project flow analytics.
+ * Date ranges are inclusive and default to the last 30 days.
+ */
+@RestController
+@RequestMapping("/projects/{projectId}/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class FlowAnalyticsController {
+
+    private final FlowAnalyticsService flowAnalyticsService;
+
+    /**
+     * Get average cycle and lead time of completed tasks.
+     * GET /api/projects/{projectId}/analytics/cycle-time?from=&to=
+     */
+    @GetMapping("/cycle-time")
+    public ResponseEntity<CycleTimeResponse> getCycleTime(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Cycle time request for project {} by user {}", projectId, userId);
+
+        return ResponseEntity.ok(flowAnalyticsService.getCycleTime(projectId, from, to, userId));
+    }
+
+    /**
+     * Get the number of tasks completed per day.
+     * GET /api/projects/{projectId}/analytics/throughput?from=&to=
+     */
+    @GetMapping("/throughput")
+    public ResponseEntity<ThroughputResponse> getThroughput(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Throughput request for project {} by user {}", projectId, userId);
+
+        return ResponseEntity.ok(flowAnalyticsService.getThroughput(projectId, from, to, userId));
+    }
+
+    /**
+     * Get the cumulative flow (tasks per status at the end of each day).
+     * GET /api/projects/{projectId}/analytics/cumulative-flow?from=&to=
+     */
+    @GetMapping("/cumulative-flow")
+    public ResponseEntity<CumulativeFlowResponse> getCumulativeFlow(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Cumulative flow request for project {} by user {}", projectId, userId);
+
+        return ResponseEntity.ok(flowAnalyticsService.getCumulativeFlow(projectId, from, to, userId));
+    }
+
+    private Long getUserIdFromAuth(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+}
@@ -1,6 +1,10 @@
 package com.projecthub.controller;
 
+import com.projecthub.dto.BulkInviteRequest;
+import com.projecthub.dto.BulkInviteResponse;
 import com.projecthub.dto.InvitationDTO;
+import com.projecthub.dto.InviteCodeRequest;
+import com.projecthub.dto.InviteCodeResponse;
 import com.projecthub.dto.InviteUserRequest;
 import com.projecthub.dto.JoinProjectRequest;
 import com.projecthub.dto.ProjectMemberDTO;
@@ -29,18 +33,33 @@ public class InvitationController {
     private final ProjectInvitationService invitationService;
 
     /**
-     * Get all pending invitations for the authenticated user.
-     * GET /invitations/pending
+     * Get pending invitations for the authenticated user, newest first.
+     * GET /invitations/pending?page=0&size=50
      */
     @GetMapping("/pending")
-    public ResponseEntity<List<InvitationDTO>> getPendingInvitations(Authentication authentication) {
+    public ResponseEntity<List<InvitationDTO>> getPendingInvitations(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
         log.info("User {} retrieving pending invitations", userId);
 
-        List<InvitationDTO> invitations = invitationService.getPendingInvitations(userId);
+        List<InvitationDTO> invitations = invitationService.getPendingInvitations(userId, page, size);
         return ResponseEntity.ok(invitations);
     }
 
+    /**
+     * Count pending invitations for the authenticated user, for a badge that is polled.
+     * GET /invitations/pending/count
+     */
+    @GetMapping("/pending/count")
+    public ResponseEntity<Map<String, Long>> countPendingInvitations(Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.debug("User {} counting pending invitations", userId);
+
+        return ResponseEntity.ok(Map.of("count", invitationService.countPendingInvitations(userId)));
+    }
+
     /**
      * Send an invitation to a user.
      * POST /invitations/projects/{projectId}/invite
@@ -58,6 +77,23 @@ public class InvitationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(invitation);
     }
 
+    /**
+     * Invite many users at once.
+     * POST /invitations/projects/{projectId}/invite/bulk
+     */
+    @PostMapping("/projects/{projectId}/invite/bulk")
+    public ResponseEntity<BulkInviteResponse> inviteUsers(
+            @PathVariable Long projectId,
+            @Valid @RequestBody BulkInviteRequest request,
+            Authentication authentication) {
+
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("User {} inviting {} users to project {}", userId, request.getUserEmails().size(), projectId);
+
+        BulkInviteResponse response = invitationService.inviteUsers(projectId, request, userId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get all invitations for a project.
      * GET /invitations/projects/{projectId}
@@ -124,19 +160,22 @@ public class InvitationController {
     }
 
     /**
-     * Generate invite code for a project.
+     * Generate invite code for a project, replacing the previous one.
      * POST /invitations/projects/{projectId}/code
+     * Optional body: {"expiresAt": "...", "maxUses": 30}
      */
     @PostMapping("/projects/{projectId}/code")
-    public ResponseEntity<Map<String, String>> generateInviteCode(
+    public ResponseEntity<InviteCodeResponse> generateInviteCode(
             @PathVariable Long projectId,
+            @Valid @RequestBody(required = false) InviteCodeRequest request,
             Authentication authentication) {
         
         Long userId = getUserIdFromAuth(authentication);
         log.info("User {} generating invite code for project {}", userId, projectId);
 
-        String code = invitationService.generateInviteCode(projectId, userId);
-        return ResponseEntity.ok(Map.of("inviteCode", code));
+        InviteCodeResponse code = invitationService.generateInviteCode(projectId,
+                request != null ? request : new InviteCodeRequest(), userId);
+        return ResponseEntity.ok(code);
     }
 
     /**
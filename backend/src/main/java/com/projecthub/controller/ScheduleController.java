@@ -0,0 +1,45 @@
+package com.projecthub.controller;
+
+import com.projecthub.dto.ScheduleResponse;
+import com.projecthub.security.UserDetailsImpl;
+import com.projecthub.service.ScheduleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for project schedules derived from task due dates and dependencies.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+
+    /**
+     * Get the critical path, finish dates and slack of every task, optionally assuming one task finishes late.
+     * GET /api/projects/{projectId}/schedule?delayTaskId=&delayDays=
+     */
+    @GetMapping("/projects/{projectId}/schedule")
+    public ResponseEntity<ScheduleResponse> getSchedule(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long delayTaskId,
+            @RequestParam(required = false) Integer delayDays,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Schedule request for project {} by user {}", projectId, userId);
+
+        return ResponseEntity.ok(scheduleService.getSchedule(projectId, delayTaskId, delayDays, userId));
+    }
+
+    /**
+     * Extract user ID from authentication token.
+     */
+    private Long getUserIdFromAuth(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+}
@@ -0,0 +1,49 @@
+package com.projecthub.controller;
+
+import com.projecthub.dto.SearchResponse;
+import com.projecthub.security.UserDetailsImpl;
+import com.projecthub.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for full-text search.
+ */
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Search the tasks and projects of the user's projects.
+     * GET /api/search?q="release notes" -draft&page=0&size=20
+     *
+     * @param q query in web search syntax
+     * @param page page number, from 0
+     * @param size results per page
+     * @param authentication authenticated user
+     * @return matching tasks and projects, best ranked first
+     */
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.debug("Search request from user ID: {}", userId);
+
+        return ResponseEntity.ok(searchService.search(q, page, size, userId));
+    }
+
+    private Long getUserIdFromAuth(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+}
@@ -2,6 +2,9 @@ package com.projecthub.controller;
 
 import com.projecthub.dto.*;
 import com.projecthub.security.UserDetailsImpl;
+import com.projecthub.service.DependencyGraphService;
+import com.projecthub.service.TaskFacetService;
+import com.projecthub.service.TaskImportService;
 import com.projecthub.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -23,6 +27,9 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final DependencyGraphService dependencyGraphService;
+    private final TaskFacetService taskFacetService;
 
     /**
      * Create a new task for a project.
@@ -45,25 +52,89 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Import tasks from a CSV body with a header row.
+     * POST /api/projects/{projectId}/tasks/import (Content-Type: text/csv)
+     *
+     * @param projectId project ID
+     * @param body streamed request body
+     * @param authentication authenticated user
+     * @return import summary
+     */
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = "text/csv")
+    public ResponseEntity<TaskImportResponse> importTasksCsv(
+            @PathVariable Long projectId,
+            InputStream body,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("CSV task import for project {} from user ID: {}", projectId, userId);
+
+        return ResponseEntity.ok(taskImportService.importTasks(projectId, TaskImportService.Format.CSV, body, userId));
+    }
+
+    /**
+     * Import tasks from a newline-delimited JSON body.
+     * POST /api/projects/{projectId}/tasks/import (Content-Type: application/x-ndjson)
+     *
+     * @param projectId project ID
+     * @param body streamed request body
+     * @param authentication authenticated user
+     * @return import summary
+     */
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = "application/x-ndjson")
+    public ResponseEntity<TaskImportResponse> importTasksNdjson(
+            @PathVariable Long projectId,
+            InputStream body,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("NDJSON task import for project {} from user ID: {}", projectId, userId);
+
+        return ResponseEntity.ok(taskImportService.importTasks(projectId, TaskImportService.Format.NDJSON, body, userId));
+    }
+
     /**
      * Get all tasks for a project.
-     * GET /api/projects/{projectId}/tasks
+     * GET /api/projects/{projectId}/tasks?blocked=true|false
+     * With blocked=false only open tasks whose dependencies are all completed are returned.
      *
      * @param projectId project ID
+     * @param blocked optional filter on open dependencies
      * @param authentication authenticated user
      * @return list of tasks
      */
     @GetMapping("/projects/{projectId}/tasks")
     public ResponseEntity<List<TaskResponse>> getTasksByProject(
             @PathVariable Long projectId,
+            @RequestParam(required = false) Boolean blocked,
             Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
         log.info("Get tasks request for project {} from user ID: {}", projectId, userId);
 
-        List<TaskResponse> tasks = taskService.getTasksByProject(projectId, userId);
+        List<TaskResponse> tasks = taskService.getTasksByProject(projectId, blocked, userId);
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Filter a project's tasks and count them per facet value.
+     * GET /api/projects/{projectId}/tasks/facets?status=TODO&status=IN_PROGRESS&tag=3&tag=4&allTags=true
+     * Counts of a facet ignore the values picked in that facet, so every alternative keeps its count.
+     *
+     * @param projectId project ID
+     * @param request facet values to filter on
+     * @param authentication authenticated user
+     * @return matching task IDs and facet counts
+     */
+    @GetMapping("/projects/{projectId}/tasks/facets")
+    public ResponseEntity<TaskFacetsResponse> getTaskFacets(
+            @PathVariable Long projectId,
+            TaskFacetsRequest request,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.debug("Task facets request for project {} from user ID: {}", projectId, userId);
+
+        return ResponseEntity.ok(taskFacetService.getFacets(projectId, request, userId));
+    }
+
     /**
      * Update task completion status.
      * PATCH /api/tasks/{taskId}
@@ -174,18 +245,104 @@ public class TaskController {
     }
 
     /**
-     * Bulk complete tasks.
+     * Make a task depend on another task of the same project.
+     * PUT /api/tasks/{taskId}/dependencies/{dependsOnId}
+     *
+     * @param taskId task ID
+     * @param dependsOnId ID of the task that must be completed first
+     * @param authentication authenticated user
+     * @return no content; 400 if the dependency would create a cycle
+     */
+    @PutMapping("/tasks/{taskId}/dependencies/{dependsOnId}")
+    public ResponseEntity<Void> addDependency(
+            @PathVariable Long taskId,
+            @PathVariable Long dependsOnId,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Add dependency {} -> {} by user {}", taskId, dependsOnId, userId);
+
+        dependencyGraphService.addDependency(taskId, dependsOnId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Remove a dependency between two tasks.
+     * DELETE /api/tasks/{taskId}/dependencies/{dependsOnId}
+     *
+     * @param taskId task ID
+     * @param dependsOnId ID of the task it depends on
+     * @param authentication authenticated user
+     * @return no content
+     */
+    @DeleteMapping("/tasks/{taskId}/dependencies/{dependsOnId}")
+    public ResponseEntity<Void> removeDependency(
+            @PathVariable Long taskId,
+            @PathVariable Long dependsOnId,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Remove dependency {} -> {} by user {}", taskId, dependsOnId, userId);
+
+        dependencyGraphService.removeDependency(taskId, dependsOnId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get the transitive dependencies and dependents of a task.
+     * GET /api/tasks/{taskId}/dependencies/closure
+     *
+     * @param taskId task ID
+     * @param authentication authenticated user
+     * @return task IDs on both sides of the task
+     */
+    @GetMapping("/tasks/{taskId}/dependencies/closure")
+    public ResponseEntity<DependencyClosureResponse> getDependencyClosure(
+            @PathVariable Long taskId,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        return ResponseEntity.ok(dependencyGraphService.getClosure(taskId, userId));
+    }
+
+    /**
+     * Bulk complete tasks and report the outcome for each task.
      * POST /api/tasks/bulk/complete
      */
     @PostMapping("/tasks/bulk/complete")
-    public ResponseEntity<Void> bulkCompleteTasks(
+    public ResponseEntity<BulkCompleteResponse> bulkCompleteTasks(
             @Valid @RequestBody BulkTaskRequest request,
             Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
         log.info("Bulk complete {} tasks by user {}", request.getTaskIds().size(), userId);
 
-        taskService.bulkCompleteTasks(request.getTaskIds(), userId);
-        return ResponseEntity.ok().build();
+        BulkCompleteResponse response = taskService.bulkCompleteTasks(request.getTaskIds(), userId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Move and/or reassign many tasks and report the outcome for each task.
+     * PATCH /api/tasks/bulk
+     */
+    @PatchMapping("/tasks/bulk")
+    public ResponseEntity<BulkUpdateTasksResponse> bulkUpdateTasks(
+            @Valid @RequestBody BulkUpdateTasksRequest request,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Bulk update {} tasks by user {}", request.getTaskIds().size(), userId);
+
+        return ResponseEntity.ok(taskService.bulkUpdateTasks(request, userId));
+    }
+
+    /**
+     * Add tags to and remove tags from many tasks of one project.
+     * POST /api/tasks/bulk/tags
+     */
+    @PostMapping("/tasks/bulk/tags")
+    public ResponseEntity<BulkTagTasksResponse> bulkTagTasks(
+            @Valid @RequestBody BulkTagTasksRequest request,
+            Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        log.info("Bulk tag {} tasks by user {}", request.getTaskIds().size(), userId);
+
+        return ResponseEntity.ok(taskService.bulkTagTasks(request, userId));
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.projecthub.controller;
 
 import com.projecthub.dto.UserSearchDTO;
-import com.projecthub.repository.UserRepository;
+import com.projecthub.service.UserSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -11,7 +11,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for user search functionality.
@@ -22,31 +21,32 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UserController {
 
-    private final UserRepository userRepository;
+    private final UserSearchService userSearchService;
 
     /**
      * Search for users by email.
-     * GET /users/search?email={query}
+     * GET /users/search?email={query}&limit=10
      */
     @GetMapping("/search")
     public ResponseEntity<List<UserSearchDTO>> searchUsers(
-            @RequestParam(required = false) String email) {
+            @RequestParam(required = false) String email,
+            @RequestParam(defaultValue = "10") int limit) {
         
         log.info("Searching users with email containing: {}", email);
 
-        if (email == null || email.trim().isEmpty()) {
-            return ResponseEntity.ok(List.of());
-        }
+        return ResponseEntity.ok(userSearchService.search(email, limit));
+    }
 
-        List<UserSearchDTO> users = userRepository.findByEmailContainingIgnoreCase(email)
-                .stream()
-                .limit(10) // Limit results to avoid overwhelming UI
-                .map(user -> UserSearchDTO.builder()
-                        .id(user.getId())
-                        .email(user.getEmail())
-                        .build())
-                .collect(Collectors.toList());
+    /**
+     * Complete an email prefix, for type-ahead in the invite and assign dialogs.
+     * GET /users/autocomplete?prefix={prefix}&limit=10
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<UserSearchDTO>> autocompleteUsers(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Completing user emails starting with: {}", prefix);
 
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(userSearchService.autocomplete(prefix, limit));
     }
 }
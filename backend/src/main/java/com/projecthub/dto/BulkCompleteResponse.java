@@ -0,0 +1,49 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO reporting the outcome of a bulk complete for every requested task.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCompleteResponse {
+
+    /**
+     * Tasks that are now DONE (including tasks that already were).
+     */
+    @Builder.Default
+    private List<Long> completed = new ArrayList<>();
+
+    /**
+     * Tasks in projects the user is not a member of.
+     */
+    @Builder.Default
+    private List<Long> forbidden = new ArrayList<>();
+
+    /**
+     * Tasks left open because at least one dependency is not completed.
+     */
+    @Builder.Default
+    private List<Long> blocked = new ArrayList<>();
+
+    /**
+     * Requested IDs that do not exist.
+     */
+    @Builder.Default
+    private List<Long> notFound = new ArrayList<>();
+
+    /**
+     * Tasks whose last open dependency was completed by this request.
+     */
+    @Builder.Default
+    private List<Long> unblocked = new ArrayList<>();
+}
@@ -0,0 +1,28 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.ProjectRole;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for inviting many users to a project with the same role.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInviteRequest {
+
+    @NotEmpty(message = "User emails are required")
+    @Size(max = 1000, message = "At most 1000 users can be invited at once")
+    private List<@NotNull @Email(message = "Invalid email format") String> userEmails;
+
+    @NotNull(message = "Role is required")
+    private ProjectRole role;
+}
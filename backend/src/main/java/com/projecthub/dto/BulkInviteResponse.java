@@ -0,0 +1,47 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO reporting the outcome of a bulk invitation for every requested email, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkInviteResponse {
+
+    private int invited;
+
+    @Builder.Default
+    private List<Result> results = new ArrayList<>();
+
+    /**
+     * Why a user was or was not invited.
+     */
+    public enum Outcome {
+        INVITED,
+        NOT_FOUND,
+        ALREADY_MEMBER,
+        ALREADY_INVITED,    // A pending invitation already exists
+        DUPLICATE           // The email appears earlier in the request
+    }
+
+    /**
+     * Outcome for one email.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String email;
+        private Outcome outcome;
+        private Long invitationId;
+    }
+}
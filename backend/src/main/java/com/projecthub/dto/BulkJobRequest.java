@@ -0,0 +1,28 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.BulkJobType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for submitting an asynchronous bulk job.
+ * The job processes its tasks in chunks, but keeps the whole list in one row until it finishes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobRequest {
+
+    @NotNull(message = "Operation is required")
+    private BulkJobType operation;
+
+    @NotEmpty(message = "Task IDs are required")
+    @Size(max = 100_000, message = "At most 100000 tasks can be processed by one job")
+    private List<Long> taskIds;
+}
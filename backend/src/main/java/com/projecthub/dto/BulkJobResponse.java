@@ -0,0 +1,37 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.BulkJobStatus;
+import com.projecthub.model.BulkJobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the state of an asynchronous bulk job.
+ * {@code outcomes} maps an outcome (completed, deleted, forbidden, blocked, notFound, skipped)
+ * to task IDs and is only set once the job has ended.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkJobResponse {
+    private Long id;
+    private BulkJobType operation;
+    private BulkJobStatus status;
+    private int totalTasks;
+    private int processedTasks;
+    private int succeeded;
+    private int skipped;
+    private Double progressPercentage;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Map<String, List<Long>> outcomes;
+}
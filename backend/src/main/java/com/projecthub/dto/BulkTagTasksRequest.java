@@ -0,0 +1,29 @@
+package com.projecthub.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for adding tags to and/or removing tags from many tasks at once.
+ * All tasks and tags must belong to the same project, and a tag cannot be both added and removed.
+ * The change is applied in one transaction, so larger selections have to be split by the client.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTagTasksRequest {
+
+    @NotEmpty(message = "Task IDs are required")
+    @Size(max = 1000, message = "At most 1000 tasks can be tagged at once")
+    private List<Long> taskIds;
+
+    private List<Long> addTagIds = new ArrayList<>();
+
+    private List<Long> removeTagIds = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO reporting how many task-tag links a bulk tagging request changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTagTasksResponse {
+
+    /** Links created; tasks that already had a tag are not counted. */
+    private int added;
+
+    /** Links removed; tasks that did not have a tag are not counted. */
+    private int removed;
+}
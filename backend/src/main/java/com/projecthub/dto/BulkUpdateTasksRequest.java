@@ -0,0 +1,31 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for moving and/or reassigning many tasks at once.
+ * At least one change is required; {@code assigneeId} and {@code unassign} are mutually exclusive.
+ * The change is applied in one transaction, so larger selections have to be split by the client.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateTasksRequest {
+
+    @NotEmpty(message = "Task IDs are required")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<Long> taskIds;
+
+    private TaskStatus status;
+
+    private Long assigneeId;
+
+    private boolean unassign;
+}
@@ -0,0 +1,51 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO reporting the outcome of a bulk update for every requested task, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUpdateTasksResponse {
+
+    private int updated;
+
+    @Builder.Default
+    private List<Result> results = new ArrayList<>();
+
+    /**
+     * Tasks whose last open dependency was moved to DONE by this request.
+     */
+    @Builder.Default
+    private List<Long> unblocked = new ArrayList<>();
+
+    /**
+     * Why a task was or was not updated.
+     */
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        FORBIDDEN,          // Not a member, or not allowed to move this task
+        INVALID_ASSIGNEE    // The assignee is not a member of the task's project
+    }
+
+    /**
+     * Outcome for one task.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private Long taskId;
+        private Outcome outcome;
+    }
+}
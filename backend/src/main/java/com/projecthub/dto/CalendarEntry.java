@@ -0,0 +1,35 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one day a task appears on in the calendar.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarEntry {
+
+    /**
+     * The task, or null for an upcoming occurrence of a recurring task that has not been created yet.
+     */
+    private Long taskId;
+
+    /**
+     * The recurring task this entry belongs to, or null if it does not recur.
+     */
+    private Long seriesId;
+
+    private Long projectId;
+    private String title;
+    private LocalDate date;
+    private TaskStatus status;
+    private boolean completed;
+}
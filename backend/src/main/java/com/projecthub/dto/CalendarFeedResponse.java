@@ -0,0 +1,22 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with the private address of a user's ICS calendar feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarFeedResponse {
+
+    /**
+     * Path of the feed, relative to the server. Anyone with it can read the calendar,
+     * so it is only shown once; requesting a new one revokes the previous one.
+     */
+    private String feedUrl;
+}
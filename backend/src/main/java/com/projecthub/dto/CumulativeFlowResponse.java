@@ -0,0 +1,24 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * DTO for a cumulative flow diagram: number of tasks in each status at the end of each day.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowResponse {
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private Map<LocalDate, Map<TaskStatus, Long>> days;
+}
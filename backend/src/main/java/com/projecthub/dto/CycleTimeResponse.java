@@ -0,0 +1,39 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for project cycle and lead time analytics.
+ * Cycle time runs from the first move to IN_PROGRESS until DONE,
+ * lead time from task creation until DONE.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeResponse {
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private long completedTasks;
+    private Double averageCycleTimeHours;
+    private Double averageLeadTimeHours;
+    private List<DailyCycleTime> daily;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyCycleTime {
+        private LocalDate date;
+        private long completedTasks;
+        private Double averageCycleTimeHours;
+        private Double averageLeadTimeHours;
+    }
+}
@@ -0,0 +1,30 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the transitive dependencies of a task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DependencyClosureResponse {
+
+    private Long taskId;
+
+    /**
+     * Tasks that must be completed before this one, directly or through other tasks.
+     */
+    private List<Long> dependsOnIds;
+
+    /**
+     * Tasks waiting for this one, directly or through other tasks.
+     */
+    private List<Long> blockedByIds;
+}
@@ -0,0 +1,30 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one task row of a CSV or NDJSON import, before validation.
+ * {@code ref} is an optional key other rows can list in {@code dependsOn};
+ * a dependency written as {@code #<id>} points to an existing task of the project.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportTaskRow {
+    private String ref;
+    private String title;
+    private String description;
+    private String dueDate;
+    private String status;
+    private String priority;
+    private String recurrencePattern;
+    private String recurrenceEndDate;
+    private List<String> tags;
+    private List<String> dependsOn;
+}
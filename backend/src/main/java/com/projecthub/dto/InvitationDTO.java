@@ -28,4 +28,5 @@ public class InvitationDTO {
     private InvitationStatus status;
     private LocalDateTime invitedAt;
     private LocalDateTime respondedAt;
+    private LocalDateTime expiresAt;
 }
@@ -0,0 +1,24 @@
+package com.projecthub.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request DTO for generating a project invite code. Both limits are optional.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InviteCodeRequest {
+
+    @Future(message = "Expiry date must be in the future")
+    private LocalDateTime expiresAt;
+
+    @Positive(message = "Maximum uses must be positive")
+    private Integer maxUses;
+}
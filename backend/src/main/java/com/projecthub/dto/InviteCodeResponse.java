@@ -0,0 +1,21 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a generated invite code and its limits; null limits mean none.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InviteCodeResponse {
+    private String inviteCode;
+    private LocalDateTime expiresAt;
+    private Integer maxUses;
+}
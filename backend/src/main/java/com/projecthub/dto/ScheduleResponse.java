@@ -0,0 +1,63 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a project's schedule: critical path, finish dates and slack of every task.
+ * With a what-if delay, dates include the delay and {@code baselineEndDate} is the end date without it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleResponse {
+
+    private Long projectId;
+    private LocalDate projectEndDate;
+
+    /**
+     * Task IDs from the first task of the chain to the task that ends the project.
+     */
+    @Builder.Default
+    private List<Long> criticalPath = new ArrayList<>();
+
+    private Long delayedTaskId;
+    private Integer delayDays;
+    private LocalDate baselineEndDate;
+
+    @Builder.Default
+    private List<TaskSchedule> tasks = new ArrayList<>();
+
+    /**
+     * Schedule of one task. Dates are null for tasks with no due date on or before them.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TaskSchedule {
+        private Long taskId;
+        private LocalDate dueDate;
+        private LocalDate earliestFinish;
+        private LocalDate latestFinish;
+
+        /**
+         * Days the task can slip without moving the project end date.
+         */
+        private Long slackDays;
+
+        private boolean critical;
+
+        /**
+         * Days the what-if delay moves this task's finish; null without a what-if delay.
+         */
+        private Long shiftDays;
+    }
+}
@@ -0,0 +1,35 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task or project matching a search.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHit {
+
+    public enum Type {
+        TASK,
+        PROJECT
+    }
+
+    private Type type;
+
+    private Long id;
+
+    /** The task's project, or the project itself. */
+    private Long projectId;
+
+    private String title;
+
+    /** Excerpt of the description with the matching words in bold, empty if there is none. */
+    private String snippet;
+
+    private float rank;
+}
@@ -0,0 +1,26 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of search results, best ranked first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponse {
+
+    private List<SearchHit> results;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasMore;
+}
@@ -1,5 +1,6 @@
 package com.projecthub.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,4 +18,8 @@ public class TagDTO {
     private String name;
     private String color;
     private Long projectId;
+
+    /** Number of tasks using the tag; only set in the project's tag list. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer taskCount;
 }
@@ -0,0 +1,35 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter of the task facet query. Values of the same facet are alternatives;
+ * facets with values must all match.
+ */
+@Data
+@NoArgsConstructor
+public class TaskFacetsRequest {
+
+    private List<TaskStatus> status = new ArrayList<>();
+
+    private List<TaskPriority> priority = new ArrayList<>();
+
+    private List<Long> assignee = new ArrayList<>();
+
+    /** Whether tasks without an assignee match the assignee facet. */
+    private boolean unassigned;
+
+    private List<Long> tag = new ArrayList<>();
+
+    /** Whether tasks must have all of the tags rather than any of them. */
+    private boolean allTags;
+
+    /** Maximum number of task IDs returned. */
+    private int limit = 100;
+}
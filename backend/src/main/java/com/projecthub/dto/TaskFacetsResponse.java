@@ -0,0 +1,39 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tasks matching a facet filter and the number of tasks per facet value.
+ * The counts of a facet apply the filter on the other facets only.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskFacetsResponse {
+
+    private int total;
+
+    /** The matching tasks with the lowest IDs, up to the requested limit, in ascending order. */
+    private List<Long> taskIds;
+
+    private Map<TaskStatus, Integer> status;
+
+    private Map<TaskPriority, Integer> priority;
+
+    /** Counts by assignee's user ID. */
+    private Map<Long, Integer> assignee;
+
+    private int unassigned;
+
+    /** Counts by tag ID. */
+    private Map<Long, Integer> tag;
+}
@@ -0,0 +1,38 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the result of a task import.
+ * Only the first rejected rows are listed in {@code errors}; {@code rejected} counts all of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResponse {
+
+    private long imported;
+    private long rejected;
+    private long tagsCreated;
+
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * A rejected row and the reason it was rejected.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -30,12 +30,32 @@ public class TaskResponse {
     private TaskPriority priority;
     private RecurrencePattern recurrencePattern;
     private LocalDate recurrenceEndDate;
+
+    /**
+     * Recurring task this task is an occurrence of, if any.
+     */
+    private Long recurrenceParentId;
     private Long projectId;
     private Long assignedToId;
     private String assignedToEmail;
     private List<TagDTO> tags;
     private List<Long> dependsOnIds;
     private List<Long> blockedByIds;
+
+    /**
+     * Number of dependencies that are not completed yet.
+     */
+    private int openDependencies;
+
+    /**
+     * Whether at least one dependency is not completed yet.
+     */
+    private boolean blocked;
+
+    /**
+     * Tasks that became actionable because this update completed the task; only set by completion and status updates.
+     */
+    private List<Long> unblockedTaskIds;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,24 @@
+package com.projecthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * DTO for the number of tasks moved to DONE per day.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputResponse {
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private long totalCompleted;
+    private Map<LocalDate, Long> completedPerDay;
+}
@@ -2,6 +2,7 @@ package com.projecthub.exception;
 
 import com.projecthub.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -132,6 +133,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Handle TaskRejectedException (background executor saturated) - returns 503.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(
+            TaskRejectedException ex, WebRequest request) {
+        log.warn("Background work rejected: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Too many background jobs are queued, please retry later",
+                "Service Unavailable"
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     /**
      * Handle all other exceptions - returns 500.
      */
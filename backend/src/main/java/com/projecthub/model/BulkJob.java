@@ -0,0 +1,89 @@
+package com.projecthub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity tracking an asynchronous bulk operation on tasks.
+ * Counters are updated after every committed chunk so the job can be polled from any node.
+ */
+@Entity
+@Table(name = "bulk_jobs", indexes = {
+    @Index(name = "idx_bulk_jobs_user", columnList = "user_id"),
+    @Index(name = "idx_bulk_jobs_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bulk_job_seq")
+    @SequenceGenerator(name = "bulk_job_seq", sequenceName = "bulk_job_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BulkJobType operation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private BulkJobStatus status = BulkJobStatus.QUEUED;
+
+    /**
+     * Task IDs to process as JSON, so a job can be queued again after a restart.
+     */
+    @Column(name = "task_ids", columnDefinition = "TEXT")
+    private String taskIds;
+
+    @Column(name = "total_tasks", nullable = false)
+    private int totalTasks;
+
+    @Column(name = "processed_tasks", nullable = false)
+    private int processedTasks;
+
+    /**
+     * Tasks the operation was applied to.
+     */
+    @Column(nullable = false)
+    private int succeeded;
+
+    /**
+     * Tasks skipped because they were missing, forbidden or blocked.
+     */
+    @Column(nullable = false)
+    private int skipped;
+
+    /**
+     * Task IDs per outcome as JSON, written when the job ends.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String outcomes;
+
+    private String error;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * Last sign of life of the node running the job, refreshed after every chunk.
+     */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,11 @@
+package com.projecthub.model;
+
+/**
+ * Enum representing the lifecycle of an asynchronous bulk job.
+ */
+public enum BulkJobStatus {
+    QUEUED,         // Accepted, waiting for a worker
+    RUNNING,        // Chunks are being processed
+    SUCCEEDED,      // All chunks processed
+    FAILED          // Stopped on an error; chunks committed before it are kept
+}
@@ -0,0 +1,9 @@
+package com.projecthub.model;
+
+/**
+ * Enum representing the operation an asynchronous bulk job applies to its tasks.
+ */
+public enum BulkJobType {
+    COMPLETE,       // Mark tasks as DONE
+    DELETE          // Delete tasks
+}
@@ -22,5 +22,10 @@ public enum InvitationStatus {
     /**
      * Invitation cancelled by sender
      */
-    CANCELLED
+    CANCELLED,
+
+    /**
+     * Invitation not answered before it expired
+     */
+    EXPIRED
 }
@@ -0,0 +1,71 @@
+package com.projecthub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Daily flow counters per project and status, maintained incrementally
+ * from task status transitions.
+ * Rows for DONE also carry cycle and lead time sums for the tasks completed that day.
+ */
+@Entity
+@Table(name = "project_flow_rollups", indexes = {
+    @Index(name = "idx_project_flow_rollups_project_date", columnList = "project_id, bucket_date")
+})
+@IdClass(ProjectFlowRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectFlowRollup {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Column(name = "bucket_date")
+    private LocalDate bucketDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private TaskStatus status;
+
+    /**
+     * Number of tasks that entered this status on this day.
+     */
+    @Column(nullable = false)
+    private long entered;
+
+    /**
+     * Number of tasks that left this status (or were deleted while in it) on this day.
+     */
+    @Column(nullable = false)
+    private long exited;
+
+    @Column(name = "cycle_time_seconds", nullable = false)
+    private long cycleTimeSeconds;
+
+    @Column(name = "cycle_samples", nullable = false)
+    private long cycleSamples;
+
+    @Column(name = "lead_time_seconds", nullable = false)
+    private long leadTimeSeconds;
+
+    /**
+     * Composite key of a rollup row.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private LocalDate bucketDate;
+        private TaskStatus status;
+    }
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class ProjectInvitation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_invitation_seq")
+    @SequenceGenerator(name = "project_invitation_seq", sequenceName = "project_invitation_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,6 +51,16 @@ public class ProjectInvitation {
     @Column(name = "responded_at")
     private LocalDateTime respondedAt;
 
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt; // Null only for invitations sent before expiry existed, until swept
+
+    /**
+     * Whether a pending invitation can no longer be answered, even if not swept yet.
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
     @PrePersist
     protected void onCreate() {
         invitedAt = LocalDateTime.now();
@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class ProjectMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_member_seq")
+    @SequenceGenerator(name = "project_member_seq", sequenceName = "project_member_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,11 +1,63 @@
 package com.projecthub.model;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 /**
  * Enum representing recurrence patterns for tasks.
+ * Occurrence {@code n} of a series starting on {@code start} is {@code start} plus {@code n} periods,
+ * always computed from the start so monthly series keep their day of month (Jan 31, Feb 29, Mar 31, ...).
  */
 public enum RecurrencePattern {
-    NONE,       // No recurrence
-    DAILY,      // Repeats every day
-    WEEKLY,     // Repeats every week
-    MONTHLY     // Repeats every month
+    NONE(null),              // No recurrence
+    DAILY(ChronoUnit.DAYS),  // Repeats every day
+    WEEKLY(ChronoUnit.WEEKS), // Repeats every week
+    MONTHLY(ChronoUnit.MONTHS); // Repeats every month
+
+    private final ChronoUnit period;
+
+    RecurrencePattern(ChronoUnit period) {
+        this.period = period;
+    }
+
+    /**
+     * Date of the {@code index}-th occurrence of a series; occurrence 0 is the start itself.
+     *
+     * @throws IllegalStateException for {@link #NONE}
+     */
+    public LocalDate occurrence(LocalDate start, long index) {
+        if (period == null) {
+            throw new IllegalStateException("A task without recurrence has no occurrences");
+        }
+        return start.plus(index, period);
+    }
+
+    /**
+     * First occurrence after the start of a series, which is the first one to create as a separate task.
+     *
+     * @param start date of the recurring task itself, or null
+     * @param endDate last date an occurrence may fall on, or null for no end
+     * @return the date, or null if the task does not recur, has no start or the series ends before
+     */
+    public LocalDate firstRepeat(LocalDate start, LocalDate endDate) {
+        if (period == null || start == null) {
+            return null;
+        }
+        LocalDate first = occurrence(start, 1);
+        return endDate == null || !first.isAfter(endDate) ? first : null;
+    }
+
+    /**
+     * Index of the first occurrence on or after a date, computed in constant time.
+     */
+    public long firstIndexOnOrAfter(LocalDate start, LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long index = period.between(start, date);
+        while (occurrence(start, index).isBefore(date)) {
+            index++;
+        }
+        return index;
+    }
 }
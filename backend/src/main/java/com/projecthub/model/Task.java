@@ -2,6 +2,7 @@ package com.projecthub.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,7 +16,11 @@ import java.util.Set;
  * Each task belongs to one project.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_project", columnList = "project_id"),
+    @Index(name = "idx_tasks_project_due", columnList = "project_id, due_date"),
+    @Index(name = "idx_tasks_project_updated", columnList = "project_id, updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,7 +29,8 @@ import java.util.Set;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -40,6 +46,15 @@ public class Task {
     @Builder.Default
     private Boolean completed = false;
 
+    /**
+     * Number of dependencies that are not completed yet. Maintained with SQL on every dependency
+     * and completion change, so it is written on insert only and never from a loaded entity.
+     */
+    @Column(name = "open_dependencies", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int openDependencies = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -58,6 +73,20 @@ public class Task {
     @Column(name = "recurrence_end_date")
     private LocalDate recurrenceEndDate;
 
+    /**
+     * Date of the next occurrence of a recurring task that has not been created yet, or null once
+     * the series has ended. Advanced by the recurrence generator with SQL, so it is written on insert only.
+     */
+    @Column(name = "recurrence_next_date", updatable = false)
+    private LocalDate recurrenceNextDate;
+
+    /**
+     * For a task created as an occurrence of a recurring task, the ID of that task.
+     * Deliberately not a foreign key: deleting a series keeps the occurrences already created.
+     */
+    @Column(name = "recurrence_parent_id", updatable = false)
+    private Long recurrenceParentId;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "task_tags",
@@ -0,0 +1,46 @@
+package com.projecthub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of a task moving between Kanban columns.
+ * References are stored as plain ids so history survives task deletion.
+ */
+@Entity
+@Table(name = "task_status_transitions", indexes = {
+    @Index(name = "idx_task_status_transitions_task", columnList = "task_id, to_status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    /**
+     * Previous status, null when the task was created.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private TaskStatus toStatus;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private LocalDateTime transitionedAt;
+}
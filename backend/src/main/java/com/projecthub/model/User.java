@@ -23,7 +23,8 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -32,6 +33,9 @@ public class User {
     @Column(nullable = false)
     private String password; // BCrypt hashed password
 
+    @Column(name = "calendar_feed_token_hash", unique = true, length = 64)
+    private String calendarFeedTokenHash; // SHA-256 of the secret in the calendar feed URL
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Project> projects = new ArrayList<>();
@@ -0,0 +1,85 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.BulkJob;
+import com.projecthub.model.BulkJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for asynchronous bulk jobs.
+ * Updates run in their own short transactions, so progress is visible while the job is still running.
+ */
+@Repository
+public interface BulkJobRepository extends JpaRepository<BulkJob, Long> {
+
+    /**
+     * Find a job owned by a user.
+     */
+    Optional<BulkJob> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Find jobs in a state, oldest first.
+     */
+    List<BulkJob> findByStatusAndCreatedAtBeforeOrderByIdAsc(BulkJobStatus status, LocalDateTime createdBefore);
+
+    /**
+     * Mark a queued job as started. A job queued on several nodes is started by only one of them.
+     *
+     * @return 1 if this call started the job, 0 if it was no longer queued
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = com.projecthub.model.BulkJobStatus.RUNNING, j.startedAt = :now, " +
+           "j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.status = com.projecthub.model.BulkJobStatus.QUEUED")
+    int markRunning(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Record the progress after a committed chunk.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.processedTasks = :processed, j.succeeded = :succeeded, j.skipped = :skipped, " +
+           "j.heartbeatAt = :now " +
+           "WHERE j.id = :id")
+    void updateProgress(@Param("id") Long id,
+                        @Param("processed") int processed,
+                        @Param("succeeded") int succeeded,
+                        @Param("skipped") int skipped,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * Fail running jobs whose node has shown no sign of life since a cutoff.
+     *
+     * @return number of jobs failed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = com.projecthub.model.BulkJobStatus.FAILED, j.error = :error, " +
+           "j.finishedAt = :now " +
+           "WHERE j.status = com.projecthub.model.BulkJobStatus.RUNNING AND j.heartbeatAt < :cutoff")
+    int failStale(@Param("cutoff") LocalDateTime cutoff,
+                  @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * Record the end of a job, unless it has already ended.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = :status, j.outcomes = :outcomes, j.error = :error, j.finishedAt = :now " +
+           "WHERE j.id = :id AND j.finishedAt IS NULL")
+    void finish(@Param("id") Long id,
+                @Param("status") BulkJobStatus status,
+                @Param("outcomes") String outcomes,
+                @Param("error") String error,
+                @Param("now") LocalDateTime now);
+}
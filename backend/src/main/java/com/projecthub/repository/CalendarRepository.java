@@ -0,0 +1,147 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.RecurrencePattern;
+import com.projecthub.model.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC reads behind the calendar and its ICS feed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalendarRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String SELECT_TASKS = """
+            SELECT t.id, t.project_id, t.title, t.due_date, t.status, t.completed, t.recurrence_pattern,
+                   t.recurrence_end_date, t.recurrence_next_date, t.recurrence_parent_id, t.updated_at
+            FROM tasks t
+            """;
+
+    private static final RowMapper<CalendarTask> CALENDAR_TASK = (rs, rowNum) -> {
+        Date dueDate = rs.getDate("due_date");
+        Date endDate = rs.getDate("recurrence_end_date");
+        Date nextDate = rs.getDate("recurrence_next_date");
+        return new CalendarTask(
+                rs.getLong("id"),
+                rs.getLong("project_id"),
+                rs.getString("title"),
+                dueDate != null ? dueDate.toLocalDate() : null,
+                TaskStatus.valueOf(rs.getString("status")),
+                rs.getBoolean("completed"),
+                RecurrencePattern.valueOf(rs.getString("recurrence_pattern")),
+                endDate != null ? endDate.toLocalDate() : null,
+                nextDate != null ? nextDate.toLocalDate() : null,
+                rs.getObject("recurrence_parent_id", Long.class),
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A task that shows up in a date range, either itself or through its upcoming occurrences.
+     *
+     * @param nextOccurrence first occurrence of a recurring task that does not exist as a task yet, or null
+     * @param seriesId the recurring task this task is an occurrence of, or null
+     */
+    public record CalendarTask(long id, long projectId, String title, LocalDate dueDate, TaskStatus status,
+                               boolean completed, RecurrencePattern recurrencePattern, LocalDate recurrenceEndDate,
+                               LocalDate nextOccurrence, Long seriesId, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * Receives calendar rows one by one.
+     */
+    @FunctionalInterface
+    public interface CalendarTaskHandler {
+        void task(CalendarTask task);
+    }
+
+    /**
+     * Cheap summary of everything a user's calendar is built from: any task created, changed
+     * or removed in one of the user's projects, or a project joined or left, changes it.
+     *
+     * @param tasks number of tasks in the user's projects
+     * @param lastModified latest task change, or null if there are no tasks
+     */
+    public record Version(long tasks, LocalDateTime lastModified) {
+    }
+
+    public Version findVersion(Long userId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*), MAX(t.updated_at) FROM project_members pm
+                JOIN tasks t ON t.project_id = pm.project_id
+                WHERE pm.user_id = ?
+                """,
+                (rs, rowNum) -> {
+                    Timestamp lastModified = rs.getTimestamp(2);
+                    return new Version(rs.getLong(1), lastModified != null ? lastModified.toLocalDateTime() : null);
+                },
+                userId);
+    }
+
+    /**
+     * Stream the tasks of a user's projects that are due in a range, and the recurring tasks with
+     * occurrences still to come in it. Rows are read in chunks of {@value #CHUNK_SIZE}, each its own
+     * short query, and handed over between queries: memory does not grow with the result, and no
+     * connection or transaction is held while the handler writes to a slow client. A task changed
+     * between two chunks may show up as it was before or after the change, or, if its due date moved
+     * across the chunk boundary, not at all or twice.
+     */
+    public void forEachTask(Long userId, LocalDate from, LocalDate to, CalendarTaskHandler handler) {
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                "SELECT project_id FROM project_members WHERE user_id = ?", Long.class, userId);
+        for (Long projectId : projectIds) {
+            LocalDate afterDate = from.minusDays(1);
+            long afterId = 0;
+            List<CalendarTask> chunk;
+            do {
+                chunk = jdbcTemplate.query(SELECT_TASKS + """
+                        WHERE t.project_id = ? AND t.due_date BETWEEN ? AND ? AND (t.due_date, t.id) > (?, ?)
+                        ORDER BY t.due_date, t.id
+                        LIMIT ?
+                        """, CALENDAR_TASK, projectId, Date.valueOf(from), Date.valueOf(to),
+                        Date.valueOf(afterDate), afterId, CHUNK_SIZE);
+                chunk.forEach(handler::task);
+                if (!chunk.isEmpty()) {
+                    CalendarTask last = chunk.get(chunk.size() - 1);
+                    afterDate = last.dueDate();
+                    afterId = last.id();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+        }
+
+        // Recurring tasks due outside the range that still have occurrences to come in it
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        SqlArrayValue ids = new SqlArrayValue("bigint", projectIds.toArray());
+        long afterId = 0;
+        List<CalendarTask> chunk;
+        do {
+            chunk = jdbcTemplate.query(SELECT_TASKS + """
+                    WHERE t.project_id = ANY(?) AND t.recurrence_next_date <= ?
+                      AND (t.recurrence_end_date IS NULL OR t.recurrence_end_date >= ?)
+                      AND (t.due_date IS NULL OR t.due_date NOT BETWEEN ? AND ?) AND t.id > ?
+                    ORDER BY t.id
+                    LIMIT ?
+                    """, CALENDAR_TASK, ids, Date.valueOf(to), Date.valueOf(from),
+                    Date.valueOf(from), Date.valueOf(to), afterId, CHUNK_SIZE);
+            chunk.forEach(handler::task);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,94 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.InvitationStatus;
+import com.projecthub.model.ProjectRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Plain JDBC reads and writes behind inviting many users at once.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InvitationBulkRepository {
+
+    private static final String INVITATION_SEQUENCE = "project_invitation_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    /**
+     * A registered user and where they stand with a project.
+     *
+     * @param member whether the user already belongs to the project
+     * @param pending whether the user already has a pending invitation to it that has not expired
+     */
+    public record InviteTarget(long userId, String email, boolean member, boolean pending) {
+    }
+
+    /**
+     * Users with the given emails and their membership and pending invitation in a project,
+     * found in a single query.
+     *
+     * @return target by email; unknown emails are left out
+     */
+    public Map<String, InviteTarget> findInviteTargets(Long projectId, Collection<String> emails) {
+        Map<String, InviteTarget> targets = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT u.id, u.email,
+                               EXISTS (SELECT 1 FROM project_members pm
+                                       WHERE pm.project_id = ? AND pm.user_id = u.id) AS member,
+                               EXISTS (SELECT 1 FROM project_invitations pi
+                                       WHERE pi.project_id = ? AND pi.invitee_id = u.id AND pi.status = ?
+                                         AND (pi.expires_at IS NULL OR pi.expires_at > now())) AS pending
+                        FROM users u
+                        WHERE u.email = ANY(?)
+                        """,
+                rs -> {
+                    InviteTarget target = new InviteTarget(rs.getLong("id"), rs.getString("email"),
+                            rs.getBoolean("member"), rs.getBoolean("pending"));
+                    targets.put(target.email(), target);
+                },
+                projectId, projectId, InvitationStatus.PENDING.name(), new SqlArrayValue("text", emails.toArray()));
+        return targets;
+    }
+
+    /**
+     * Insert pending invitations to a project in one batch.
+     *
+     * @return the new invitation IDs, in the order of {@code inviteeIds}
+     */
+    public List<Long> insertPending(Long projectId, Long inviterId, ProjectRole role,
+                                    List<Long> inviteeIds, LocalDateTime now, LocalDateTime expiresAt) {
+        List<Long> ids = sequenceIdAllocator.allocate(INVITATION_SEQUENCE, inviteeIds.size())
+                .subList(0, inviteeIds.size());
+        Timestamp invitedAt = Timestamp.valueOf(now);
+        Timestamp expiry = Timestamp.valueOf(expiresAt);
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO project_invitations (id, project_id, invitee_id, inviter_id, role, status,
+                                                         invited_at, expires_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                IntStream.range(0, inviteeIds.size()).boxed().toList(), inviteeIds.size(), (ps, i) -> {
+                    ps.setLong(1, ids.get(i));
+                    ps.setLong(2, projectId);
+                    ps.setLong(3, inviteeIds.get(i));
+                    ps.setLong(4, inviterId);
+                    ps.setString(5, role.name());
+                    ps.setString(6, InvitationStatus.PENDING.name());
+                    ps.setTimestamp(7, invitedAt);
+                    ps.setTimestamp(8, expiry);
+                });
+        return ids;
+    }
+}
@@ -0,0 +1,68 @@
+package com.projecthub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC batches that expire and purge invitations.
+ * Each batch locks its rows with SKIP LOCKED, so several nodes can sweep at once, and never
+ * touches more than {@code limit} rows, so it holds its locks briefly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InvitationSweepRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Give pending invitations sent before expiry existed an expiry date.
+     *
+     * @return number of invitations updated
+     */
+    public int setMissingExpiry(Duration ttl, int limit) {
+        return jdbcTemplate.update("""
+                UPDATE project_invitations SET expires_at = invited_at + make_interval(secs => ?)
+                WHERE id IN (SELECT id FROM project_invitations
+                             WHERE status = 'PENDING' AND expires_at IS NULL
+                             LIMIT ? FOR UPDATE SKIP LOCKED)
+                """, ttl.toSeconds(), limit);
+    }
+
+    /**
+     * Mark pending invitations past their expiry date as expired.
+     *
+     * @return invitee of each invitation expired
+     */
+    public List<Long> expireDue(LocalDateTime now, int limit) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.queryForList("""
+                UPDATE project_invitations SET status = 'EXPIRED', responded_at = ?
+                WHERE id IN (SELECT id FROM project_invitations
+                             WHERE status = 'PENDING' AND expires_at <= ?
+                             ORDER BY expires_at
+                             LIMIT ? FOR UPDATE SKIP LOCKED)
+                RETURNING invitee_id
+                """, Long.class, timestamp, timestamp, limit);
+    }
+
+    /**
+     * Delete declined, cancelled and expired invitations answered before a cutoff.
+     * Accepted invitations are kept as the record of who brought a member in.
+     *
+     * @return number of invitations deleted
+     */
+    public int purgeClosedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM project_invitations
+                WHERE id IN (SELECT id FROM project_invitations
+                             WHERE status IN ('DECLINED', 'CANCELLED', 'EXPIRED') AND responded_at < ?
+                             LIMIT ? FOR UPDATE SKIP LOCKED)
+                """, Timestamp.valueOf(cutoff), limit);
+    }
+}
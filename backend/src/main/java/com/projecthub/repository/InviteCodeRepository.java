@@ -0,0 +1,153 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.ProjectRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC reads and writes behind joining a project by invite code.
+ * Many users may join with the same code at once, so every call is a single statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InviteCodeRepository {
+
+    private static final String MEMBER_SEQUENCE = "project_member_seq";
+
+    private static final RowMapper<Membership> MEMBERSHIP = (rs, rowNum) -> new Membership(
+            rs.getLong("id"),
+            rs.getString("email"),
+            ProjectRole.valueOf(rs.getString("role")),
+            rs.getTimestamp("joined_at").toLocalDateTime(),
+            rs.getBoolean("inserted"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    /**
+     * A user's membership in a project.
+     *
+     * @param inserted whether it was just created, rather than already there
+     */
+    public record Membership(long id, String userEmail, ProjectRole role, LocalDateTime joinedAt, boolean inserted) {
+    }
+
+    /**
+     * Project that currently has an invite code.
+     */
+    public Optional<Long> findProjectId(String inviteCode) {
+        return jdbcTemplate.queryForList("SELECT id FROM projects WHERE invite_code = ?", Long.class, inviteCode)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Limits of a project's current invite code.
+     *
+     * @param expiresAt when the code stops working, or null if never
+     * @param maxUses how many users may join with it, or null if unlimited
+     * @param uses how many users have joined with it
+     */
+    public record CodeState(String inviteCode, LocalDateTime expiresAt, Integer maxUses, int uses) {
+    }
+
+    /**
+     * Next value to turn into an invite code.
+     */
+    public long nextCodeValue() {
+        return jdbcTemplate.queryForObject("SELECT nextval('invite_code_seq')", Long.class);
+    }
+
+    /**
+     * Give a project a new invite code with optional limits, replacing the previous one.
+     * Fails only if a code issued before codes came from the sequence is equal to it.
+     *
+     * @return whether the code was assigned
+     */
+    public boolean assignCode(Long projectId, String inviteCode, LocalDateTime expiresAt, Integer maxUses,
+                              LocalDateTime now) {
+        return jdbcTemplate.update("""
+                UPDATE projects SET invite_code = ?, invite_code_expires_at = ?, invite_code_max_uses = ?,
+                                    invite_code_uses = 0, updated_at = ?
+                WHERE id = ? AND NOT EXISTS (SELECT 1 FROM projects WHERE invite_code = ?)
+                """, inviteCode, expiresAt != null ? Timestamp.valueOf(expiresAt) : null, maxUses,
+                Timestamp.valueOf(now), projectId, inviteCode) > 0;
+    }
+
+    /**
+     * Current invite code of a project and its limits.
+     */
+    public Optional<CodeState> findCodeState(Long projectId) {
+        return jdbcTemplate.query("""
+                SELECT invite_code, invite_code_expires_at, invite_code_max_uses, invite_code_uses
+                FROM projects WHERE id = ?
+                """, (rs, rowNum) -> {
+                    Timestamp expiresAt = rs.getTimestamp("invite_code_expires_at");
+                    return new CodeState(rs.getString("invite_code"),
+                            expiresAt != null ? expiresAt.toLocalDateTime() : null,
+                            rs.getObject("invite_code_max_uses", Integer.class),
+                            rs.getInt("invite_code_uses"));
+                }, projectId).stream().findFirst();
+    }
+
+    /**
+     * Add a user to a project with its invite code, and return the membership; if the user already
+     * belongs to the project, return that membership instead. The code must still be the project's,
+     * not expired and, if limited, not used up; a limited code counts a use in the same statement, so
+     * concurrent joins can never exceed it; only a user racing their own join may count one use too
+     * many. Joins with a limited code therefore take turns on the project row, while unlimited codes
+     * take no lock on it.
+     *
+     * @return the membership, or empty if the code was refused
+     */
+    public Optional<Membership> join(Long projectId, String inviteCode, Long userId, ProjectRole role,
+                                     LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Membership> rows = jdbcTemplate.query("""
+                WITH code AS (
+                    SELECT id, invite_code_max_uses IS NOT NULL AS limited FROM projects
+                    WHERE id = ? AND invite_code = ?
+                      AND (invite_code_expires_at IS NULL OR invite_code_expires_at > ?)
+                      AND NOT EXISTS (SELECT 1 FROM project_members WHERE project_id = ? AND user_id = ?)
+                ), claimed AS (
+                    UPDATE projects p SET invite_code_uses = p.invite_code_uses + 1
+                    FROM code
+                    WHERE p.id = code.id AND code.limited AND p.invite_code = ?
+                      AND p.invite_code_uses < p.invite_code_max_uses
+                    RETURNING p.id
+                ), inserted AS (
+                    INSERT INTO project_members (id, project_id, user_id, role, joined_at)
+                    SELECT ?, id, ?, ?, ? FROM code
+                    WHERE NOT limited OR EXISTS (SELECT 1 FROM claimed)
+                    ON CONFLICT (project_id, user_id) DO NOTHING
+                    RETURNING id, role, joined_at
+                )
+                SELECT m.id, u.email, m.role, m.joined_at, m.inserted
+                FROM (SELECT id, role, joined_at, true AS inserted FROM inserted
+                      UNION ALL
+                      SELECT id, role, joined_at, false FROM project_members
+                      WHERE project_id = ? AND user_id = ? AND NOT EXISTS (SELECT 1 FROM inserted)) m
+                JOIN users u ON u.id = ?
+                """, MEMBERSHIP,
+                projectId, inviteCode, timestamp, projectId, userId,
+                inviteCode,
+                sequenceIdAllocator.next(MEMBER_SEQUENCE), userId, role.name(), timestamp,
+                projectId, userId, userId);
+        if (!rows.isEmpty()) {
+            return Optional.of(rows.get(0));
+        }
+        // Refused, or the user's membership was committed after this statement's snapshot was taken
+        return jdbcTemplate.query("""
+                SELECT m.id, u.email, m.role, m.joined_at, false AS inserted
+                FROM project_members m JOIN users u ON u.id = m.user_id
+                WHERE m.project_id = ? AND m.user_id = ?
+                """, MEMBERSHIP, projectId, userId).stream().findFirst();
+    }
+}
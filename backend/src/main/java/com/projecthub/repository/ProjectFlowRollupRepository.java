@@ -0,0 +1,67 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.ProjectFlowRollup;
+import com.projecthub.model.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for per-project daily flow rollups.
+ */
+@Repository
+public interface ProjectFlowRollupRepository extends JpaRepository<ProjectFlowRollup, ProjectFlowRollup.Key> {
+
+    /**
+     * Find all rollup rows of a project inside a date range (inclusive).
+     */
+    List<ProjectFlowRollup> findByProjectIdAndBucketDateBetweenOrderByBucketDate(
+            Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Net number of tasks in each status at the start of the given day.
+     */
+    @Query("SELECT r.status AS status, SUM(r.entered - r.exited) AS count " +
+           "FROM ProjectFlowRollup r " +
+           "WHERE r.projectId = :projectId AND r.bucketDate < :before " +
+           "GROUP BY r.status")
+    List<StatusCount> sumNetCountsBefore(@Param("projectId") Long projectId, @Param("before") LocalDate before);
+
+    /**
+     * Add deltas to a rollup row, creating it if needed.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_flow_rollups (project_id, bucket_date, status, entered, exited,
+                                              cycle_time_seconds, cycle_samples, lead_time_seconds)
+            VALUES (:projectId, :bucketDate, :status, :entered, :exited,
+                    :cycleTimeSeconds, :cycleSamples, :leadTimeSeconds)
+            ON CONFLICT (project_id, bucket_date, status) DO UPDATE SET
+                entered = project_flow_rollups.entered + EXCLUDED.entered,
+                exited = project_flow_rollups.exited + EXCLUDED.exited,
+                cycle_time_seconds = project_flow_rollups.cycle_time_seconds + EXCLUDED.cycle_time_seconds,
+                cycle_samples = project_flow_rollups.cycle_samples + EXCLUDED.cycle_samples,
+                lead_time_seconds = project_flow_rollups.lead_time_seconds + EXCLUDED.lead_time_seconds
+            """, nativeQuery = true)
+    void upsert(@Param("projectId") Long projectId,
+                @Param("bucketDate") LocalDate bucketDate,
+                @Param("status") String status,
+                @Param("entered") long entered,
+                @Param("exited") long exited,
+                @Param("cycleTimeSeconds") long cycleTimeSeconds,
+                @Param("cycleSamples") long cycleSamples,
+                @Param("leadTimeSeconds") long leadTimeSeconds);
+
+    /**
+     * Projection of a task count per status.
+     */
+    interface StatusCount {
+        TaskStatus getStatus();
+        Long getCount();
+    }
+}
@@ -1,10 +1,15 @@
 package com.projecthub.repository;
 
+import com.projecthub.dto.InvitationDTO;
 import com.projecthub.model.InvitationStatus;
 import com.projecthub.model.ProjectInvitation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +19,10 @@ import java.util.Optional;
 @Repository
 public interface ProjectInvitationRepository extends JpaRepository<ProjectInvitation, Long> {
 
+    String SELECT_DTO = "SELECT new com.projecthub.dto.InvitationDTO(i.id, p.id, p.title, e.id, e.email, " +
+                        "r.id, r.email, i.role, i.status, i.invitedAt, i.respondedAt, i.expiresAt) " +
+                        "FROM ProjectInvitation i JOIN i.project p JOIN i.invitee e JOIN i.inviter r ";
+
     /**
      * Find all invitations for a project.
      */
@@ -41,6 +50,41 @@ public interface ProjectInvitationRepository extends JpaRepository<ProjectInvita
     boolean existsByProjectIdAndInviteeIdAndStatus(
             Long projectId, Long inviteeId, InvitationStatus status);
 
+    /**
+     * Pending invitations of a user that have not expired, newest first, as DTOs in one statement.
+     */
+    @Query(SELECT_DTO +
+           "WHERE e.id = :inviteeId AND i.status = com.projecthub.model.InvitationStatus.PENDING " +
+           "AND (i.expiresAt IS NULL OR i.expiresAt > :now) " +
+           "ORDER BY i.invitedAt DESC, i.id DESC")
+    List<InvitationDTO> findPendingDTOs(@Param("inviteeId") Long inviteeId,
+                                        @Param("now") LocalDateTime now,
+                                        Pageable pageable);
+
+    /**
+     * All invitations of a project, newest first, as DTOs in one statement.
+     */
+    @Query(SELECT_DTO + "WHERE p.id = :projectId ORDER BY i.invitedAt DESC, i.id DESC")
+    List<InvitationDTO> findDTOsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Count pending invitations of a user that have not expired.
+     */
+    @Query("SELECT COUNT(i) FROM ProjectInvitation i WHERE i.invitee.id = :inviteeId " +
+           "AND i.status = com.projecthub.model.InvitationStatus.PENDING " +
+           "AND (i.expiresAt IS NULL OR i.expiresAt > :now)")
+    long countPending(@Param("inviteeId") Long inviteeId, @Param("now") LocalDateTime now);
+
+    /**
+     * Check if there's a pending invitation that has not expired.
+     */
+    @Query("SELECT COUNT(i) > 0 FROM ProjectInvitation i WHERE i.project.id = :projectId " +
+           "AND i.invitee.id = :inviteeId AND i.status = com.projecthub.model.InvitationStatus.PENDING " +
+           "AND (i.expiresAt IS NULL OR i.expiresAt > :now)")
+    boolean existsPending(@Param("projectId") Long projectId,
+                          @Param("inviteeId") Long inviteeId,
+                          @Param("now") LocalDateTime now);
+
     /**
      * Delete all invitations for a project.
      */
@@ -0,0 +1,71 @@
+package com.projecthub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Plain JDBC statements of the reminder scheduler.
+ * Due tasks are read from the partial index on the due dates of open tasks; the single row of
+ * {@code reminder_checkpoint} holds the last day whose reminders were sent.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReminderRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * An open task a reminder is sent for.
+     *
+     * @param assignedTo assignee's user ID, or null
+     */
+    public record DueTask(long id, long projectId, String title, LocalDate dueDate, Long assignedTo) {
+    }
+
+    /**
+     * Find the last day whose reminders were sent, recording {@code initial} if reminders never ran.
+     */
+    public LocalDate findFiredThrough(LocalDate initial) {
+        jdbcTemplate.update("INSERT INTO reminder_checkpoint (id, fired_through) VALUES (1, ?) ON CONFLICT (id) DO NOTHING",
+                Date.valueOf(initial));
+        return jdbcTemplate.queryForObject("SELECT fired_through FROM reminder_checkpoint WHERE id = 1", LocalDate.class);
+    }
+
+    /**
+     * Record that reminders were sent through {@code day}, unless another node already did.
+     * Must run inside a transaction, which holds the checkpoint until reminders are published.
+     *
+     * @return the previous last day sent, or null if reminders through {@code day} were already sent
+     */
+    public LocalDate claimThrough(LocalDate day) {
+        LocalDate firedThrough = jdbcTemplate.queryForObject(
+                "SELECT fired_through FROM reminder_checkpoint WHERE id = 1 FOR UPDATE", LocalDate.class);
+        if (!firedThrough.isBefore(day)) {
+            return null;
+        }
+        jdbcTemplate.update("UPDATE reminder_checkpoint SET fired_through = ? WHERE id = 1", Date.valueOf(day));
+        return firedThrough;
+    }
+
+    /**
+     * Open tasks due in a range, in one index range scan.
+     */
+    public List<DueTask> findDueTasks(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+                SELECT id, project_id, title, due_date, assigned_to FROM tasks
+                WHERE completed = false AND due_date BETWEEN ? AND ?
+                """,
+                (rs, rowNum) -> new DueTask(
+                        rs.getLong("id"),
+                        rs.getLong("project_id"),
+                        rs.getString("title"),
+                        rs.getObject("due_date", LocalDate.class),
+                        rs.getObject("assigned_to", Long.class)),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+}
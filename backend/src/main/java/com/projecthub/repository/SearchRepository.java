@@ -0,0 +1,121 @@
+package com.projecthub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC full-text search over the search vectors of tasks and projects.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    /**
+     * Matches are taken from the GIN indexes and capped before ranking, so a very common term costs
+     * one index scan and a bounded sort instead of ranking every match. Tasks matching in their title
+     * are taken before the others, each with its own cap, so a term common in descriptions cannot
+     * crowd the best matches out of the ranked ones. Every row of the page tells whether a cap was
+     * reached; an empty page still returns one row with that flag. Snippets are only built for the
+     * rows of the requested page.
+     */
+    private static final String SEARCH = """
+            WITH task_matches AS (
+                (SELECT t.id, t.project_id, ts_rank(t.search_vector, q) AS rank, true AS in_title
+                 FROM tasks t, websearch_to_tsquery('english', ?) q
+                 WHERE t.project_id = ANY(?) AND t.search_vector @@ q AND ts_filter(t.search_vector, '{a}') @@ q
+                 LIMIT ?)
+                UNION ALL
+                (SELECT t.id, t.project_id, ts_rank(t.search_vector, q), false
+                 FROM tasks t, websearch_to_tsquery('english', ?) q
+                 WHERE t.project_id = ANY(?) AND t.search_vector @@ q
+                   AND NOT ts_filter(t.search_vector, '{a}') @@ q
+                 LIMIT ?)
+            ), project_matches AS (
+                SELECT p.id, ts_rank(p.search_vector, q) AS rank
+                FROM projects p, websearch_to_tsquery('english', ?) q
+                WHERE p.id = ANY(?) AND p.search_vector @@ q
+                LIMIT ?
+            ), capped AS (
+                SELECT count(*) FILTER (WHERE in_title) >= ? OR count(*) FILTER (WHERE NOT in_title) >= ?
+                       OR (SELECT count(*) FROM project_matches) >= ? AS capped
+                FROM task_matches
+            ), page AS (
+                SELECT * FROM (SELECT 'TASK' AS type, id, project_id, rank FROM task_matches
+                               UNION ALL
+                               SELECT 'PROJECT', id, id, rank FROM project_matches) hits
+                ORDER BY rank DESC, type, id DESC LIMIT ? OFFSET ?
+            )
+            SELECT capped.capped, page.type, page.id, page.project_id, page.rank,
+                   coalesce(t.title, p.title) AS title,
+                   ts_headline('english', coalesce(t.description, p.description, ''), q,
+                               'MaxFragments=1, MaxWords=25, MinWords=10') AS snippet
+            FROM capped
+            CROSS JOIN websearch_to_tsquery('english', ?) q
+            LEFT JOIN page ON true
+            LEFT JOIN tasks t ON page.type = 'TASK' AND t.id = page.id
+            LEFT JOIN projects p ON page.type = 'PROJECT' AND p.id = page.id
+            ORDER BY page.rank DESC, page.type, page.id DESC
+            """;
+
+
+    private static final RowMapper<Hit> HIT_MAPPER = (rs, rowNum) -> new Hit(
+            rs.getString("type"),
+            rs.getLong("id"),
+            rs.getLong("project_id"),
+            rs.getString("title"),
+            rs.getString("snippet"),
+            rs.getFloat("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Hit(String type, long id, long projectId, String title, String snippet, float rank) {
+    }
+
+    /**
+     * Hits of a page, and whether more matches were found than were ranked.
+     */
+    public record Page(List<Hit> hits, boolean capped) {
+    }
+
+    /**
+     * IDs of the projects a user owns or is a member of.
+     */
+    public List<Long> findAccessibleProjectIds(Long userId) {
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM projects WHERE user_id = ?
+                UNION
+                SELECT project_id FROM project_members WHERE user_id = ?
+                """, Long.class, userId, userId);
+    }
+
+    /**
+     * Tasks and projects of some projects matching a web search style query, best ranked first.
+     *
+     * @param maxRanked most matches of each kind that are ranked: title matches of tasks, other
+     *                  matches of tasks, and projects
+     */
+    public Page search(String query, Collection<Long> projectIds, long maxRanked, int limit, long offset) {
+        SqlArrayValue ids = new SqlArrayValue("bigint", projectIds.toArray());
+        return jdbcTemplate.query(SEARCH, rs -> {
+            List<Hit> hits = new ArrayList<>();
+            boolean capped = false;
+            while (rs.next()) {
+                capped = rs.getBoolean("capped");
+                if (rs.getString("type") != null) {
+                    hits.add(HIT_MAPPER.mapRow(rs, hits.size()));
+                }
+            }
+            return new Page(hits, capped);
+        }, query, ids, maxRanked, query, ids, maxRanked, query, ids, maxRanked,
+                maxRanked, maxRanked, maxRanked,
+                limit, offset,
+                query);
+    }
+}
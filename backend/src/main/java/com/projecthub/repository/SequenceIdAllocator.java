@@ -0,0 +1,69 @@
+package com.projecthub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reserves entity IDs for rows written with plain JDBC.
+ * Entity sequences increment by {@link #ALLOCATION_SIZE} and Hibernate's pooled optimizer treats each
+ * value {@code v} as the block {@code (v - ALLOCATION_SIZE, v]}; the same blocks are handed out here,
+ * so JDBC and Hibernate inserts never collide.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceIdAllocator {
+
+    /**
+     * Increment of every entity sequence; must match {@code @SequenceGenerator(allocationSize)}.
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** IDs left from the last block {@link #next} reserved, per sequence. Guarded by itself. */
+    private final Map<String, Deque<Long>> pooled = new HashMap<>();
+
+    /**
+     * Reserve at least {@code count} IDs from a sequence, in ascending order.
+     *
+     * @param sequence sequence name
+     * @param count number of IDs needed
+     * @return the reserved IDs; whole blocks are returned, so there may be more than requested
+     */
+    public List<Long> allocate(String sequence, int count) {
+        int blocks = (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+        List<Long> highs = jdbcTemplate.queryForList(
+                "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)", Long.class, sequence, blocks);
+
+        List<Long> ids = new ArrayList<>(blocks * ALLOCATION_SIZE);
+        for (Long high : highs) {
+            // A fresh sequence starts at 1, whose block only holds 1 itself
+            for (long id = Math.max(1, high - ALLOCATION_SIZE + 1); id <= high; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Reserve one ID for single-row inserts. The rest of its block is kept in memory, so only one call
+     * in {@link #ALLOCATION_SIZE} reaches the database; IDs still pooled at shutdown are skipped.
+     */
+    public long next(String sequence) {
+        synchronized (pooled) {
+            Deque<Long> ids = pooled.computeIfAbsent(sequence, name -> new ArrayDeque<>());
+            if (ids.isEmpty()) {
+                ids.addAll(allocate(sequence, 1));
+            }
+            return ids.removeFirst();
+        }
+    }
+}
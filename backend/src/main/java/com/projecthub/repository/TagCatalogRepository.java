@@ -0,0 +1,52 @@
+package com.projecthub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC reads of tags with the number of tasks using them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagCatalogRepository {
+
+    private static final String SELECT_USAGE = """
+            SELECT tg.id, tg.project_id, tg.name, tg.color, count(tt.task_id) AS tasks
+            FROM tags tg
+            LEFT JOIN task_tags tt ON tt.tag_id = tg.id
+            """;
+
+    private static final RowMapper<TagUsage> USAGE_MAPPER = (rs, rowNum) -> new TagUsage(
+            rs.getLong("id"),
+            rs.getLong("project_id"),
+            rs.getString("name"),
+            rs.getString("color"),
+            rs.getInt("tasks"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TagUsage(long id, long projectId, String name, String color, int tasks) {
+    }
+
+    /**
+     * Tags of a project in creation order.
+     */
+    public List<TagUsage> findByProject(Long projectId) {
+        return jdbcTemplate.query(SELECT_USAGE + "WHERE tg.project_id = ? GROUP BY tg.id ORDER BY tg.id",
+                USAGE_MAPPER, projectId);
+    }
+
+    /**
+     * Some tags with their current usage; deleted tags are left out.
+     */
+    public List<TagUsage> findByIds(Collection<Long> tagIds) {
+        return jdbcTemplate.query(SELECT_USAGE + "WHERE tg.id = ANY(?) GROUP BY tg.id",
+                USAGE_MAPPER, new SqlArrayValue("bigint", tagIds.toArray()));
+    }
+}
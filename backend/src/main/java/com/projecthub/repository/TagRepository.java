@@ -2,6 +2,9 @@ package com.projecthub.repository;
 
 import com.projecthub.model.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -32,4 +35,11 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      * Delete all tags for a project.
      */
     void deleteByProjectId(Long projectId);
+
+    /**
+     * Remove a tag from every task that has it.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_tags WHERE tag_id = :tagId", nativeQuery = true)
+    void deleteTaskLinks(@Param("tagId") Long tagId);
 }
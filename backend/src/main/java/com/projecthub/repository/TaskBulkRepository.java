@@ -0,0 +1,437 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.ProjectRole;
+import com.projecthub.model.RecurrencePattern;
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based task statements used by bulk operations and imports.
+ * Runs on plain JDBC so that no entity is hydrated, and binds id lists as a single
+ * PostgreSQL array parameter ({@code = ANY(?)}) so every call reuses the same prepared statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkRepository {
+
+    private static final String TASK_SEQUENCE = "task_seq";
+    private static final String TAG_SEQUENCE = "tag_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final TaskDependencyRepository taskDependencyRepository;
+
+    /**
+     * State of a task considered by a bulk operation.
+     *
+     * @param member whether the requesting user belongs to the task's project
+     * @param blocked whether the task has at least one open dependency
+     */
+    public record BulkCandidate(Long id, Long projectId, String status, boolean completed,
+                                LocalDateTime createdAt, boolean member, boolean blocked) {
+    }
+
+    /**
+     * Load the state needed to bulk-update tasks.
+     *
+     * @param taskIds the task IDs
+     * @param userId the requesting user's ID
+     * @return one row per existing task
+     */
+    public List<BulkCandidate> findBulkCandidates(Collection<Long> taskIds, Long userId) {
+        return jdbcTemplate.query("""
+                SELECT t.id, t.project_id, t.status, t.completed, t.created_at,
+                       (pm.id IS NOT NULL) AS member,
+                       (t.open_dependencies > 0) AS blocked
+                FROM tasks t
+                LEFT JOIN project_members pm ON pm.project_id = t.project_id AND pm.user_id = ?
+                WHERE t.id = ANY(?)
+                """,
+                (rs, rowNum) -> new BulkCandidate(
+                        rs.getLong("id"),
+                        rs.getLong("project_id"),
+                        rs.getString("status"),
+                        rs.getBoolean("completed"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getBoolean("member"),
+                        rs.getBoolean("blocked")),
+                userId, idArray(taskIds));
+    }
+
+    /**
+     * Mark tasks as DONE in a single statement, skipping any task that still has an open dependency.
+     *
+     * @param taskIds the task IDs to complete
+     * @param now the update timestamp
+     * @return IDs of the tasks that were actually updated
+     */
+    public List<Long> completeUnblocked(Collection<Long> taskIds, LocalDateTime now) {
+        return jdbcTemplate.queryForList("""
+                UPDATE tasks t SET completed = true, status = 'DONE', updated_at = ?
+                WHERE t.id = ANY(?) AND t.open_dependencies = 0
+                RETURNING t.id
+                """, Long.class, Timestamp.valueOf(now), idArray(taskIds));
+    }
+
+    /**
+     * State of a task considered by a bulk update.
+     */
+    public record UpdateCandidate(Long id, Long projectId, TaskStatus status, boolean completed, Long assignedTo,
+                                  LocalDateTime createdAt) {
+    }
+
+    /**
+     * Load and lock tasks for a bulk update, so the recorded status transitions match what is overwritten.
+     * Must run inside a transaction.
+     *
+     * @param taskIds the task IDs
+     * @return one row per existing task
+     */
+    public List<UpdateCandidate> lockUpdateCandidates(Collection<Long> taskIds) {
+        return jdbcTemplate.query("""
+                SELECT id, project_id, status, completed, assigned_to, created_at FROM tasks
+                WHERE id = ANY(?)
+                FOR UPDATE
+                """,
+                (rs, rowNum) -> new UpdateCandidate(
+                        rs.getLong("id"),
+                        rs.getLong("project_id"),
+                        TaskStatus.valueOf(rs.getString("status")),
+                        rs.getBoolean("completed"),
+                        rs.getObject("assigned_to", Long.class),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                idArray(taskIds));
+    }
+
+    /**
+     * Find a user's role in each of the given projects.
+     *
+     * @return role by project ID; projects the user is not a member of are absent
+     */
+    public Map<Long, ProjectRole> findRoles(Long userId, Collection<Long> projectIds) {
+        Map<Long, ProjectRole> roles = new HashMap<>();
+        jdbcTemplate.query("SELECT project_id, role FROM project_members WHERE user_id = ? AND project_id = ANY(?)",
+                rs -> {
+                    roles.put(rs.getLong("project_id"), ProjectRole.valueOf(rs.getString("role")));
+                },
+                userId, idArray(projectIds));
+        return roles;
+    }
+
+    /**
+     * Apply the same status and/or assignee to tasks in a single statement.
+     * Moving to DONE marks the task completed and moving anywhere else clears it, as for single updates.
+     *
+     * @param taskIds the task IDs to update
+     * @param status new status, or null to keep it
+     * @param changeAssignee whether to set the assignee
+     * @param assigneeId new assignee, or null to unassign
+     * @param now the update timestamp
+     * @return number of updated rows
+     */
+    public int updateStatusAndAssignee(Collection<Long> taskIds, TaskStatus status,
+                                       boolean changeAssignee, Long assigneeId, LocalDateTime now) {
+        StringBuilder sql = new StringBuilder("UPDATE tasks SET updated_at = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(now));
+        if (status != null) {
+            sql.append(", status = ?, completed = ?");
+            args.add(status.name());
+            args.add(status == TaskStatus.DONE);
+        }
+        if (changeAssignee) {
+            sql.append(", assigned_to = ?");
+            args.add(assigneeId);
+        }
+        sql.append(" WHERE id = ANY(?)");
+        args.add(idArray(taskIds));
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * Delete the given tasks that belong to projects the user is a member of, together with
+     * their tag links and the dependency links on both sides. Tasks that depended on a deleted
+     * open task have one open dependency less.
+     * Must run inside a transaction: the tasks are locked first so no new link can reference them.
+     *
+     * @param taskIds the task IDs to delete
+     * @param userId the requesting user's ID
+     * @return the deleted tasks, and the remaining tasks that became actionable
+     */
+    public Deletion deleteAccessible(Collection<Long> taskIds, Long userId) {
+        List<Long> accessible = new ArrayList<>();
+        List<Long> open = new ArrayList<>();
+        jdbcTemplate.query("""
+                SELECT t.id, t.completed FROM tasks t
+                JOIN project_members pm ON pm.project_id = t.project_id AND pm.user_id = ?
+                WHERE t.id = ANY(?)
+                FOR UPDATE OF t
+                """,
+                rs -> {
+                    accessible.add(rs.getLong("id"));
+                    if (!rs.getBoolean("completed")) {
+                        open.add(rs.getLong("id"));
+                    }
+                },
+                userId, idArray(taskIds));
+        if (accessible.isEmpty()) {
+            return new Deletion(List.of(), List.of());
+        }
+
+        Set<Long> deleting = new HashSet<>(accessible);
+        List<Long> unblocked = taskDependencyRepository.releaseDependents(open).stream()
+                .filter(id -> !deleting.contains(id))
+                .toList();
+        SqlArrayValue ids = idArray(accessible);
+        jdbcTemplate.update("DELETE FROM task_tags WHERE task_id = ANY(?)", ids);
+        jdbcTemplate.update("DELETE FROM task_dependencies WHERE task_id = ANY(?) OR depends_on_task_id = ANY(?)",
+                ids, ids);
+        List<DeletedTask> deleted = jdbcTemplate.query(
+                "DELETE FROM tasks WHERE id = ANY(?) RETURNING id, project_id, status",
+                (rs, rowNum) -> new DeletedTask(
+                        rs.getLong("id"),
+                        rs.getLong("project_id"),
+                        TaskStatus.valueOf(rs.getString("status"))),
+                ids);
+        return new Deletion(deleted, unblocked);
+    }
+
+    /**
+     * Outcome of a bulk delete.
+     *
+     * @param unblocked tasks left with no open dependency by the delete, none of them deleted
+     */
+    public record Deletion(List<DeletedTask> tasks, List<Long> unblocked) {
+    }
+
+    /**
+     * A task removed by a bulk delete.
+     */
+    public record DeletedTask(Long id, Long projectId, TaskStatus status) {
+    }
+
+    /**
+     * Reserve task IDs so rows can be linked before they are inserted.
+     *
+     * @param count number of IDs needed
+     * @return the reserved IDs, at least {@code count}
+     */
+    public List<Long> nextTaskIds(int count) {
+        return sequenceIdAllocator.allocate(TASK_SEQUENCE, count);
+    }
+
+    /**
+     * Keep the IDs of the given tasks that belong to a project.
+     */
+    public List<Long> findTaskIdsInProject(Long projectId, Collection<Long> taskIds) {
+        return jdbcTemplate.queryForList("SELECT id FROM tasks WHERE project_id = ? AND id = ANY(?)",
+                Long.class, projectId, idArray(taskIds));
+    }
+
+    /**
+     * Find the IDs of a project's tags by name.
+     *
+     * @return tag ID by name; when names are duplicated the lowest ID wins
+     */
+    public Map<String, Long> findTagIds(Long projectId, Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM tags WHERE project_id = ? AND name = ANY(?) ORDER BY id",
+                rs -> {
+                    ids.putIfAbsent(rs.getString("name"), rs.getLong("id"));
+                },
+                projectId, new SqlArrayValue("text", names.toArray()));
+        return ids;
+    }
+
+    /**
+     * Create tags with a common color.
+     *
+     * @return new tag ID by name
+     */
+    public Map<String, Long> insertTags(Long projectId, Collection<String> names, String color) {
+        Iterator<Long> ids = sequenceIdAllocator.allocate(TAG_SEQUENCE, names.size()).iterator();
+        Map<String, Long> tagIds = new HashMap<>();
+        names.forEach(name -> tagIds.put(name, ids.next()));
+
+        jdbcTemplate.batchUpdate("INSERT INTO tags (id, name, color, project_id) VALUES (?, ?, ?, ?)",
+                List.copyOf(tagIds.entrySet()), tagIds.size(), (ps, tag) -> {
+                    ps.setLong(1, tag.getValue());
+                    ps.setString(2, tag.getKey());
+                    ps.setString(3, color);
+                    ps.setLong(4, projectId);
+                });
+        return tagIds;
+    }
+
+    /**
+     * Insert tasks with pre-assigned IDs using COPY.
+     */
+    public void insertTasks(List<NewTask> tasks, LocalDateTime now) {
+        String timestamp = now.toString();
+        StringBuilder csv = new StringBuilder(tasks.size() * 128);
+        for (NewTask task : tasks) {
+            csv.append(task.id()).append(',')
+                    .append(task.projectId()).append(',');
+            appendCsv(csv, task.title()).append(',');
+            appendCsv(csv, task.description()).append(',');
+            appendCsv(csv, task.dueDate()).append(',')
+                    .append(task.status() == TaskStatus.DONE).append(',')
+                    .append(task.status().name()).append(',')
+                    .append(task.priority().name()).append(',')
+                    .append(task.recurrencePattern().name()).append(',');
+            appendCsv(csv, task.recurrenceEndDate()).append(',');
+            appendCsv(csv, task.recurrencePattern().firstRepeat(task.dueDate(), task.recurrenceEndDate())).append(',')
+                    .append(timestamp).append(',')
+                    .append(timestamp).append('\n');
+        }
+        copyIn("""
+                COPY tasks (id, project_id, title, description, due_date, completed, status, priority,
+                            recurrence_pattern, recurrence_end_date, recurrence_next_date, created_at, updated_at)
+                FROM STDIN (FORMAT csv)
+                """, csv);
+    }
+
+    /**
+     * Insert task-tag links using COPY.
+     */
+    public void insertTaskTags(List<Link> links) {
+        copyIn("COPY task_tags (task_id, tag_id) FROM STDIN (FORMAT csv)", linksCsv(links));
+    }
+
+    /**
+     * Projects that some tasks and tags belong to, found in a single query.
+     *
+     * @param tasks number of the given tasks in the project
+     * @param tags number of the given tags in the project
+     * @param member whether the requesting user belongs to the project
+     */
+    public record TaggingScope(Long projectId, int tasks, int tags, boolean member) {
+    }
+
+    /**
+     * Group existing tasks and tags by project, with the requesting user's membership of each project.
+     *
+     * @return one row per project; missing tasks and tags are not counted
+     */
+    public List<TaggingScope> findTaggingScopes(Collection<Long> taskIds, Collection<Long> tagIds, Long userId) {
+        return jdbcTemplate.query("""
+                SELECT s.project_id,
+                       count(*) FILTER (WHERE s.is_task) AS tasks,
+                       count(*) FILTER (WHERE NOT s.is_task) AS tags,
+                       EXISTS (SELECT 1 FROM project_members pm
+                               WHERE pm.project_id = s.project_id AND pm.user_id = ?) AS member
+                FROM (SELECT project_id, true AS is_task FROM tasks WHERE id = ANY(?)
+                      UNION ALL
+                      SELECT project_id, false FROM tags WHERE id = ANY(?)) s
+                GROUP BY s.project_id
+                """,
+                (rs, rowNum) -> new TaggingScope(
+                        rs.getLong("project_id"),
+                        rs.getInt("tasks"),
+                        rs.getInt("tags"),
+                        rs.getBoolean("member")),
+                userId, idArray(taskIds), idArray(tagIds));
+    }
+
+    /**
+     * Link every given task to every given tag, skipping links that already exist.
+     *
+     * @return number of links created
+     */
+    public int addTaskTags(Collection<Long> taskIds, Collection<Long> tagIds) {
+        return jdbcTemplate.update("""
+                INSERT INTO task_tags (task_id, tag_id)
+                SELECT t.id, g.id FROM tasks t CROSS JOIN tags g
+                WHERE t.id = ANY(?) AND g.id = ANY(?)
+                ON CONFLICT DO NOTHING
+                """,
+                idArray(taskIds), idArray(tagIds));
+    }
+
+    /**
+     * Remove the given tags from the given tasks.
+     *
+     * @return number of links removed
+     */
+    public int removeTaskTags(Collection<Long> taskIds, Collection<Long> tagIds) {
+        return jdbcTemplate.update("DELETE FROM task_tags WHERE task_id = ANY(?) AND tag_id = ANY(?)",
+                idArray(taskIds), idArray(tagIds));
+    }
+
+    /**
+     * Insert task dependency links using COPY, then count the open dependencies of the linked tasks.
+     */
+    public void insertTaskDependencies(List<Link> links) {
+        copyIn("COPY task_dependencies (task_id, depends_on_task_id) FROM STDIN (FORMAT csv)", linksCsv(links));
+        taskDependencyRepository.recountOpenDependencies(links.stream().map(Link::taskId).distinct().toList());
+    }
+
+    /**
+     * A task row to insert with an already reserved ID.
+     */
+    public record NewTask(long id, long projectId, String title, String description, LocalDate dueDate,
+                          TaskStatus status, TaskPriority priority, RecurrencePattern recurrencePattern,
+                          LocalDate recurrenceEndDate) {
+    }
+
+    /**
+     * A row of a task join table: a tag or a task the task points to.
+     */
+    public record Link(long taskId, long targetId) {
+    }
+
+    /**
+     * Stream CSV rows into a COPY statement on the connection of the current transaction.
+     */
+    private void copyIn(String sql, CharSequence csv) {
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(sql, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static StringBuilder linksCsv(List<Link> links) {
+        StringBuilder csv = new StringBuilder(links.size() * 16);
+        links.forEach(link -> csv.append(link.taskId()).append(',').append(link.targetId()).append('\n'));
+        return csv;
+    }
+
+    /**
+     * Append a CSV value; null becomes an unquoted empty field, which COPY reads as NULL.
+     */
+    private static StringBuilder appendCsv(StringBuilder csv, Object value) {
+        if (value == null) {
+            return csv;
+        }
+        return csv.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+    }
+
+    static SqlArrayValue idArray(Collection<Long> ids) {
+        return new SqlArrayValue("bigint", ids.toArray());
+    }
+}
@@ -0,0 +1,202 @@
+package com.projecthub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC access to {@code task_dependencies} and the task columns that dependency features read.
+ * A row {@code (task_id, depends_on_task_id)} means the task cannot be completed before the other one.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskDependencyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Receives dependency edges without boxing.
+     */
+    @FunctionalInterface
+    public interface EdgeHandler {
+        void edge(long taskId, long dependsOnId);
+    }
+
+    /**
+     * Stream every dependency between two tasks of a project in a single query.
+     * Links to tasks of other projects are skipped.
+     */
+    public void forEachDependency(Long projectId, EdgeHandler handler) {
+        jdbcTemplate.query("""
+                SELECT d.task_id, d.depends_on_task_id
+                FROM task_dependencies d
+                JOIN tasks t ON t.id = d.task_id
+                JOIN tasks dep ON dep.id = d.depends_on_task_id
+                WHERE t.project_id = ? AND dep.project_id = ?
+                """,
+                rs -> {
+                    handler.edge(rs.getLong(1), rs.getLong(2));
+                },
+                projectId, projectId);
+    }
+
+    /**
+     * Receives a task's due date as an epoch day without creating date objects.
+     */
+    @FunctionalInterface
+    public interface DueDateHandler {
+        /**
+         * @param dueDate days since 1970-01-01, or null when the task has no due date
+         */
+        void task(long taskId, Long dueDate);
+    }
+
+    /**
+     * Stream the due date of every task of a project, ordered by task ID, in a single query.
+     */
+    public void forEachDueDate(Long projectId, DueDateHandler handler) {
+        jdbcTemplate.query("SELECT id, due_date - DATE '1970-01-01' FROM tasks WHERE project_id = ? ORDER BY id",
+                rs -> {
+                    long dueDate = rs.getLong(2);
+                    handler.task(rs.getLong(1), rs.wasNull() ? null : dueDate);
+                },
+                projectId);
+    }
+
+    /**
+     * Find the project of each task.
+     *
+     * @return project ID by task ID; missing tasks are absent
+     */
+    public Map<Long, Long> findProjectIds(Collection<Long> taskIds) {
+        Map<Long, Long> projectIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, project_id FROM tasks WHERE id = ANY(?)",
+                rs -> {
+                    projectIds.put(rs.getLong("id"), rs.getLong("project_id"));
+                },
+                idArray(taskIds));
+        return projectIds;
+    }
+
+    /**
+     * Serialize dependency changes of a project until the end of the current transaction,
+     * so two concurrent edges cannot close a cycle that neither would close alone.
+     */
+    public void lockProject(Long projectId) {
+        jdbcTemplate.queryForList("SELECT id FROM projects WHERE id = ? FOR NO KEY UPDATE", Long.class, projectId);
+    }
+
+    /**
+     * Add a dependency and count it as open if the other task is not completed.
+     *
+     * @return whether the dependency was added (false if it already existed)
+     */
+    public boolean insert(Long taskId, Long dependsOnId) {
+        boolean inserted = jdbcTemplate.update("""
+                INSERT INTO task_dependencies (task_id, depends_on_task_id) VALUES (?, ?)
+                ON CONFLICT DO NOTHING
+                """, taskId, dependsOnId) > 0;
+        if (inserted) {
+            adjustIfOpen(taskId, dependsOnId, 1);
+        }
+        return inserted;
+    }
+
+    /**
+     * Remove a dependency and stop counting it if the other task is not completed.
+     *
+     * @return whether the dependency existed
+     */
+    public boolean delete(Long taskId, Long dependsOnId) {
+        boolean deleted = jdbcTemplate.update("DELETE FROM task_dependencies WHERE task_id = ? AND depends_on_task_id = ?",
+                taskId, dependsOnId) > 0;
+        if (deleted) {
+            adjustIfOpen(taskId, dependsOnId, -1);
+        }
+        return deleted;
+    }
+
+    private void adjustIfOpen(Long taskId, Long dependsOnId, int delta) {
+        jdbcTemplate.update("""
+                UPDATE tasks SET open_dependencies = open_dependencies + ?
+                WHERE id = ? AND EXISTS (SELECT 1 FROM tasks dep WHERE dep.id = ? AND dep.completed = false)
+                """, delta, taskId, dependsOnId);
+    }
+
+    /**
+     * Record that tasks were completed or deleted while open: every task depending on them has
+     * one open dependency less per link. Only the links of the given tasks are read, through
+     * the index on {@code depends_on_task_id}.
+     *
+     * @param taskIds tasks that were open until now
+     * @return open dependents whose last open dependency this was, i.e. tasks that just became actionable
+     */
+    public List<Long> releaseDependents(Collection<Long> taskIds) {
+        return adjustDependents(taskIds, -1);
+    }
+
+    /**
+     * Record that completed tasks were reopened: every task depending on them has one more open dependency per link.
+     */
+    public void holdDependents(Collection<Long> taskIds) {
+        adjustDependents(taskIds, 1);
+    }
+
+    /**
+     * @return updated tasks that are now open with no open dependency
+     */
+    private List<Long> adjustDependents(Collection<Long> taskIds, int delta) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> actionable = new ArrayList<>();
+        jdbcTemplate.query("""
+                UPDATE tasks t SET open_dependencies = t.open_dependencies + ? * c.links
+                FROM (SELECT task_id, COUNT(*) AS links FROM task_dependencies
+                      WHERE depends_on_task_id = ANY(?)
+                      GROUP BY task_id) c
+                WHERE t.id = c.task_id
+                RETURNING t.id, t.open_dependencies = 0 AND t.completed = false AS actionable
+                """,
+                rs -> {
+                    if (rs.getBoolean(2)) {
+                        actionable.add(rs.getLong(1));
+                    }
+                },
+                delta, idArray(taskIds));
+        return actionable;
+    }
+
+    /**
+     * Delete the links of tasks that depend on the given tasks.
+     */
+    public void deleteDependentLinks(Collection<Long> taskIds) {
+        jdbcTemplate.update("DELETE FROM task_dependencies WHERE depends_on_task_id = ANY(?)", idArray(taskIds));
+    }
+
+    /**
+     * Recount the open dependencies of tasks whose links were written in bulk.
+     */
+    public void recountOpenDependencies(Collection<Long> taskIds) {
+        jdbcTemplate.update("""
+                UPDATE tasks t SET open_dependencies = COALESCE(c.open, 0)
+                FROM (SELECT id FROM tasks WHERE id = ANY(?)) target
+                LEFT JOIN (SELECT d.task_id, COUNT(*) AS open FROM task_dependencies d
+                           JOIN tasks dep ON dep.id = d.depends_on_task_id
+                           WHERE d.task_id = ANY(?) AND dep.completed = false
+                           GROUP BY d.task_id) c ON c.task_id = target.id
+                WHERE t.id = target.id
+                """, idArray(taskIds), idArray(taskIds));
+    }
+
+    private static SqlArrayValue idArray(Collection<Long> ids) {
+        return new SqlArrayValue("bigint", ids.toArray());
+    }
+}
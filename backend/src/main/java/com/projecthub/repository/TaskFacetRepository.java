@@ -0,0 +1,73 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC reads of the facet values of tasks: status, priority, assignee and tags.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskFacetRepository {
+
+    /**
+     * Tags are aggregated over one join rather than a subquery per task, which turns a project load
+     * into a single merge of two scans.
+     */
+    private static final String SELECT_FACETS = """
+            SELECT t.id, t.project_id, t.status, t.priority, t.assigned_to,
+                   array_remove(array_agg(tt.tag_id), NULL) AS tag_ids
+            FROM tasks t
+            LEFT JOIN task_tags tt ON tt.task_id = t.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TaskFacets(long id, long projectId, TaskStatus status, TaskPriority priority,
+                             Long assignedTo, List<Long> tagIds) {
+    }
+
+    @FunctionalInterface
+    public interface TaskFacetsHandler {
+        void task(TaskFacets task);
+    }
+
+    /**
+     * Stream the facet values of every task of a project.
+     */
+    public void forEachTask(Long projectId, TaskFacetsHandler handler) {
+        jdbcTemplate.query(SELECT_FACETS + "WHERE t.project_id = ? GROUP BY t.id",
+                (RowCallbackHandler) rs -> handler.task(map(rs)), projectId);
+    }
+
+    /**
+     * Facet values of some tasks; deleted tasks are left out.
+     */
+    public List<TaskFacets> findByIds(Collection<Long> taskIds) {
+        return jdbcTemplate.query(SELECT_FACETS + "WHERE t.id = ANY(?) GROUP BY t.id",
+                (rs, rowNum) -> map(rs), new SqlArrayValue("bigint", taskIds.toArray()));
+    }
+
+    private static TaskFacets map(ResultSet rs) throws SQLException {
+        Array tagIds = rs.getArray("tag_ids");
+        return new TaskFacets(
+                rs.getLong("id"),
+                rs.getLong("project_id"),
+                TaskStatus.valueOf(rs.getString("status")),
+                TaskPriority.valueOf(rs.getString("priority")),
+                rs.getObject("assigned_to", Long.class),
+                Arrays.asList((Long[]) tagIds.getArray()));
+    }
+}
@@ -0,0 +1,165 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.RecurrencePattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC statements of the recurrence generator.
+ * A recurring task is the first occurrence of its series; later occurrences are separate tasks
+ * pointing back to it through {@code recurrence_parent_id}, unique per due date.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskRecurrenceRepository {
+
+    private static final String TASK_SEQUENCE = "task_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    /**
+     * A recurring task with occurrences left to create.
+     *
+     * @param start due date of the recurring task, the first occurrence of the series
+     * @param nextDate next occurrence not created yet
+     */
+    public record Series(Long id, RecurrencePattern pattern, LocalDate start, LocalDate endDate, LocalDate nextDate) {
+    }
+
+    /**
+     * An occurrence to create, with an already reserved ID.
+     */
+    public record Occurrence(long id, long seriesId, LocalDate dueDate) {
+    }
+
+    /**
+     * A created occurrence.
+     */
+    public record CreatedOccurrence(Long id, Long projectId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Lock up to {@code limit} series whose next occurrence falls on or before the horizon.
+     * Series locked by another node are skipped, so several nodes can generate at the same time
+     * without waiting for or duplicating each other. Must run inside a transaction.
+     */
+    public List<Series> claimDueSeries(LocalDate horizon, int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, recurrence_pattern, due_date, recurrence_end_date, recurrence_next_date FROM tasks
+                WHERE recurrence_next_date <= ?
+                ORDER BY recurrence_next_date
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new Series(
+                        rs.getLong("id"),
+                        RecurrencePattern.valueOf(rs.getString("recurrence_pattern")),
+                        rs.getObject("due_date", LocalDate.class),
+                        rs.getObject("recurrence_end_date", LocalDate.class),
+                        rs.getObject("recurrence_next_date", LocalDate.class)),
+                Date.valueOf(horizon), limit);
+    }
+
+    /**
+     * Reserve task IDs for new occurrences.
+     */
+    public List<Long> nextTaskIds(int count) {
+        return sequenceIdAllocator.allocate(TASK_SEQUENCE, count);
+    }
+
+    /**
+     * Create occurrences as copies of their series' title, description, priority, project and assignee,
+     * in one statement whatever their number. Occurrences that already exist are skipped.
+     *
+     * @return the occurrences actually created
+     */
+    public List<CreatedOccurrence> insertOccurrences(List<Occurrence> occurrences, LocalDateTime now) {
+        if (occurrences.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = new Long[occurrences.size()];
+        Long[] seriesIds = new Long[occurrences.size()];
+        Date[] dueDates = new Date[occurrences.size()];
+        for (int i = 0; i < occurrences.size(); i++) {
+            ids[i] = occurrences.get(i).id();
+            seriesIds[i] = occurrences.get(i).seriesId();
+            dueDates[i] = Date.valueOf(occurrences.get(i).dueDate());
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.query("""
+                INSERT INTO tasks (id, project_id, title, description, due_date, completed, status, priority,
+                                   recurrence_pattern, recurrence_parent_id, assigned_to, open_dependencies,
+                                   created_at, updated_at)
+                SELECT o.id, s.project_id, s.title, s.description, o.due_date, false, 'TODO', s.priority,
+                       'NONE', s.id, s.assigned_to, 0, ?, ?
+                FROM unnest(?, ?, ?) AS o(id, series_id, due_date)
+                JOIN tasks s ON s.id = o.series_id
+                ON CONFLICT (recurrence_parent_id, due_date) WHERE recurrence_parent_id IS NOT NULL DO NOTHING
+                RETURNING id, project_id
+                """,
+                (rs, rowNum) -> new CreatedOccurrence(rs.getLong("id"), rs.getLong("project_id"), now),
+                timestamp, timestamp,
+                new SqlArrayValue("bigint", (Object[]) ids),
+                new SqlArrayValue("bigint", (Object[]) seriesIds),
+                new SqlArrayValue("date", (Object[]) dueDates));
+    }
+
+    /**
+     * Give created occurrences the tags of their series, in one statement.
+     *
+     * @return the tags given, by project
+     */
+    public Map<Long, Set<Long>> copyTags(List<Long> occurrenceIds) {
+        if (occurrenceIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Set<Long>> tagIds = new HashMap<>();
+        jdbcTemplate.query("""
+                WITH copied AS (
+                    INSERT INTO task_tags (task_id, tag_id)
+                    SELECT t.id, tt.tag_id FROM tasks t
+                    JOIN task_tags tt ON tt.task_id = t.recurrence_parent_id
+                    WHERE t.id = ANY(?)
+                    RETURNING task_id, tag_id
+                )
+                SELECT DISTINCT t.project_id, c.tag_id FROM copied c JOIN tasks t ON t.id = c.task_id
+                """,
+                rs -> {
+                    tagIds.computeIfAbsent(rs.getLong("project_id"), key -> new HashSet<>()).add(rs.getLong("tag_id"));
+                },
+                new SqlArrayValue("bigint", occurrenceIds.toArray()));
+        return tagIds;
+    }
+
+    /**
+     * Move the next occurrence date of series in a single statement.
+     *
+     * @param nextDates next occurrence by position in {@code seriesIds}; null ends the series
+     */
+    public void advance(List<Long> seriesIds, List<LocalDate> nextDates) {
+        if (seriesIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                UPDATE tasks t SET recurrence_next_date = a.next_date
+                FROM unnest(?, ?) AS a(id, next_date)
+                WHERE t.id = a.id
+                """,
+                new SqlArrayValue("bigint", seriesIds.toArray()),
+                new SqlArrayValue("date", nextDates.stream().map(date -> date != null ? Date.valueOf(date) : null).toArray()));
+    }
+}
@@ -24,6 +24,26 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByProjectId(Long projectId);
 
+    /**
+     * Find the tasks of a project that wait for at least one open dependency.
+     * Served by the partial index {@code idx_tasks_blocked}.
+     *
+     * @param projectId the project ID
+     * @return blocked tasks in the project
+     */
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.openDependencies > 0")
+    List<Task> findBlockedByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Find the open tasks of a project whose dependencies are all completed, i.e. the ones that can be worked on now.
+     * Served by the partial index {@code idx_tasks_actionable}.
+     *
+     * @param projectId the project ID
+     * @return actionable tasks in the project
+     */
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.openDependencies = 0 AND t.completed = false")
+    List<Task> findActionableByProjectId(@Param("projectId") Long projectId);
+
     /**
      * Find a task by ID and verify it belongs to a project owned by the user.
      * This ensures users can only access their own tasks.
@@ -0,0 +1,36 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.TaskStatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the append-only task status transition log.
+ */
+@Repository
+public interface TaskStatusTransitionRepository extends JpaRepository<TaskStatusTransition, Long> {
+
+    /**
+     * Find when each of the given tasks was first moved to IN_PROGRESS.
+     * Tasks that were never started are absent from the result.
+     */
+    @Query("SELECT t.taskId AS taskId, MIN(t.transitionedAt) AS startedAt " +
+           "FROM TaskStatusTransition t " +
+           "WHERE t.taskId IN :taskIds AND t.toStatus = com.projecthub.model.TaskStatus.IN_PROGRESS " +
+           "GROUP BY t.taskId")
+    List<TaskStart> findStartTimes(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Projection of the first time a task was started.
+     */
+    interface TaskStart {
+        Long getTaskId();
+        LocalDateTime getStartedAt();
+    }
+}
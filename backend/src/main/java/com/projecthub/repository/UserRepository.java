@@ -31,10 +31,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * Search users by email containing the search term (case-insensitive).
+     * Find the owner of a calendar feed.
      *
-     * @param email search term
-     * @return list of matching users
+     * @param calendarFeedTokenHash SHA-256 of the feed token, hex encoded
+     * @return Optional containing the user if the token is current
      */
-    java.util.List<User> findByEmailContainingIgnoreCase(String email);
+    Optional<User> findByCalendarFeedTokenHash(String calendarFeedTokenHash);
 }
@@ -0,0 +1,73 @@
+package com.projecthub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC reads of user emails for search and type-ahead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final RowMapper<UserEmail> USER_EMAIL_MAPPER = (rs, rowNum) -> new UserEmail(
+            rs.getLong("id"),
+            rs.getString("email"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record UserEmail(long id, String email) {
+    }
+
+    @FunctionalInterface
+    public interface UserEmailHandler {
+        void user(UserEmail user);
+    }
+
+    /**
+     * Users whose lowercased email matches a LIKE pattern, in alphabetical order.
+     * The trigram index finds the matches of a selective pattern; for a common one the planner
+     * walks the lower(email) index in order and stops at the limit.
+     *
+     * @param pattern lowercase LIKE pattern, with backslash as the escape character
+     */
+    public List<UserEmail> findByEmailLike(String pattern, int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, email FROM users
+                WHERE lower(email) LIKE ?
+                ORDER BY lower(email)
+                LIMIT ?
+                """, USER_EMAIL_MAPPER, pattern, limit);
+    }
+
+    public Optional<UserEmail> findById(Long userId) {
+        return jdbcTemplate.query("SELECT id, email FROM users WHERE id = ?", USER_EMAIL_MAPPER, userId)
+                .stream()
+                .findFirst();
+    }
+
+    public long countUsers() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+    }
+
+    /**
+     * Stream every user. Rows are fetched with a cursor, so memory does not grow with the table;
+     * must run inside a transaction for PostgreSQL to use one.
+     */
+    public void forEachUser(UserEmailHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement("SELECT id, email FROM users");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.user(USER_EMAIL_MAPPER.mapRow(rs, 0)));
+    }
+}
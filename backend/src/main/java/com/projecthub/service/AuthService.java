@@ -9,6 +9,8 @@ import com.projecthub.repository.UserRepository;
 import com.projecthub.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     /**
      * Register a new user.
@@ -37,7 +41,9 @@ public class AuthService {
     public LoginResponse register(RegisterRequest registerRequest) {
         log.debug("Attempting registration for user: {}", registerRequest.getEmail());
 
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
+        // Most signups use a new email; only a possible match is checked in the database
+        if (registeredEmailFilter.mightExist(registerRequest.getEmail())
+                && userRepository.existsByEmail(registerRequest.getEmail())) {
             throw new IllegalArgumentException("Email already registered");
         }
 
@@ -46,7 +52,13 @@ public class AuthService {
                 .password(passwordEncoder.encode(registerRequest.getPassword()))
                 .build();
 
-        user = userRepository.save(user);
+        try {
+            // Flushed now so that a registration racing on another node fails here with a clear message
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Email already registered");
+        }
+        eventPublisher.publishEvent(new UserRegisteredEvent(user.getId(), user.getEmail()));
         log.info("User registered successfully: {}", user.getEmail());
 
         String token = jwtUtil.generateToken(user.getEmail(), user.getId());
@@ -92,6 +104,7 @@ public class AuthService {
                     .password(passwordEncoder.encode("admin123"))
                     .build();
             userRepository.save(admin);
+            eventPublisher.publishEvent(new UserRegisteredEvent(admin.getId(), admin.getEmail()));
             log.info("Created demo user: admin@projecthub.com");
         }
 
@@ -102,6 +115,7 @@ public class AuthService {
                     .password(passwordEncoder.encode("user123"))
                     .build();
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserRegisteredEvent(user.getId(), user.getEmail()));
             log.info("Created demo user: user@projecthub.com");
         }
     }
@@ -0,0 +1,123 @@
+package com.projecthub.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of strings: answers "definitely not added" or "maybe added".
+ * Sized for an expected number of entries and false positive rate; the rate grows past that size.
+ * Positions come from two halves of one 128-bit MurmurHash3 combined as h1 + i * h2. Thread-safe:
+ * bits are set with compare-and-set and are never cleared.
+ */
+class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    BloomFilter(long expectedEntries, double falsePositiveRate) {
+        long n = Math.max(1, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact((m + 63) >>> 6));
+        this.bits = (long) words.length() << 6;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+    }
+
+    void add(String value) {
+        long[] hash = murmur3(value.getBytes(StandardCharsets.UTF_8));
+        long combined = hash[0];
+        for (int i = 0; i < hashes; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bits;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+            combined += hash[1];
+        }
+    }
+
+    boolean mightContain(String value) {
+        long[] hash = murmur3(value.getBytes(StandardCharsets.UTF_8));
+        long combined = hash[0];
+        for (int i = 0; i < hashes; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bits;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += hash[1];
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bits;
+    }
+
+    int hashCount() {
+        return hashes;
+    }
+
+    /**
+     * MurmurHash3 x64 128-bit with seed 0.
+     */
+    private static long[] murmur3(byte[] data) {
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length / 16;
+        for (int i = 0; i < blocks; i++) {
+            long k1 = getLong(data, i * 16);
+            long k2 = getLong(data, i * 16 + 8);
+            h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+            h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52dce729;
+            h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+            h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        for (int i = data.length - 1; i >= tail + 8; i--) {
+            k2 = (k2 << 8) | (data[i] & 0xff);
+        }
+        for (int i = Math.min(data.length, tail + 8) - 1; i >= tail; i--) {
+            k1 = (k1 << 8) | (data[i] & 0xff);
+        }
+        if (data.length - tail > 8) {
+            h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+        }
+        if (data.length > tail) {
+            h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+        }
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    private static long getLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (data[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb93e53fe7a63L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
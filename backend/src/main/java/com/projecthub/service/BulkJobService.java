@@ -0,0 +1,268 @@
+package com.projecthub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecthub.dto.BulkCompleteResponse;
+import com.projecthub.dto.BulkJobResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.model.BulkJob;
+import com.projecthub.model.BulkJobStatus;
+import com.projecthub.model.BulkJobType;
+import com.projecthub.repository.BulkJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for asynchronous bulk operations on tasks.
+ * A job is stored, then processed on the bulk job executor one chunk at a time. Every chunk
+ * commits on its own and the job's counters are updated after it, so a large operation never
+ * holds a request thread, a long transaction or more than one pooled connection.
+ * Queued jobs live only in the executor of the node that accepted them, so they are queued again
+ * after a restart, and running jobs whose node stopped sending heartbeats are failed.
+ */
+@Service
+@Slf4j
+public class BulkJobService {
+
+    private static final TypeReference<Map<String, List<Long>>> OUTCOMES_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Long>> TASK_IDS_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final BulkJobRepository bulkJobRepository;
+    private final TaskService taskService;
+    private final TaskExecutor bulkJobExecutor;
+    private final ObjectMapper objectMapper;
+    private final Duration staleAfter;
+
+    public BulkJobService(BulkJobRepository bulkJobRepository,
+                          TaskService taskService,
+                          TaskExecutor bulkJobExecutor,
+                          ObjectMapper objectMapper,
+                          @Value("${app.bulk-jobs.stale-after:PT10M}") Duration staleAfter) {
+        this.bulkJobRepository = bulkJobRepository;
+        this.taskService = taskService;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.objectMapper = objectMapper;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * Store a bulk job and queue it for processing.
+     *
+     * @param operation operation to apply
+     * @param taskIds task IDs; duplicates are ignored
+     * @param userId authenticated user's ID
+     * @return the queued job
+     * @throws TaskRejectedException if the job queue is full
+     */
+    public BulkJobResponse submit(BulkJobType operation, List<Long> taskIds, Long userId) {
+        List<Long> ids = taskIds.stream().distinct().collect(Collectors.toList());
+        BulkJob job = bulkJobRepository.save(BulkJob.builder()
+                .userId(userId)
+                .operation(operation)
+                .taskIds(toJson(ids))
+                .totalTasks(ids.size())
+                .build());
+
+        try {
+            bulkJobExecutor.execute(() -> run(job.getId(), operation, ids, userId));
+        } catch (TaskRejectedException e) {
+            bulkJobRepository.finish(job.getId(), BulkJobStatus.FAILED, null, "Job queue is full", LocalDateTime.now());
+            throw e;
+        }
+
+        log.info("Bulk job {} queued: {} on {} tasks by user {}", job.getId(), operation, ids.size(), userId);
+        return mapToResponse(job);
+    }
+
+    /**
+     * Get a job of the authenticated user.
+     *
+     * @param jobId job ID
+     * @param userId authenticated user's ID
+     * @return job state and, once it has ended, its outcomes
+     */
+    public BulkJobResponse getJob(Long jobId, Long userId) {
+        return bulkJobRepository.findByIdAndUserId(jobId, userId)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new NotFoundException("Bulk job", "id", jobId));
+    }
+
+    /**
+     * Queue again every job that was queued before this node started; their runs were lost with the
+     * executor of the node that accepted them. A job queued on several nodes runs only once.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeAfterStartup() {
+        recover(LocalDateTime.now());
+    }
+
+    /**
+     * Fail running jobs without a heartbeat for {@code app.bulk-jobs.stale-after}, and queue again
+     * jobs that have been queued that long, in case the node that accepted them has stopped.
+     *
+     * @return number of jobs failed or queued again
+     */
+    @Scheduled(fixedDelayString = "${app.bulk-jobs.recovery-interval:PT5M}",
+               initialDelayString = "${app.bulk-jobs.recovery-interval:PT5M}")
+    public int recoverStale() {
+        return recover(LocalDateTime.now().minus(staleAfter));
+    }
+
+    private int recover(LocalDateTime queuedBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = bulkJobRepository.failStale(now.minus(staleAfter),
+                "Interrupted: the node running the job stopped", now);
+        if (failed > 0) {
+            log.warn("Failed {} bulk jobs whose node stopped", failed);
+        }
+
+        int requeued = 0;
+        for (BulkJob job : bulkJobRepository.findByStatusAndCreatedAtBeforeOrderByIdAsc(BulkJobStatus.QUEUED,
+                queuedBefore)) {
+            List<Long> ids = fromJson(job.getTaskIds());
+            if (ids == null) {
+                bulkJobRepository.finish(job.getId(), BulkJobStatus.FAILED, null, "Interrupted by a restart", now);
+                continue;
+            }
+            try {
+                bulkJobExecutor.execute(() -> run(job.getId(), job.getOperation(), ids, job.getUserId()));
+            } catch (TaskRejectedException e) {
+                log.warn("Job queue is full; {} bulk jobs stay queued until the next recovery", requeued);
+                break;
+            }
+            requeued++;
+        }
+        if (requeued > 0) {
+            log.info("Queued {} bulk jobs again", requeued);
+        }
+        return failed + requeued;
+    }
+
+    /**
+     * Process a job chunk by chunk. Chunks committed before a failure stay applied.
+     * Does nothing if the job was already started elsewhere.
+     */
+    void run(Long jobId, BulkJobType operation, List<Long> taskIds, Long userId) {
+        if (bulkJobRepository.markRunning(jobId, LocalDateTime.now()) == 0) {
+            log.debug("Bulk job {} was already started", jobId);
+            return;
+        }
+
+        Map<String, List<Long>> outcomes = new LinkedHashMap<>();
+        int processed = 0;
+        int succeeded = 0;
+        try {
+            for (List<Long> chunk : TaskService.partition(taskIds, TaskService.BULK_CHUNK_SIZE)) {
+                succeeded += operation == BulkJobType.COMPLETE
+                        ? completeChunk(chunk, userId, outcomes)
+                        : deleteChunk(chunk, userId, outcomes);
+                processed += chunk.size();
+                bulkJobRepository.updateProgress(jobId, processed, succeeded, processed - succeeded,
+                        LocalDateTime.now());
+            }
+            bulkJobRepository.finish(jobId, BulkJobStatus.SUCCEEDED, toJson(outcomes), null, LocalDateTime.now());
+            log.info("Bulk job {} succeeded: {} of {} tasks", jobId, succeeded, taskIds.size());
+        } catch (RuntimeException e) {
+            log.error("Bulk job {} failed after {} tasks", jobId, processed, e);
+            bulkJobRepository.finish(jobId, BulkJobStatus.FAILED, toJson(outcomes), errorMessage(e), LocalDateTime.now());
+        }
+    }
+
+    private int completeChunk(List<Long> chunk, Long userId, Map<String, List<Long>> outcomes) {
+        BulkCompleteResponse result = taskService.completeTasksChunk(chunk, userId);
+        addOutcome(outcomes, "completed", result.getCompleted());
+        addOutcome(outcomes, "forbidden", result.getForbidden());
+        addOutcome(outcomes, "blocked", result.getBlocked());
+        addOutcome(outcomes, "notFound", result.getNotFound());
+        addOutcome(outcomes, "unblocked", result.getUnblocked());
+        return result.getCompleted().size();
+    }
+
+    private int deleteChunk(List<Long> chunk, Long userId, Map<String, List<Long>> outcomes) {
+        List<Long> deleted = taskService.deleteTasksChunk(chunk, userId);
+        Set<Long> deletedIds = new HashSet<>(deleted);
+        addOutcome(outcomes, "deleted", deleted);
+        // Missing tasks and tasks of other projects are not told apart, as with the synchronous delete
+        addOutcome(outcomes, "skipped", chunk.stream().filter(id -> !deletedIds.contains(id)).toList());
+        return deleted.size();
+    }
+
+    private static void addOutcome(Map<String, List<Long>> outcomes, String outcome, List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            outcomes.computeIfAbsent(outcome, key -> new ArrayList<>()).addAll(taskIds);
+        }
+    }
+
+    private static String errorMessage(RuntimeException e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize bulk job", e);
+        }
+    }
+
+    private List<Long> fromJson(String taskIds) {
+        if (taskIds == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(taskIds, TASK_IDS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable task IDs of a bulk job", e);
+            return null;
+        }
+    }
+
+    private BulkJobResponse mapToResponse(BulkJob job) {
+        Map<String, List<Long>> outcomes = null;
+        if (job.getOutcomes() != null) {
+            try {
+                outcomes = objectMapper.readValue(job.getOutcomes(), OUTCOMES_TYPE);
+            } catch (JsonProcessingException e) {
+                log.warn("Unreadable outcomes of bulk job {}", job.getId(), e);
+            }
+        }
+
+        return BulkJobResponse.builder()
+                .id(job.getId())
+                .operation(job.getOperation())
+                .status(job.getStatus())
+                .totalTasks(job.getTotalTasks())
+                .processedTasks(job.getProcessedTasks())
+                .succeeded(job.getSucceeded())
+                .skipped(job.getSkipped())
+                .progressPercentage(job.getTotalTasks() == 0 ? 100.0
+                        : Math.round(job.getProcessedTasks() * 10000.0 / job.getTotalTasks()) / 100.0)
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .outcomes(outcomes)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.projecthub.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tells the other application nodes to drop cached entries, through PostgreSQL LISTEN/NOTIFY.
+ * A notification is sent in the caller's transaction, so it is delivered on commit and dropped on
+ * rollback. Each node listens on one dedicated connection. Notifications sent while that
+ * connection was down are lost, so after every reconnect the handlers are told to drop everything.
+ * Caches that must not answer from stale data meanwhile can also be told when the connection fails.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final int pollMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<InvalidationHandler>> handlers = new ConcurrentHashMap<>();
+    private final List<Runnable> disconnectListeners = new CopyOnWriteArrayList<>();
+    private volatile Thread listener;
+
+    /**
+     * Drops cached entries on a notification from another node.
+     */
+    @FunctionalInterface
+    public interface InvalidationHandler {
+        /**
+         * @param key key of the changed entry, or null to drop every entry
+         */
+        void invalidate(Long key);
+    }
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                @Value("${app.cache-invalidation.poll-interval:PT10S}") Duration pollInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.pollMillis = (int) pollInterval.toMillis();
+    }
+
+    /**
+     * Register a handler for a channel. Must be called before the application is ready.
+     */
+    public void subscribe(String channel, InvalidationHandler handler) {
+        handlers.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Register an action run whenever the listening connection fails. Notifications are missed until
+     * it reconnects, after which the handlers are told to drop everything.
+     */
+    public void onDisconnect(Runnable action) {
+        disconnectListeners.add(action);
+    }
+
+    /**
+     * Notify the other nodes that an entry changed, once the current transaction commits.
+     */
+    public void publish(String channel, long key) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, nodeId + ":" + key);
+    }
+
+    /**
+     * Notify the other nodes that some entries changed, in one statement, once the current transaction commits.
+     */
+    public void publish(String channel, Collection<Long> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ? || ':' || k) FROM unnest(?) k", Object.class,
+                channel, nodeId, new SqlArrayValue("bigint", keys.toArray()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        listener = new Thread(this::listen, "cache-invalidation");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = listener;
+        listener = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (listener != null) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : handlers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                log.info("Listening for cache invalidations on {}", handlers.keySet());
+                invalidateAll();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (listener != null) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (listener == null) {
+                    return;
+                }
+                log.warn("Cache invalidation listener failed, reconnecting in {}", RECONNECT_DELAY, e);
+                disconnectListeners.forEach(Runnable::run);
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        String payload = notification.getParameter();
+        int separator = payload.lastIndexOf(':');
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        Long key = Long.valueOf(payload.substring(separator + 1));
+        handlers.getOrDefault(notification.getName(), List.of()).forEach(handler -> handler.invalidate(key));
+    }
+
+    private void invalidateAll() {
+        handlers.values().forEach(channelHandlers -> channelHandlers.forEach(handler -> handler.invalidate(null)));
+    }
+}
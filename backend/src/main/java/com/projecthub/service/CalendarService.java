@@ -0,0 +1,197 @@
+package com.projecthub.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.projecthub.dto.CalendarEntry;
+import com.projecthub.dto.CalendarFeedResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.model.RecurrencePattern;
+import com.projecthub.model.TaskStatus;
+import com.projecthub.model.User;
+import com.projecthub.repository.CalendarRepository;
+import com.projecthub.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+/**
+ * Service for the calendar view and the ICS feed of a user's tasks.
+ * Tasks are read in small chunks and written to the response as each chunk arrives, outside any
+ * transaction, so a slow client holds no database connection. Recurring tasks are expanded lazily
+ * over the requested range: only occurrences that do not exist as tasks yet are computed, one at a
+ * time, so nothing is stored or buffered per occurrence. Both outputs carry a weak ETag
+ * derived from one aggregate query, so a client polling an unchanged calendar gets a 304 without
+ * any task being read.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarService {
+
+    static final int MAX_RANGE_DAYS = 400;
+    public static final int FEED_DAYS_BEFORE = 31;
+    public static final int FEED_DAYS_AFTER = 365;
+
+    private static final DateTimeFormatter UID_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final CalendarRepository calendarRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Receives every day a task appears on in the requested range.
+     */
+    @FunctionalInterface
+    interface OccurrenceHandler {
+        /**
+         * @param exists whether this day is the task itself, as opposed to an occurrence still to be created
+         */
+        void occurrence(CalendarRepository.CalendarTask task, LocalDate date, boolean exists) throws IOException;
+    }
+
+    /**
+     * Compute the ETag of a user's calendar over a range.
+     *
+     * @throws IllegalArgumentException if the range is empty or longer than {@value #MAX_RANGE_DAYS} days
+     */
+    public String getVersionTag(Long userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("The date range must cover 1 to " + MAX_RANGE_DAYS + " days");
+        }
+        CalendarRepository.Version version = calendarRepository.findVersion(userId);
+        long lastModified = version.lastModified() != null
+                ? ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), version.lastModified()) : 0;
+        return "W/\"" + version.tasks() + "-" + lastModified + "-" + from.toEpochDay() + "-" + to.toEpochDay() + "\"";
+    }
+
+    /**
+     * Stream a user's calendar over a range as a JSON array of {@link CalendarEntry}, in no particular order.
+     */
+    public void writeJson(Long userId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        try (SequenceWriter entries = objectMapper.writerFor(CalendarEntry.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValuesAsArray(out)) {
+            forEachOccurrence(userId, from, to, (task, date, exists) -> entries.write(CalendarEntry.builder()
+                    .taskId(exists ? task.id() : null)
+                    .seriesId(seriesId(task))
+                    .projectId(task.projectId())
+                    .title(task.title())
+                    .date(date)
+                    .status(exists ? task.status() : TaskStatus.TODO)
+                    .completed(exists && task.completed())
+                    .build()));
+        }
+    }
+
+    /**
+     * Stream a user's calendar over a range as an iCalendar document with one all-day event per entry.
+     * Occurrences of a series keep the same UID before and after they are created as tasks.
+     */
+    public void writeIcs(Long userId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        IcsWriter ics = new IcsWriter(out);
+        ics.beginCalendar("ProjectHub");
+        forEachOccurrence(userId, from, to, (task, date, exists) -> {
+            String uid = exists && task.seriesId() == null
+                    ? "task-" + task.id()
+                    : "series-" + seriesId(task) + "-" + UID_DATE.format(date);
+            ics.event(uid + "@projecthub", task.updatedAt(), date, task.title());
+        });
+        ics.endCalendar();
+    }
+
+    /**
+     * Create a new secret feed URL for a user, revoking the previous one.
+     */
+    @Transactional
+    public CalendarFeedResponse createFeedToken(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User", "id", userId));
+
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        user.setCalendarFeedTokenHash(hash(token));
+        userRepository.save(user);
+        log.info("Calendar feed token created for user {}", userId);
+
+        return new CalendarFeedResponse("/api/calendar/feed/" + token + ".ics");
+    }
+
+    /**
+     * Find the user a feed token belongs to.
+     *
+     * @throws NotFoundException if the token is unknown or was revoked
+     */
+    public Long findFeedOwner(String token) {
+        return userRepository.findByCalendarFeedTokenHash(hash(token))
+                .map(User::getId)
+                .orElseThrow(() -> new NotFoundException("Calendar feed not found"));
+    }
+
+    private void forEachOccurrence(Long userId, LocalDate from, LocalDate to, OccurrenceHandler handler) {
+        calendarRepository.forEachTask(userId, from, to, task -> {
+            try {
+                expand(task, from, to, handler);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Emit the task itself if it is due in the range, then the occurrences of its series that are
+     * in the range and have not been created as tasks yet.
+     */
+    static void expand(CalendarRepository.CalendarTask task, LocalDate from, LocalDate to,
+                       OccurrenceHandler handler) throws IOException {
+        if (task.dueDate() != null && !task.dueDate().isBefore(from) && !task.dueDate().isAfter(to)) {
+            handler.occurrence(task, task.dueDate(), true);
+        }
+        if (task.nextOccurrence() == null || task.dueDate() == null) {
+            return;
+        }
+        LocalDate first = task.nextOccurrence().isAfter(from) ? task.nextOccurrence() : from;
+        LocalDate last = task.recurrenceEndDate() != null && task.recurrenceEndDate().isBefore(to)
+                ? task.recurrenceEndDate() : to;
+        Iterator<LocalDate> dates = new OccurrenceIterator(task.recurrencePattern(), task.dueDate(), first, last);
+        while (dates.hasNext()) {
+            handler.occurrence(task, dates.next(), false);
+        }
+    }
+
+    private static Long seriesId(CalendarRepository.CalendarTask task) {
+        if (task.seriesId() != null) {
+            return task.seriesId();
+        }
+        return task.recurrencePattern() != RecurrencePattern.NONE ? task.id() : null;
+    }
+
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.projecthub.service;
+
+import java.util.Arrays;
+
+/**
+ * Critical path computation over a project's tasks and its {@link DependencyGraph}.
+ * Dates are epoch days. Tasks have no duration field, so the plan implies one: a task's
+ * duration is the gap between its due date and the latest due date among its dependencies
+ * (0 when either is unknown). A task then finishes at the later of its due date and its
+ * dependencies' finish plus its duration, which lets a late dependency push it out.
+ * Both passes walk the cached topological order once, so the whole computation is O(V+E).
+ */
+final class CriticalPath {
+
+    static final long NONE = Long.MIN_VALUE;
+
+    private final long[] taskIds;
+    private final long[] dueDates;
+    private final long[] durations;
+    private final DependencyGraph graph;
+    private final int[] order;
+    private final int[] taskOfNode;
+
+    /**
+     * @param taskIds every task of the project, sorted
+     * @param dueDates due date of each task, or {@link #NONE}
+     * @param graph the project's dependencies
+     * @throws IllegalArgumentException if the dependencies contain a cycle
+     */
+    CriticalPath(long[] taskIds, long[] dueDates, DependencyGraph graph) {
+        this.taskIds = taskIds;
+        this.dueDates = dueDates;
+        this.graph = graph;
+        this.order = graph.topologicalOrder();
+        if (order == null) {
+            throw new IllegalArgumentException("The project's task dependencies contain a cycle");
+        }
+
+        // Graph nodes and tasks are both sorted by ID, so one merge maps them
+        long[] nodeIds = graph.taskIds();
+        taskOfNode = new int[nodeIds.length];
+        int task = 0;
+        for (int node = 0; node < nodeIds.length; node++) {
+            while (task < taskIds.length && taskIds[task] < nodeIds[node]) {
+                task++;
+            }
+            taskOfNode[node] = task < taskIds.length && taskIds[task] == nodeIds[node] ? task : -1;
+        }
+
+        durations = new long[taskIds.length];
+        int[] offsets = graph.dependencyOffsets();
+        int[] dependencies = graph.dependencies();
+        for (int node = 0; node < nodeIds.length; node++) {
+            int t = taskOfNode[node];
+            if (t < 0 || dueDates[t] == NONE) {
+                continue;
+            }
+            long latestDependencyDue = NONE;
+            for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                int d = taskOfNode[dependencies[i]];
+                if (d >= 0) {
+                    latestDependencyDue = Math.max(latestDependencyDue, dueDates[d]);
+                }
+            }
+            if (latestDependencyDue != NONE) {
+                durations[t] = Math.max(0, dueDates[t] - latestDependencyDue);
+            }
+        }
+    }
+
+    int size() {
+        return taskIds.length;
+    }
+
+    /**
+     * Index of a task, or -1 if it is not part of the project.
+     */
+    int indexOf(long taskId) {
+        int index = Arrays.binarySearch(taskIds, taskId);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Run the forward and backward passes.
+     *
+     * @param delayedTask index of a task assumed to finish late, or -1
+     * @param delayDays days the task finishes after its computed finish
+     */
+    Result compute(int delayedTask, long delayDays) {
+        int n = taskIds.length;
+        long[] earliest = new long[n];
+        int[] via = new int[n];
+        int[] depth = new int[n];
+        for (int t = 0; t < n; t++) {
+            earliest[t] = dueDates[t] == NONE ? NONE : dueDates[t] + (t == delayedTask ? delayDays : 0);
+            via[t] = -1;
+            depth[t] = 1;
+        }
+
+        int[] dependencyOffsets = graph.dependencyOffsets();
+        int[] dependencies = graph.dependencies();
+        for (int node : order) {
+            int t = taskOfNode[node];
+            if (t < 0) {
+                continue;
+            }
+            long dependencyFinish = NONE;
+            int binding = -1;
+            for (int i = dependencyOffsets[node]; i < dependencyOffsets[node + 1]; i++) {
+                int d = taskOfNode[dependencies[i]];
+                if (d >= 0 && earliest[d] != NONE && earliest[d] > dependencyFinish) {
+                    dependencyFinish = earliest[d];
+                    binding = d;
+                }
+            }
+            if (dependencyFinish == NONE) {
+                continue;
+            }
+            long finish = dependencyFinish + durations[t] + (t == delayedTask ? delayDays : 0);
+            if (earliest[t] == NONE || finish >= earliest[t]) {
+                earliest[t] = finish;
+                via[t] = binding;
+                depth[t] = depth[binding] + 1;
+            }
+        }
+
+        long projectEnd = NONE;
+        int last = -1;
+        for (int t = 0; t < n; t++) {
+            if (earliest[t] != NONE && (earliest[t] > projectEnd || earliest[t] == projectEnd && depth[t] > depth[last])) {
+                projectEnd = earliest[t];
+                last = t;
+            }
+        }
+
+        long[] latest = new long[n];
+        for (int t = 0; t < n; t++) {
+            latest[t] = earliest[t] == NONE ? NONE : projectEnd;
+        }
+        int[] dependentOffsets = graph.dependentOffsets();
+        int[] dependents = graph.dependents();
+        for (int k = order.length - 1; k >= 0; k--) {
+            int node = order[k];
+            int t = taskOfNode[node];
+            if (t < 0 || latest[t] == NONE) {
+                continue;
+            }
+            for (int i = dependentOffsets[node]; i < dependentOffsets[node + 1]; i++) {
+                int s = taskOfNode[dependents[i]];
+                if (s >= 0 && latest[s] != NONE) {
+                    latest[t] = Math.min(latest[t], latest[s] - durations[s] - (s == delayedTask ? delayDays : 0));
+                }
+            }
+        }
+
+        int[] path = new int[last < 0 ? 0 : depth[last]];
+        for (int t = last, i = path.length - 1; t >= 0; t = via[t], i--) {
+            path[i] = t;
+        }
+        return new Result(earliest, latest, projectEnd, path);
+    }
+
+    long taskIdAt(int index) {
+        return taskIds[index];
+    }
+
+    long dueDateAt(int index) {
+        return dueDates[index];
+    }
+
+    /**
+     * Finish dates by task index; {@link #NONE} for tasks with no due date anywhere upstream.
+     *
+     * @param criticalPath task indexes from the first task of the chain to the one that ends the project
+     */
+    record Result(long[] earliestFinish, long[] latestFinish, long projectEnd, int[] criticalPath) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.ImportTaskRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 CSV with a header row. Column names are matched case-insensitively and
+ * ignoring underscores and spaces, so {@code due_date} and {@code Due Date} both map to {@code dueDate}.
+ * Unknown columns are ignored. {@code tags} and {@code dependsOn} hold {@code ;}-separated lists.
+ */
+class CsvTaskRowReader implements TaskRowReader {
+
+    private static final String LIST_SEPARATOR = ";";
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 1;
+    private boolean endOfInput;
+
+    CsvTaskRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(normalize(header.get(i)), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must contain a title column");
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        while (true) {
+            long start = line;
+            List<String> fields;
+            try {
+                fields = readRecord();
+            } catch (UnterminatedQuoteException e) {
+                return Row.failed(start, "Unterminated quoted field");
+            }
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            return Row.of(start, ImportTaskRow.builder()
+                    .ref(field(fields, "ref"))
+                    .title(field(fields, "title"))
+                    .description(field(fields, "description"))
+                    .dueDate(field(fields, "duedate"))
+                    .status(field(fields, "status"))
+                    .priority(field(fields, "priority"))
+                    .recurrencePattern(field(fields, "recurrencepattern"))
+                    .recurrenceEndDate(field(fields, "recurrenceenddate"))
+                    .tags(list(field(fields, "tags")))
+                    .dependsOn(list(field(fields, "dependson")))
+                    .build());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Read one record, which may span several lines when a quoted field contains line breaks.
+     *
+     * @return the fields, or null at the end of the input
+     */
+    private List<String> readRecord() throws IOException {
+        if (endOfInput) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+        while ((c = reader.read()) != -1) {
+            empty = false;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        endOfInput = true;
+        if (quoted) {
+            throw new UnterminatedQuoteException();
+        }
+        if (empty) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private static List<String> list(String value) {
+        return value == null ? null : Arrays.asList(value.split(LIST_SEPARATOR));
+    }
+
+    private static String normalize(String column) {
+        return column.replace("\uFEFF", "").replace("_", "").replace(" ", "").strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static class UnterminatedQuoteException extends IOException {
+    }
+}
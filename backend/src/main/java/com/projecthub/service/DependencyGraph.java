@@ -0,0 +1,285 @@
+package com.projecthub.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Immutable dependency graph of one project in compressed adjacency form.
+ * Only tasks that take part in at least one dependency are nodes. Node {@code i} is the task
+ * {@code taskIds[i]} (sorted, so lookups are a binary search); its dependencies are
+ * {@code dependencies[dependencyOffsets[i] .. dependencyOffsets[i + 1])} and its dependents
+ * are stored the same way. Traversals are breadth-first over int arrays and visit every node
+ * and edge at most once.
+ */
+public final class DependencyGraph {
+
+    private static final DependencyGraph EMPTY = new Builder().build();
+
+    private final long[] taskIds;
+    private final int[] dependencyOffsets;
+    private final int[] dependencies;
+    private final int[] dependentOffsets;
+    private final int[] dependents;
+    private volatile int[] topologicalOrder;
+
+    private DependencyGraph(long[] taskIds, int[] dependencyOffsets, int[] dependencies,
+                            int[] dependentOffsets, int[] dependents) {
+        this.taskIds = taskIds;
+        this.dependencyOffsets = dependencyOffsets;
+        this.dependencies = dependencies;
+        this.dependentOffsets = dependentOffsets;
+        this.dependents = dependents;
+    }
+
+    public static DependencyGraph empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Number of tasks with at least one dependency or dependent.
+     */
+    public int size() {
+        return taskIds.length;
+    }
+
+    public int edgeCount() {
+        return dependencies.length;
+    }
+
+    public boolean contains(long taskId) {
+        return indexOf(taskId) >= 0;
+    }
+
+    /**
+     * Direct dependencies of a task.
+     */
+    public List<Long> dependenciesOf(long taskId) {
+        return neighbours(taskId, dependencyOffsets, dependencies);
+    }
+
+    /**
+     * Tasks that directly depend on a task.
+     */
+    public List<Long> dependentsOf(long taskId) {
+        return neighbours(taskId, dependentOffsets, dependents);
+    }
+
+    /**
+     * All tasks a task depends on, directly or through other tasks.
+     */
+    public List<Long> transitiveDependencies(long taskId) {
+        return toIds(reachable(indexOf(taskId), dependencyOffsets, dependencies, -1));
+    }
+
+    /**
+     * All tasks that depend on a task, directly or through other tasks.
+     */
+    public List<Long> transitiveDependents(long taskId) {
+        return toIds(reachable(indexOf(taskId), dependentOffsets, dependents, -1));
+    }
+
+    /**
+     * Whether {@code taskId} depends on {@code otherId}, directly or through other tasks.
+     */
+    public boolean dependsOnTransitively(long taskId, long otherId) {
+        int target = indexOf(otherId);
+        return target >= 0 && reachable(indexOf(taskId), dependencyOffsets, dependencies, target).get(target);
+    }
+
+    /**
+     * Whether adding the edge "{@code taskId} depends on {@code dependsOnId}" would close a cycle,
+     * that is whether {@code dependsOnId} already depends on {@code taskId}.
+     */
+    public boolean wouldCreateCycle(long taskId, long dependsOnId) {
+        return taskId == dependsOnId || dependsOnTransitively(dependsOnId, taskId);
+    }
+
+    /**
+     * Nodes ordered so that every task comes after all of its dependencies (Kahn's algorithm, O(V+E)).
+     * Computed once per graph. The array is shared and must not be modified.
+     *
+     * @return node indexes, or null if the dependencies contain a cycle
+     */
+    int[] topologicalOrder() {
+        int[] order = topologicalOrder;
+        if (order == null) {
+            order = sortTopologically();
+            topologicalOrder = order;
+        }
+        return order.length == taskIds.length ? order : null;
+    }
+
+    /**
+     * Sorted task IDs by node index. Shared, must not be modified.
+     */
+    long[] taskIds() {
+        return taskIds;
+    }
+
+    /**
+     * Dependencies of node {@code i} are {@code dependencies()[dependencyOffsets()[i] .. dependencyOffsets()[i + 1])}.
+     */
+    int[] dependencyOffsets() {
+        return dependencyOffsets;
+    }
+
+    int[] dependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Dependents of node {@code i} are {@code dependents()[dependentOffsets()[i] .. dependentOffsets()[i + 1])}.
+     */
+    int[] dependentOffsets() {
+        return dependentOffsets;
+    }
+
+    int[] dependents() {
+        return dependents;
+    }
+
+    /**
+     * @return the sorted nodes; shorter than the node count when some nodes are on or behind a cycle
+     */
+    private int[] sortTopologically() {
+        int nodes = taskIds.length;
+        int[] remaining = new int[nodes];
+        int[] order = new int[nodes];
+        int tail = 0;
+        for (int node = 0; node < nodes; node++) {
+            remaining[node] = dependencyOffsets[node + 1] - dependencyOffsets[node];
+            if (remaining[node] == 0) {
+                order[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = order[head];
+            for (int i = dependentOffsets[node]; i < dependentOffsets[node + 1]; i++) {
+                if (--remaining[dependents[i]] == 0) {
+                    order[tail++] = dependents[i];
+                }
+            }
+        }
+        return tail == nodes ? order : Arrays.copyOf(order, tail);
+    }
+
+    private int indexOf(long taskId) {
+        int index = Arrays.binarySearch(taskIds, taskId);
+        return index >= 0 ? index : -1;
+    }
+
+    private List<Long> neighbours(long taskId, int[] offsets, int[] targets) {
+        int node = indexOf(taskId);
+        if (node < 0) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(offsets[node + 1] - offsets[node]);
+        for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+            ids.add(taskIds[targets[i]]);
+        }
+        return ids;
+    }
+
+    /**
+     * Breadth-first search from a node, excluding the node itself unless it is on a cycle.
+     *
+     * @param stopAt node at which to stop early, or -1 to visit everything reachable
+     */
+    private BitSet reachable(int start, int[] offsets, int[] targets, int stopAt) {
+        BitSet visited = new BitSet(taskIds.length);
+        if (start < 0) {
+            return visited;
+        }
+        int[] queue = new int[taskIds.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                int next = targets[i];
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    if (next == stopAt) {
+                        return visited;
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return visited;
+    }
+
+    private List<Long> toIds(BitSet nodes) {
+        List<Long> ids = new ArrayList<>(nodes.cardinality());
+        for (int node = nodes.nextSetBit(0); node >= 0; node = nodes.nextSetBit(node + 1)) {
+            ids.add(taskIds[node]);
+        }
+        return ids;
+    }
+
+    /**
+     * Collects edges into growable primitive arrays and builds the graph in O(V log V + E).
+     */
+    public static final class Builder {
+
+        private long[] from = new long[64];
+        private long[] to = new long[64];
+        private int edges;
+
+        /**
+         * Add the edge "{@code taskId} depends on {@code dependsOnId}".
+         */
+        public Builder addEdge(long taskId, long dependsOnId) {
+            if (edges == from.length) {
+                from = Arrays.copyOf(from, edges * 2);
+                to = Arrays.copyOf(to, edges * 2);
+            }
+            from[edges] = taskId;
+            to[edges] = dependsOnId;
+            edges++;
+            return this;
+        }
+
+        public DependencyGraph build() {
+            long[] ids = new long[edges * 2];
+            System.arraycopy(from, 0, ids, 0, edges);
+            System.arraycopy(to, 0, ids, edges, edges);
+            Arrays.sort(ids);
+            int nodes = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[nodes++] = ids[i];
+                }
+            }
+            long[] taskIds = Arrays.copyOf(ids, nodes);
+
+            int[] source = new int[edges];
+            int[] target = new int[edges];
+            int[] dependencyOffsets = new int[nodes + 1];
+            int[] dependentOffsets = new int[nodes + 1];
+            for (int i = 0; i < edges; i++) {
+                source[i] = Arrays.binarySearch(taskIds, from[i]);
+                target[i] = Arrays.binarySearch(taskIds, to[i]);
+                dependencyOffsets[source[i] + 1]++;
+                dependentOffsets[target[i] + 1]++;
+            }
+            for (int i = 0; i < nodes; i++) {
+                dependencyOffsets[i + 1] += dependencyOffsets[i];
+                dependentOffsets[i + 1] += dependentOffsets[i];
+            }
+
+            int[] dependencies = new int[edges];
+            int[] dependents = new int[edges];
+            int[] nextDependency = Arrays.copyOf(dependencyOffsets, nodes);
+            int[] nextDependent = Arrays.copyOf(dependentOffsets, nodes);
+            for (int i = 0; i < edges; i++) {
+                dependencies[nextDependency[source[i]]++] = target[i];
+                dependents[nextDependent[target[i]]++] = source[i];
+            }
+            return new DependencyGraph(taskIds, dependencyOffsets, dependencies, dependentOffsets, dependents);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.DependencyClosureResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.repository.TaskDependencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for task dependencies, backed by an in-memory {@link DependencyGraph} per project.
+ * A graph is loaded with one query on first use and dropped once a transaction that changes
+ * the project's dependencies commits; other nodes are told through the {@link CacheInvalidationBus}.
+ * New edges are checked for cycles against a graph read while holding the project lock, so the check
+ * never relies on a stale cache.
+ */
+@Service
+@Slf4j
+public class DependencyGraphService {
+
+    static final String CHANNEL = "dependency_graphs";
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final ProjectMemberService projectMemberService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LoadingCache<Long, DependencyGraph> graphs;
+
+    public DependencyGraphService(TaskDependencyRepository taskDependencyRepository,
+                                  ProjectMemberService projectMemberService,
+                                  CacheInvalidationBus cacheInvalidationBus,
+                                  @Value("${app.dependency-graph.max-projects:1000}") int maxProjects) {
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.projectMemberService = projectMemberService;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.graphs = new LoadingCache<>(maxProjects);
+        cacheInvalidationBus.subscribe(CHANNEL, this::invalidate);
+    }
+
+    /**
+     * Get the dependency graph of a project, loading it if it is not cached.
+     */
+    public DependencyGraph getGraph(Long projectId) {
+        return graphs.get(projectId, this::loadGraph);
+    }
+
+    /**
+     * Drop the cached graphs of projects once the current transaction commits,
+     * or right away when there is no transaction.
+     */
+    public void invalidateAfterCommit(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        cacheInvalidationBus.publish(CHANNEL, projectIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(projectIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(projectIds);
+            }
+        });
+    }
+
+    private void invalidate(Collection<Long> projectIds) {
+        projectIds.forEach(graphs::invalidate);
+    }
+
+    /**
+     * Drop the graph of a project changed on another node, or of every project if null.
+     */
+    private void invalidate(Long projectId) {
+        if (projectId == null) {
+            graphs.invalidateAll();
+        } else {
+            graphs.invalidate(projectId);
+        }
+    }
+
+    /**
+     * Make a task depend on another task of the same project.
+     *
+     * @throws IllegalArgumentException if the tasks are in different projects or the edge would create a cycle
+     */
+    @Transactional
+    public void addDependency(Long taskId, Long dependsOnId, Long userId) {
+        if (taskId.equals(dependsOnId)) {
+            throw new IllegalArgumentException("A task cannot depend on itself");
+        }
+        Long projectId = findAccessibleProject(taskId, dependsOnId, userId);
+
+        taskDependencyRepository.lockProject(projectId);
+        if (loadGraph(projectId).wouldCreateCycle(taskId, dependsOnId)) {
+            throw new IllegalArgumentException(
+                    "Task " + dependsOnId + " already depends on task " + taskId + "; this dependency would create a cycle");
+        }
+
+        if (taskDependencyRepository.insert(taskId, dependsOnId)) {
+            invalidateAfterCommit(List.of(projectId));
+            log.info("Task {} now depends on task {}", taskId, dependsOnId);
+        }
+    }
+
+    /**
+     * Remove a dependency between two tasks.
+     */
+    @Transactional
+    public void removeDependency(Long taskId, Long dependsOnId, Long userId) {
+        Long projectId = findAccessibleProject(taskId, dependsOnId, userId);
+
+        if (taskDependencyRepository.delete(taskId, dependsOnId)) {
+            invalidateAfterCommit(List.of(projectId));
+            log.info("Task {} no longer depends on task {}", taskId, dependsOnId);
+        }
+    }
+
+    /**
+     * Get every task a task depends on and every task waiting for it, directly or transitively.
+     */
+    public DependencyClosureResponse getClosure(Long taskId, Long userId) {
+        Long projectId = taskDependencyRepository.findProjectIds(List.of(taskId)).get(taskId);
+        if (projectId == null) {
+            throw new NotFoundException("Task", "id", taskId);
+        }
+        if (!projectMemberService.isMember(projectId, userId)) {
+            throw new IllegalArgumentException("You don't have access to this project");
+        }
+
+        DependencyGraph graph = getGraph(projectId);
+        return DependencyClosureResponse.builder()
+                .taskId(taskId)
+                .dependsOnIds(graph.transitiveDependencies(taskId))
+                .blockedByIds(graph.transitiveDependents(taskId))
+                .build();
+    }
+
+    private Long findAccessibleProject(Long taskId, Long dependsOnId, Long userId) {
+        Map<Long, Long> projectIds = taskDependencyRepository.findProjectIds(List.of(taskId, dependsOnId));
+        Long projectId = projectIds.get(taskId);
+        if (projectId == null) {
+            throw new NotFoundException("Task", "id", taskId);
+        }
+        if (!projectIds.containsKey(dependsOnId)) {
+            throw new NotFoundException("Task", "id", dependsOnId);
+        }
+        if (!projectMemberService.isMember(projectId, userId)) {
+            throw new IllegalArgumentException("You don't have access to this project");
+        }
+        if (!projectId.equals(projectIds.get(dependsOnId))) {
+            throw new IllegalArgumentException("A task can only depend on tasks of the same project");
+        }
+        return projectId;
+    }
+
+    private DependencyGraph loadGraph(Long projectId) {
+        DependencyGraph.Builder builder = new DependencyGraph.Builder();
+        taskDependencyRepository.forEachDependency(projectId, builder::addEdge);
+        DependencyGraph graph = builder.build();
+        log.debug("Loaded dependency graph of project {}: {} tasks, {} edges", projectId, graph.size(), graph.edgeCount());
+        return graph;
+    }
+}
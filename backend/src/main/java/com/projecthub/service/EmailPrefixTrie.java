@@ -0,0 +1,155 @@
+package com.projecthub.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Radix tree of user emails for type-ahead, case-insensitive.
+ * Edges carry whole runs of characters, so addresses sharing a domain or a name share their nodes,
+ * and a lookup walks at most one node per edge of the prefix. Completions come out in
+ * alphabetical order and the walk stops at the limit. Not thread-safe.
+ */
+class EmailPrefixTrie {
+
+    record Entry(long id, String email) {
+    }
+
+    private static final class Node {
+        private String[] labels = new String[0];
+        private Node[] children = new Node[0];
+        /** Users whose lowercased email ends here; more than one only if emails differ by case. */
+        private Entry[] entries;
+
+        int find(char first) {
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = labels[mid].charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insert(int at, String label, Node child) {
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(labels, at, labels, at + 1, labels.length - at - 1);
+            System.arraycopy(children, at, children, at + 1, children.length - at - 1);
+            labels[at] = label;
+            children[at] = child;
+        }
+    }
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Add a user, or update the email of a user already added under the same address.
+     */
+    void add(long id, String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int at = node.find(key.charAt(i));
+            if (at < 0) {
+                Node leaf = new Node();
+                node.insert(-at - 1, key.substring(i), leaf);
+                node = leaf;
+                break;
+            }
+            String label = node.labels[at];
+            int common = commonPrefix(label, key, i);
+            if (common < label.length()) {
+                // Split the edge where the key leaves it
+                Node middle = new Node();
+                middle.labels = new String[]{label.substring(common)};
+                middle.children = new Node[]{node.children[at]};
+                node.labels[at] = label.substring(0, common);
+                node.children[at] = middle;
+            }
+            node = node.children[at];
+            i += common;
+        }
+
+        Entry entry = new Entry(id, email);
+        if (node.entries == null) {
+            node.entries = new Entry[]{entry};
+            size++;
+            return;
+        }
+        for (int e = 0; e < node.entries.length; e++) {
+            if (node.entries[e].id() == id) {
+                node.entries[e] = entry;
+                return;
+            }
+        }
+        node.entries = Arrays.copyOf(node.entries, node.entries.length + 1);
+        node.entries[node.entries.length - 1] = entry;
+        size++;
+    }
+
+    /**
+     * Users whose email starts with a prefix, ignoring case, in alphabetical order.
+     */
+    List<Entry> complete(String prefix, int limit) {
+        String key = prefix.toLowerCase(Locale.ROOT);
+        List<Entry> result = new ArrayList<>(Math.min(limit, 16));
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int at = node.find(key.charAt(i));
+            if (at < 0) {
+                return result;
+            }
+            String label = node.labels[at];
+            int common = commonPrefix(label, key, i);
+            if (common < label.length() && i + common < key.length()) {
+                return result;
+            }
+            node = node.children[at];
+            i += common;
+        }
+        collect(node, result, limit);
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static void collect(Node node, List<Entry> result, int limit) {
+        if (node.entries != null) {
+            for (Entry entry : node.entries) {
+                if (result.size() == limit) {
+                    return;
+                }
+                result.add(entry);
+            }
+        }
+        for (Node child : node.children) {
+            if (result.size() == limit) {
+                return;
+            }
+            collect(child, result, limit);
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int from) {
+        int max = Math.min(label.length(), key.length() - from);
+        int common = 0;
+        while (common < max && label.charAt(common) == key.charAt(from + common)) {
+            common++;
+        }
+        return common;
+    }
+}
@@ -0,0 +1,324 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.CumulativeFlowResponse;
+import com.projecthub.dto.CycleTimeResponse;
+import com.projecthub.dto.ThroughputResponse;
+import com.projecthub.exception.UnauthorizedException;
+import com.projecthub.model.ProjectFlowRollup;
+import com.projecthub.model.Task;
+import com.projecthub.model.TaskStatus;
+import com.projecthub.repository.ProjectFlowRollupRepository;
+import com.projecthub.repository.TaskStatusTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service recording task status transitions and serving flow analytics
+ * (cycle time, throughput and cumulative flow) from daily rollups.
+ * Rollups are updated as transitions are recorded, so reads never scan the transition log.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlowAnalyticsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_TRANSITION_SQL =
+            "INSERT INTO task_status_transitions (task_id, project_id, from_status, to_status, transitioned_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final TaskStatusTransitionRepository transitionRepository;
+    private final ProjectFlowRollupRepository rollupRepository;
+    private final ProjectMemberService projectMemberService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A single status change of a task. {@code from} is null for newly created tasks.
+     */
+    public record StatusChange(Long taskId, Long projectId, TaskStatus from, TaskStatus to, LocalDateTime createdAt) {
+
+        public static StatusChange of(Task task, TaskStatus from) {
+            return new StatusChange(task.getId(), task.getProject().getId(), from, task.getStatus(), task.getCreatedAt());
+        }
+    }
+
+    /**
+     * Record the creation of a task in its initial status.
+     */
+    @Transactional
+    public void recordCreated(Task task) {
+        recordTransitions(List.of(StatusChange.of(task, null)));
+    }
+
+    /**
+     * Record a task moving from {@code from} to its current status.
+     * Does nothing if the status did not change.
+     */
+    @Transactional
+    public void recordTransition(Task task, TaskStatus from) {
+        if (from == task.getStatus()) {
+            return;
+        }
+        recordTransitions(List.of(StatusChange.of(task, from)));
+    }
+
+    /**
+     * Append a batch of status changes to the log and fold them into the daily rollups.
+     */
+    @Transactional
+    public void recordTransitions(List<StatusChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        // The log is append-only, so it is written with plain JDBC batches instead of managed entities
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, changes, INSERT_BATCH_SIZE, (ps, change) -> {
+            ps.setLong(1, change.taskId());
+            ps.setLong(2, change.projectId());
+            ps.setString(3, change.from() != null ? change.from().name() : null);
+            ps.setString(4, change.to().name());
+            ps.setTimestamp(5, Timestamp.valueOf(now));
+        });
+
+        // Start times are only needed to compute cycle time of completed tasks
+        List<Long> completedIds = changes.stream()
+                .filter(change -> change.to() == TaskStatus.DONE)
+                .map(StatusChange::taskId)
+                .collect(Collectors.toList());
+        Map<Long, LocalDateTime> startTimes = completedIds.isEmpty()
+                ? Map.of()
+                : transitionRepository.findStartTimes(completedIds).stream()
+                        .collect(Collectors.toMap(
+                                TaskStatusTransitionRepository.TaskStart::getTaskId,
+                                TaskStatusTransitionRepository.TaskStart::getStartedAt));
+
+        Map<ProjectFlowRollup.Key, ProjectFlowRollup> deltas = new LinkedHashMap<>();
+        for (StatusChange change : changes) {
+            if (change.from() != null) {
+                ProjectFlowRollup exited = delta(deltas, change.projectId(), today, change.from());
+                exited.setExited(exited.getExited() + 1);
+            }
+
+            ProjectFlowRollup entered = delta(deltas, change.projectId(), today, change.to());
+            entered.setEntered(entered.getEntered() + 1);
+
+            if (change.to() == TaskStatus.DONE) {
+                if (change.createdAt() != null) {
+                    entered.setLeadTimeSeconds(entered.getLeadTimeSeconds() + secondsBetween(change.createdAt(), now));
+                }
+                LocalDateTime startedAt = startTimes.get(change.taskId());
+                if (startedAt != null) {
+                    entered.setCycleTimeSeconds(entered.getCycleTimeSeconds() + secondsBetween(startedAt, now));
+                    entered.setCycleSamples(entered.getCycleSamples() + 1);
+                }
+            }
+        }
+
+        deltas.values().forEach(this::upsert);
+        log.debug("Recorded {} status transitions into {} rollup rows", changes.size(), deltas.size());
+    }
+
+    /**
+     * Record tasks leaving the board because they were deleted.
+     *
+     * @param projectId project ID
+     * @param removedByStatus number of deleted tasks per status they were in
+     */
+    @Transactional
+    public void recordRemovals(Long projectId, Map<TaskStatus, Long> removedByStatus) {
+        LocalDate today = LocalDate.now();
+        removedByStatus.forEach((status, count) -> {
+            if (count > 0) {
+                upsert(ProjectFlowRollup.builder()
+                        .projectId(projectId)
+                        .bucketDate(today)
+                        .status(status)
+                        .exited(count)
+                        .build());
+            }
+        });
+    }
+
+    /**
+     * Get average cycle and lead time of tasks completed in a date range.
+     */
+    @Transactional(readOnly = true)
+    public CycleTimeResponse getCycleTime(Long projectId, LocalDate from, LocalDate to, Long userId) {
+        verifyIsMember(projectId, userId);
+        DateRange range = DateRange.of(from, to);
+
+        List<ProjectFlowRollup> doneRows = rollupRepository
+                .findByProjectIdAndBucketDateBetweenOrderByBucketDate(projectId, range.from(), range.to())
+                .stream()
+                .filter(row -> row.getStatus() == TaskStatus.DONE && row.getEntered() > 0)
+                .collect(Collectors.toList());
+
+        long completed = 0;
+        long cycleSeconds = 0;
+        long cycleSamples = 0;
+        long leadSeconds = 0;
+        List<CycleTimeResponse.DailyCycleTime> daily = new ArrayList<>();
+        for (ProjectFlowRollup row : doneRows) {
+            completed += row.getEntered();
+            cycleSeconds += row.getCycleTimeSeconds();
+            cycleSamples += row.getCycleSamples();
+            leadSeconds += row.getLeadTimeSeconds();
+            daily.add(CycleTimeResponse.DailyCycleTime.builder()
+                    .date(row.getBucketDate())
+                    .completedTasks(row.getEntered())
+                    .averageCycleTimeHours(averageHours(row.getCycleTimeSeconds(), row.getCycleSamples()))
+                    .averageLeadTimeHours(averageHours(row.getLeadTimeSeconds(), row.getEntered()))
+                    .build());
+        }
+
+        return CycleTimeResponse.builder()
+                .projectId(projectId)
+                .from(range.from())
+                .to(range.to())
+                .completedTasks(completed)
+                .averageCycleTimeHours(averageHours(cycleSeconds, cycleSamples))
+                .averageLeadTimeHours(averageHours(leadSeconds, completed))
+                .daily(daily)
+                .build();
+    }
+
+    /**
+     * Get the number of tasks completed per day in a date range.
+     */
+    @Transactional(readOnly = true)
+    public ThroughputResponse getThroughput(Long projectId, LocalDate from, LocalDate to, Long userId) {
+        verifyIsMember(projectId, userId);
+        DateRange range = DateRange.of(from, to);
+
+        Map<LocalDate, Long> perDay = new TreeMap<>();
+        for (LocalDate day = range.from(); !day.isAfter(range.to()); day = day.plusDays(1)) {
+            perDay.put(day, 0L);
+        }
+
+        long total = 0;
+        for (ProjectFlowRollup row : rollupRepository
+                .findByProjectIdAndBucketDateBetweenOrderByBucketDate(projectId, range.from(), range.to())) {
+            if (row.getStatus() == TaskStatus.DONE) {
+                perDay.merge(row.getBucketDate(), row.getEntered(), Long::sum);
+                total += row.getEntered();
+            }
+        }
+
+        return ThroughputResponse.builder()
+                .projectId(projectId)
+                .from(range.from())
+                .to(range.to())
+                .totalCompleted(total)
+                .completedPerDay(perDay)
+                .build();
+    }
+
+    /**
+     * Get the number of tasks in each status at the end of every day in a date range.
+     * The counts before the range are summed in the database, the range itself is replayed in memory.
+     */
+    @Transactional(readOnly = true)
+    public CumulativeFlowResponse getCumulativeFlow(Long projectId, LocalDate from, LocalDate to, Long userId) {
+        verifyIsMember(projectId, userId);
+        DateRange range = DateRange.of(from, to);
+
+        Map<TaskStatus, Long> running = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            running.put(status, 0L);
+        }
+        rollupRepository.sumNetCountsBefore(projectId, range.from())
+                .forEach(row -> running.put(row.getStatus(), row.getCount()));
+
+        Map<LocalDate, List<ProjectFlowRollup>> rowsByDay = rollupRepository
+                .findByProjectIdAndBucketDateBetweenOrderByBucketDate(projectId, range.from(), range.to())
+                .stream()
+                .collect(Collectors.groupingBy(ProjectFlowRollup::getBucketDate));
+
+        Map<LocalDate, Map<TaskStatus, Long>> days = new TreeMap<>();
+        for (LocalDate day = range.from(); !day.isAfter(range.to()); day = day.plusDays(1)) {
+            for (ProjectFlowRollup row : rowsByDay.getOrDefault(day, List.of())) {
+                running.merge(row.getStatus(), row.getEntered() - row.getExited(), Long::sum);
+            }
+            days.put(day, new EnumMap<>(running));
+        }
+
+        return CumulativeFlowResponse.builder()
+                .projectId(projectId)
+                .from(range.from())
+                .to(range.to())
+                .days(days)
+                .build();
+    }
+
+    private ProjectFlowRollup delta(Map<ProjectFlowRollup.Key, ProjectFlowRollup> deltas,
+                                    Long projectId, LocalDate day, TaskStatus status) {
+        return deltas.computeIfAbsent(new ProjectFlowRollup.Key(projectId, day, status),
+                key -> ProjectFlowRollup.builder()
+                        .projectId(projectId)
+                        .bucketDate(day)
+                        .status(status)
+                        .build());
+    }
+
+    private void upsert(ProjectFlowRollup delta) {
+        rollupRepository.upsert(
+                delta.getProjectId(),
+                delta.getBucketDate(),
+                delta.getStatus().name(),
+                delta.getEntered(),
+                delta.getExited(),
+                delta.getCycleTimeSeconds(),
+                delta.getCycleSamples(),
+                delta.getLeadTimeSeconds());
+    }
+
+    private void verifyIsMember(Long projectId, Long userId) {
+        if (!projectMemberService.isMember(projectId, userId)) {
+            throw new UnauthorizedException("You don't have access to this project");
+        }
+    }
+
+    private static long secondsBetween(LocalDateTime start, LocalDateTime end) {
+        return Math.max(0, Duration.between(start, end).getSeconds());
+    }
+
+    private static Double averageHours(long totalSeconds, long samples) {
+        if (samples == 0) {
+            return null;
+        }
+        return Math.round(totalSeconds / 3600.0 / samples * 100.0) / 100.0;
+    }
+
+    /**
+     * Inclusive date range, defaulting to the last 30 days.
+     */
+    private record DateRange(LocalDate from, LocalDate to) {
+
+        static DateRange of(LocalDate from, LocalDate to) {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+            if (start.isAfter(end)) {
+                throw new IllegalArgumentException("'from' must not be after 'to'");
+            }
+            if (start.plusDays(MAX_RANGE_DAYS).isBefore(end)) {
+                throw new IllegalArgumentException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+            }
+            return new DateRange(start, end);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.projecthub.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal iCalendar (RFC 5545) writer for all-day events.
+ * Escapes text values and folds content lines longer than 75 octets.
+ */
+final class IcsWriter {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+
+    IcsWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    void beginCalendar(String name) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//ProjectHub//Calendar//EN");
+        line("CALSCALE:GREGORIAN");
+        line("X-WR-CALNAME:" + escape(name));
+    }
+
+    /**
+     * @param stamp last change of the event, in UTC
+     */
+    void event(String uid, LocalDateTime stamp, LocalDate date, String summary) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid);
+        line("DTSTAMP:" + TIMESTAMP.format(stamp));
+        line("DTSTART;VALUE=DATE:" + DATE.format(date));
+        line("DTEND;VALUE=DATE:" + DATE.format(date.plusDays(1)));
+        line("SUMMARY:" + escape(summary));
+        line("END:VEVENT");
+    }
+
+    void endCalendar() throws IOException {
+        line("END:VCALENDAR");
+        writer.flush();
+    }
+
+    private void line(String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : 3;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(c);
+            if (size == 4 && i + 1 < line.length()) {
+                writer.write(line.charAt(++i));
+            }
+            octets += size;
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
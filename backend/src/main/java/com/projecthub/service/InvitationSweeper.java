@@ -0,0 +1,79 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.InvitationSweepRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Keeps project invitations from growing without bound.
+ * Every run expires pending invitations past their expiry date, then deletes declined, cancelled
+ * and expired ones once they are older than the retention period. Work is done in small batches
+ * that each commit on their own, so a large backlog never holds locks for long.
+ */
+@Service
+@Slf4j
+public class InvitationSweeper {
+
+    private final InvitationSweepRepository invitationSweepRepository;
+    private final PendingInvitationCounter pendingInvitationCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration retention;
+    private final int batchSize;
+
+    public InvitationSweeper(InvitationSweepRepository invitationSweepRepository,
+                             PendingInvitationCounter pendingInvitationCounter,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${app.invitations.ttl:P14D}") Duration ttl,
+                             @Value("${app.invitations.retention:P30D}") Duration retention,
+                             @Value("${app.invitations.sweep-batch-size:500}") int batchSize) {
+        this.invitationSweepRepository = invitationSweepRepository;
+        this.pendingInvitationCounter = pendingInvitationCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Expire and purge everything that is due. Safe to run on several nodes at once.
+     */
+    @Scheduled(fixedDelayString = "${app.invitations.sweep-interval:PT10M}",
+               initialDelayString = "${app.invitations.sweep-initial-delay:PT2M}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int backfilled = inBatches(() -> invitationSweepRepository.setMissingExpiry(ttl, batchSize));
+        int expired = inBatches(() -> {
+            List<Long> invitees = invitationSweepRepository.expireDue(now, batchSize);
+            pendingInvitationCounter.invalidateAfterCommit(invitees);
+            return invitees.size();
+        });
+        int purged = inBatches(() -> invitationSweepRepository.purgeClosedBefore(now.minus(retention), batchSize));
+        if (backfilled + expired + purged > 0) {
+            log.info("Invitation sweep: {} given an expiry date, {} expired, {} purged", backfilled, expired, purged);
+        }
+    }
+
+    /**
+     * Run a batch in its own transaction until one comes back short.
+     *
+     * @return total rows handled
+     */
+    private int inBatches(IntSupplier batch) {
+        int total = 0;
+        int count;
+        do {
+            count = transactionTemplate.execute(status -> batch.getAsInt());
+            total += count;
+        } while (count == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,72 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.InviteCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Cache of which project each invite code belongs to, so a crowd joining with one shared code reads
+ * it from the database once: concurrent misses of a code wait for a single load. Unknown codes are
+ * not cached. A project's code is dropped once a transaction that changes it commits; other nodes
+ * are told through the {@link CacheInvalidationBus}.
+ */
+@Service
+@Slf4j
+public class InviteCodeCache {
+
+    static final String CHANNEL = "invite_codes";
+
+    private final InviteCodeRepository inviteCodeRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LoadingCache<String, Long> projectIds;
+
+    public InviteCodeCache(InviteCodeRepository inviteCodeRepository,
+                           CacheInvalidationBus cacheInvalidationBus,
+                           @Value("${app.invitations.cached-codes:10000}") int maxCodes) {
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.projectIds = new LoadingCache<>(maxCodes);
+        cacheInvalidationBus.subscribe(CHANNEL, this::invalidate);
+    }
+
+    /**
+     * Project that currently has an invite code, if any.
+     */
+    public Optional<Long> findProjectId(String inviteCode) {
+        return Optional.ofNullable(projectIds.get(inviteCode,
+                code -> inviteCodeRepository.findProjectId(code).orElse(null)));
+    }
+
+    /**
+     * Drop the code of a project once the current transaction commits, or right away when there is none.
+     */
+    public void codeChangedAfterCommit(Long projectId) {
+        cacheInvalidationBus.publish(CHANNEL, projectId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(projectId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(projectId);
+            }
+        });
+    }
+
+    /**
+     * Drop the code of a project, or of every project if null.
+     */
+    private void invalidate(Long projectId) {
+        if (projectId == null) {
+            projectIds.invalidateAll();
+        } else {
+            projectIds.invalidateValues(projectId::equals);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.InviteCodeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Invite codes that never collide: each is the next value of a database sequence, scrambled by a
+ * keyed permutation of 40-bit numbers and written as 8 Crockford base32 characters. Distinct values
+ * give distinct codes, so no lookup is needed, and without the key consecutive codes look unrelated.
+ * The permutation is an 8-round balanced Feistel network over two 20-bit halves, whose round keys are
+ * derived from {@code app.invitations.code-key}; changing the key changes codes issued afterwards only.
+ */
+@Service
+public class InviteCodeGenerator {
+
+    static final int CODE_LENGTH = 8;
+
+    /** Crockford's alphabet: digits and letters without I, L, O and U, so codes read back unambiguously. */
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int HALF_BITS = 20;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final long CODE_SPACE = 1L << (2 * HALF_BITS);
+    private static final int ROUNDS = 8;
+
+    private final InviteCodeRepository inviteCodeRepository;
+    private final long[] roundKeys;
+
+    public InviteCodeGenerator(InviteCodeRepository inviteCodeRepository,
+                               @Value("${app.invitations.code-key}") String key) {
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.roundKeys = roundKeys(key);
+    }
+
+    /**
+     * A code no other call has returned.
+     */
+    public String next() {
+        return encode(inviteCodeRepository.nextCodeValue());
+    }
+
+    /**
+     * Code of a sequence value; distinct values below 2^40 give distinct codes.
+     */
+    String encode(long value) {
+        if (value < 0 || value >= CODE_SPACE) {
+            throw new IllegalStateException("Invite codes are exhausted");
+        }
+        long permuted = permute(value);
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) (permuted & 31)];
+            permuted >>>= 5;
+        }
+        return new String(code);
+    }
+
+    private long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long roundKey : roundKeys) {
+            long next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static long round(long half, long roundKey) {
+        long k = half ^ roundKey;
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb93e53fe7a63L;
+        k ^= k >>> 33;
+        return k & HALF_MASK;
+    }
+
+    private static long[] roundKeys(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalStateException("app.invitations.code-key must be set");
+        }
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-512")
+                    .digest(key.getBytes(StandardCharsets.UTF_8)));
+            long[] keys = new long[ROUNDS];
+            for (int i = 0; i < ROUNDS; i++) {
+                keys[i] = digest.getLong();
+            }
+            return keys;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-512 is not available", e);
+        }
+    }
+}
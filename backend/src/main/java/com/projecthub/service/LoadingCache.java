@@ -0,0 +1,111 @@
+package com.projecthub.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Least recently used cache that loads missing entries, behind the per-project and per-user caches.
+ * Concurrent misses of a key wait for a single load. A load that overlaps an invalidation of its key
+ * may have read data from before the change, so its value is returned but not cached. Null values are
+ * never cached. Thread-safe; loads run without holding the lock.
+ */
+final class LoadingCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    /** Loads in progress; forgotten when their key is invalidated, so later misses load again. */
+    private final Map<K, CompletableFuture<V>> loads = new HashMap<>();
+
+    LoadingCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * The value of a key, loaded with {@code loader} on a miss.
+     */
+    V get(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> load;
+        boolean waiting;
+        synchronized (this) {
+            V value = entries.get(key);
+            if (value != null) {
+                return value;
+            }
+            load = loads.get(key);
+            waiting = load != null;
+            if (!waiting) {
+                load = new CompletableFuture<>();
+                loads.put(key, load);
+            }
+        }
+        if (waiting) {
+            try {
+                return load.join();
+            } catch (CompletionException e) {
+                // That load failed; try on our own
+                return loader.apply(key);
+            }
+        }
+
+        V value = null;
+        boolean loaded = false;
+        try {
+            value = loader.apply(key);
+            loaded = true;
+            return value;
+        } finally {
+            synchronized (this) {
+                if (loads.remove(key, load) && loaded && value != null) {
+                    entries.put(key, value);
+                }
+            }
+            if (loaded) {
+                load.complete(value);
+            } else {
+                load.completeExceptionally(new IllegalStateException("Loading " + key + " failed"));
+            }
+        }
+    }
+
+    /**
+     * Note that the data of a key changed, for values updated in place: a load in progress is not
+     * cached, and the cached value is returned, or null if there is none.
+     */
+    synchronized V changed(K key) {
+        loads.remove(key);
+        return entries.get(key);
+    }
+
+    synchronized void invalidate(K key) {
+        loads.remove(key);
+        entries.remove(key);
+    }
+
+    /**
+     * Drop the entries whose value matches. No load in progress is cached, as their values are not known yet.
+     */
+    synchronized void invalidateValues(Predicate<? super V> predicate) {
+        loads.clear();
+        entries.values().removeIf(predicate);
+    }
+
+    synchronized void invalidateAll() {
+        loads.clear();
+        entries.clear();
+    }
+
+    synchronized List<K> keys() {
+        return List.copyOf(entries.keySet());
+    }
+}
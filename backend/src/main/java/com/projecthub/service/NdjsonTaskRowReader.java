@@ -0,0 +1,45 @@
+package com.projecthub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecthub.dto.ImportTaskRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads one JSON object per line. Blank lines are skipped and a malformed line only rejects that row.
+ */
+class NdjsonTaskRowReader implements TaskRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    NdjsonTaskRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return Row.of(line, objectMapper.readValue(text, ImportTaskRow.class));
+            } catch (JsonProcessingException e) {
+                return Row.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
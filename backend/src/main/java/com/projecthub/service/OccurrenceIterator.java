@@ -0,0 +1,49 @@
+package com.projecthub.service;
+
+import com.projecthub.model.RecurrencePattern;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily yields the occurrences of a recurring series that fall inside a date range.
+ * Jumps to the first occurrence in the range in constant time, then computes one date per call,
+ * so a series costs nothing outside the requested window however long ago it started.
+ */
+final class OccurrenceIterator implements Iterator<LocalDate> {
+
+    private final RecurrencePattern pattern;
+    private final LocalDate start;
+    private final LocalDate to;
+    private long index;
+    private LocalDate next;
+
+    /**
+     * @param start first occurrence of the series
+     * @param from first date of the range, inclusive
+     * @param to last date of the range, inclusive
+     */
+    OccurrenceIterator(RecurrencePattern pattern, LocalDate start, LocalDate from, LocalDate to) {
+        this.pattern = pattern;
+        this.start = start;
+        this.to = to;
+        this.index = pattern.firstIndexOnOrAfter(start, from);
+        this.next = pattern.occurrence(start, index);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !next.isAfter(to);
+    }
+
+    @Override
+    public LocalDate next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        LocalDate date = next;
+        next = pattern.occurrence(start, ++index);
+        return date;
+    }
+}
@@ -0,0 +1,77 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.ProjectInvitationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cache of each user's number of pending invitations, for the badge the UI polls.
+ * A count is read with one indexed query on first use and dropped once a transaction that invites,
+ * accepts, declines, cancels or expires one of the user's invitations commits. Other nodes are told
+ * through the {@link CacheInvalidationBus}.
+ */
+@Service
+@Slf4j
+public class PendingInvitationCounter {
+
+    static final String CHANNEL = "pending_invitations";
+
+    private final ProjectInvitationRepository invitationRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LoadingCache<Long, Long> counts;
+
+    public PendingInvitationCounter(ProjectInvitationRepository invitationRepository,
+                                    CacheInvalidationBus cacheInvalidationBus,
+                                    @Value("${app.invitations.cached-counts:10000}") int maxUsers) {
+        this.invitationRepository = invitationRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.counts = new LoadingCache<>(maxUsers);
+        cacheInvalidationBus.subscribe(CHANNEL, this::invalidate);
+    }
+
+    /**
+     * Number of pending invitations of a user that have not expired.
+     */
+    public long getCount(Long userId) {
+        return counts.get(userId, id -> invitationRepository.countPending(id, LocalDateTime.now()));
+    }
+
+    /**
+     * Drop the counts of users once the current transaction commits, or right away when there is none.
+     */
+    public void invalidateAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        cacheInvalidationBus.publish(CHANNEL, userIds);
+        List<Long> ids = List.copyOf(userIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(this::invalidate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(PendingInvitationCounter.this::invalidate);
+            }
+        });
+    }
+
+    /**
+     * Drop the count of a user, or of every user if null.
+     */
+    private void invalidate(Long userId) {
+        if (userId == null) {
+            counts.invalidateAll();
+        } else {
+            counts.invalidate(userId);
+        }
+    }
+}
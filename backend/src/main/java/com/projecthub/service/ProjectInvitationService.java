@@ -1,35 +1,80 @@
 package com.projecthub.service;
 
+import com.projecthub.dto.BulkInviteRequest;
+import com.projecthub.dto.BulkInviteResponse;
 import com.projecthub.dto.InvitationDTO;
+import com.projecthub.dto.InviteCodeRequest;
+import com.projecthub.dto.InviteCodeResponse;
 import com.projecthub.dto.InviteUserRequest;
 import com.projecthub.model.*;
+import com.projecthub.repository.InvitationBulkRepository;
+import com.projecthub.repository.InviteCodeRepository;
 import com.projecthub.repository.ProjectInvitationRepository;
 import com.projecthub.repository.ProjectRepository;
 import com.projecthub.model.InvitationStatus;
 import com.projecthub.dto.ProjectMemberDTO;
 import com.projecthub.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service for managing project invitations.
+ * Invitations expire if not answered in time; see {@link InvitationSweeper}.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ProjectInvitationService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final ProjectInvitationRepository invitationRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMemberService projectMemberService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final InvitationBulkRepository invitationBulkRepository;
+    private final PendingInvitationCounter pendingInvitationCounter;
+    private final InviteCodeCache inviteCodeCache;
+    private final InviteCodeRepository inviteCodeRepository;
+    private final InviteCodeGenerator inviteCodeGenerator;
+    private final Duration ttl;
+
+    public ProjectInvitationService(ProjectInvitationRepository invitationRepository,
+                                    ProjectRepository projectRepository,
+                                    UserRepository userRepository,
+                                    ProjectMemberService projectMemberService,
+                                    RegisteredEmailFilter registeredEmailFilter,
+                                    InvitationBulkRepository invitationBulkRepository,
+                                    PendingInvitationCounter pendingInvitationCounter,
+                                    InviteCodeCache inviteCodeCache,
+                                    InviteCodeRepository inviteCodeRepository,
+                                    InviteCodeGenerator inviteCodeGenerator,
+                                    @Value("${app.invitations.ttl:P14D}") Duration ttl) {
+        this.invitationRepository = invitationRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.projectMemberService = projectMemberService;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.invitationBulkRepository = invitationBulkRepository;
+        this.pendingInvitationCounter = pendingInvitationCounter;
+        this.inviteCodeCache = inviteCodeCache;
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.inviteCodeGenerator = inviteCodeGenerator;
+        this.ttl = ttl;
+    }
 
     /**
      * Send an invitation to a user to join a project.
@@ -46,6 +91,9 @@ public class ProjectInvitationService {
         projectMemberService.verifyCanManageMembers(projectId, inviterId);
 
         // Find user to invite
+        if (!registeredEmailFilter.mightExist(request.getUserEmail())) {
+            throw new IllegalArgumentException("User not found");
+        }
         User invitee = userRepository.findByEmail(request.getUserEmail())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -55,8 +103,7 @@ public class ProjectInvitationService {
         }
 
         // Check if there's already a pending invitation
-        if (invitationRepository.existsByProjectIdAndInviteeIdAndStatus(
-                projectId, invitee.getId(), InvitationStatus.PENDING)) {
+        if (invitationRepository.existsPending(projectId, invitee.getId(), LocalDateTime.now())) {
             throw new IllegalArgumentException("User already has a pending invitation");
         }
 
@@ -74,14 +121,82 @@ public class ProjectInvitationService {
                 .inviter(inviter)
                 .role(request.getRole())
                 .status(InvitationStatus.PENDING)
+                .expiresAt(LocalDateTime.now().plus(ttl))
                 .build();
 
         invitation = invitationRepository.save(invitation);
+        pendingInvitationCounter.invalidateAfterCommit(List.of(invitee.getId()));
         log.info("Invitation sent to {} for project {}", invitee.getEmail(), projectId);
 
         return toDTO(invitation);
     }
 
+    /**
+     * Invite many users to a project with the same role.
+     * Users, memberships and pending invitations are looked up in one query and the invitations
+     * inserted in one batch; emails that cannot be invited are reported instead of failing the request.
+     */
+    @Transactional
+    public BulkInviteResponse inviteUsers(Long projectId, BulkInviteRequest request, Long inviterId) {
+        log.debug("Inviting {} users to project {}", request.getUserEmails().size(), projectId);
+
+        if (!projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found");
+        }
+        projectMemberService.verifyCanManageMembers(projectId, inviterId);
+        if (request.getRole() == ProjectRole.OWNER) {
+            throw new IllegalArgumentException("Cannot invite someone as OWNER");
+        }
+
+        Set<String> candidates = new LinkedHashSet<>();
+        for (String email : request.getUserEmails()) {
+            if (registeredEmailFilter.mightExist(email)) {
+                candidates.add(email);
+            }
+        }
+        Map<String, InvitationBulkRepository.InviteTarget> targets = candidates.isEmpty() ? Map.of()
+                : invitationBulkRepository.findInviteTargets(projectId, candidates);
+
+        List<BulkInviteResponse.Result> results = new ArrayList<>(request.getUserEmails().size());
+        List<BulkInviteResponse.Result> invited = new ArrayList<>();
+        List<Long> inviteeIds = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String email : request.getUserEmails()) {
+            InvitationBulkRepository.InviteTarget target = targets.get(email);
+            BulkInviteResponse.Result result = new BulkInviteResponse.Result(email, null, null);
+            if (!seen.add(email)) {
+                result.setOutcome(BulkInviteResponse.Outcome.DUPLICATE);
+            } else if (target == null) {
+                result.setOutcome(BulkInviteResponse.Outcome.NOT_FOUND);
+            } else if (target.member()) {
+                result.setOutcome(BulkInviteResponse.Outcome.ALREADY_MEMBER);
+            } else if (target.pending()) {
+                result.setOutcome(BulkInviteResponse.Outcome.ALREADY_INVITED);
+            } else {
+                result.setOutcome(BulkInviteResponse.Outcome.INVITED);
+                invited.add(result);
+                inviteeIds.add(target.userId());
+            }
+            results.add(result);
+        }
+
+        if (!inviteeIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = invitationBulkRepository.insertPending(projectId, inviterId, request.getRole(),
+                    inviteeIds, now, now.plus(ttl));
+            for (int i = 0; i < invited.size(); i++) {
+                invited.get(i).setInvitationId(ids.get(i));
+            }
+            pendingInvitationCounter.invalidateAfterCommit(inviteeIds);
+        }
+        log.info("Invited {} of {} users to project {}", invited.size(), results.size(), projectId);
+
+        return BulkInviteResponse.builder()
+                .invited(invited.size())
+                .results(results)
+                .build();
+    }
+
     /**
      * Accept an invitation.
      */
@@ -101,11 +216,15 @@ public class ProjectInvitationService {
         if (invitation.getStatus() != InvitationStatus.PENDING) {
             throw new IllegalArgumentException("This invitation is no longer valid");
         }
+        if (invitation.isExpired(LocalDateTime.now())) {
+            throw new IllegalArgumentException("This invitation has expired");
+        }
 
         // Update invitation status
         invitation.setStatus(InvitationStatus.ACCEPTED);
         invitation.setRespondedAt(LocalDateTime.now());
         invitationRepository.save(invitation);
+        pendingInvitationCounter.invalidateAfterCommit(List.of(userId));
 
         // Add user as project member
         ProjectMember member = ProjectMember.builder()
@@ -138,10 +257,14 @@ public class ProjectInvitationService {
         if (invitation.getStatus() != InvitationStatus.PENDING) {
             throw new IllegalArgumentException("This invitation is no longer valid");
         }
+        if (invitation.isExpired(LocalDateTime.now())) {
+            throw new IllegalArgumentException("This invitation has expired");
+        }
 
         invitation.setStatus(InvitationStatus.DECLINED);
         invitation.setRespondedAt(LocalDateTime.now());
         invitationRepository.save(invitation);
+        pendingInvitationCounter.invalidateAfterCommit(List.of(userId));
         log.info("User {} declined invitation to project {}", userId, invitation.getProject().getId());
     }
 
@@ -169,18 +292,29 @@ public class ProjectInvitationService {
         invitation.setStatus(InvitationStatus.CANCELLED);
         invitation.setRespondedAt(LocalDateTime.now());
         invitationRepository.save(invitation);
+        pendingInvitationCounter.invalidateAfterCommit(List.of(invitation.getInvitee().getId()));
         log.info("Invitation {} cancelled", invitationId);
     }
 
     /**
-     * Get all pending invitations for a user.
+     * Get one page of a user's pending invitations, newest first.
      */
     @Transactional(readOnly = true)
-    public List<InvitationDTO> getPendingInvitations(Long userId) {
-        return invitationRepository.findByInviteeIdAndStatus(userId, InvitationStatus.PENDING)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public List<InvitationDTO> getPendingInvitations(Long userId, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("The page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return invitationRepository.findPendingDTOs(userId, LocalDateTime.now(), PageRequest.of(page, size));
+    }
+
+    /**
+     * Get the number of pending invitations of a user.
+     */
+    public long countPendingInvitations(Long userId) {
+        return pendingInvitationCounter.getCount(userId);
     }
 
     /**
@@ -191,75 +325,90 @@ public class ProjectInvitationService {
         // Verify user has permission
         projectMemberService.verifyCanManageMembers(projectId, userId);
 
-        return invitationRepository.findByProjectId(projectId)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return invitationRepository.findDTOsByProjectId(projectId);
     }
 
     /**
-     * Generate a unique invite code for a project.
+     * Give a project a new invite code, replacing the previous one, optionally limited to a number
+     * of uses and an expiry date. Codes come from {@link InviteCodeGenerator} and cannot collide.
      */
     @Transactional
-    public String generateInviteCode(Long projectId, Long userId) {
+    public InviteCodeResponse generateInviteCode(Long projectId, InviteCodeRequest request, Long userId) {
         log.debug("Generating invite code for project {}", projectId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+        if (!projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found");
+        }
 
         // Verify user is owner or admin
         projectMemberService.verifyCanManageMembers(projectId, userId);
 
-        // Generate unique code
+        // Only a code issued before codes came from the sequence can be equal to a new one
         String inviteCode;
         do {
-            inviteCode = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        } while (projectRepository.existsByInviteCode(inviteCode));
+            inviteCode = inviteCodeGenerator.next();
+        } while (!inviteCodeRepository.assignCode(projectId, inviteCode, request.getExpiresAt(),
+                request.getMaxUses(), LocalDateTime.now()));
 
-        project.setInviteCode(inviteCode);
-        projectRepository.save(project);
+        inviteCodeCache.codeChangedAfterCommit(projectId);
         log.info("Generated invite code {} for project {}", inviteCode, projectId);
 
-        return inviteCode;
+        return InviteCodeResponse.builder()
+                .inviteCode(inviteCode)
+                .expiresAt(request.getExpiresAt())
+                .maxUses(request.getMaxUses())
+                .build();
     }
 
     /**
-     * Join a project using an invite code.
+     * Join a project using an invite code, ignoring case and surrounding spaces.
+     * The code is resolved from {@link InviteCodeCache}; checking its limits, counting the use and
+     * writing the membership take one statement. Joining a project one already belongs to is not an
+     * error: the existing membership is returned, so retries and double submits are harmless.
      */
     @Transactional
     public ProjectMemberDTO joinProjectByCode(String inviteCode, Long userId) {
         log.debug("User {} joining project with code {}", userId, inviteCode);
 
-        Project project = projectRepository.findByInviteCode(inviteCode)
+        String code = inviteCode.trim().toUpperCase(Locale.ROOT);
+        Long projectId = inviteCodeCache.findProjectId(code)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid invite code"));
 
-        // Check if already a member
-        if (projectMemberService.isMember(project.getId(), userId)) {
-            throw new IllegalArgumentException("You are already a member of this project");
-        }
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
         // Add user as MEMBER (default role for code joins)
-        ProjectMember member = ProjectMember.builder()
-                .project(project)
-                .user(user)
-                .role(ProjectRole.MEMBER)
-                .build();
-
-        projectMemberService.saveMember(member);
-        log.info("User {} joined project {} via invite code", userId, project.getId());
+        InviteCodeRepository.Membership member = inviteCodeRepository
+                .join(projectId, code, userId, ProjectRole.MEMBER, LocalDateTime.now())
+                .orElseThrow(() -> refusal(projectId, code));
+        if (member.inserted()) {
+            log.info("User {} joined project {} via invite code", userId, projectId);
+        } else {
+            log.debug("User {} already belongs to project {}", userId, projectId);
+        }
 
         return ProjectMemberDTO.builder()
-                .id(member.getId())
-                .userId(user.getId())
-                .userEmail(user.getEmail())
-                .role(member.getRole())
-                .joinedAt(member.getJoinedAt())
+                .id(member.id())
+                .userId(userId)
+                .userEmail(member.userEmail())
+                .role(member.role())
+                .joinedAt(member.joinedAt())
                 .build();
     }
 
+    /**
+     * Why a code was refused, read only once it has been.
+     */
+    private IllegalArgumentException refusal(Long projectId, String inviteCode) {
+        InviteCodeRepository.CodeState state = inviteCodeRepository.findCodeState(projectId)
+                .filter(current -> inviteCode.equals(current.inviteCode()))
+                .orElse(null);
+        if (state == null) {
+            return new IllegalArgumentException("Invalid invite code");
+        }
+        if (state.maxUses() != null && state.uses() >= state.maxUses()) {
+            return new IllegalArgumentException("This invite code has reached its maximum number of uses");
+        }
+        return new IllegalArgumentException("This invite code has expired");
+    }
+
     /**
      * Convert entity to DTO.
      */
@@ -276,6 +425,7 @@ public class ProjectInvitationService {
                 .status(invitation.getStatus())
                 .invitedAt(invitation.getInvitedAt())
                 .respondedAt(invitation.getRespondedAt())
+                .expiresAt(invitation.getExpiresAt())
                 .build();
     }
 }
@@ -29,6 +29,7 @@ public class ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     /**
      * Add project creator as owner (used during project creation).
@@ -76,6 +77,9 @@ public class ProjectMemberService {
         verifyCanManageMembers(projectId, requestingUserId);
 
         // Find user to add
+        if (!registeredEmailFilter.mightExist(request.getUserEmail())) {
+            throw new IllegalArgumentException("User not found");
+        }
         User userToAdd = userRepository.findByEmail(request.getUserEmail())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -176,7 +176,7 @@ public class ProjectService {
                 .map(task -> {
                     // Map tags
                     List<TagDTO> tagDTOs = task.getTags().stream()
-                            .map(tag -> new TagDTO(tag.getId(), tag.getName(), tag.getColor(), tag.getProject().getId()))
+                            .map(tag -> new TagDTO(tag.getId(), tag.getName(), tag.getColor(), tag.getProject().getId(), null))
                             .collect(Collectors.toList());
                     
                     // Map dependencies
@@ -198,12 +198,15 @@ public class ProjectService {
                             .priority(task.getPriority())
                             .recurrencePattern(task.getRecurrencePattern())
                             .recurrenceEndDate(task.getRecurrenceEndDate())
+                            .recurrenceParentId(task.getRecurrenceParentId())
                             .projectId(task.getProject().getId())
                             .assignedToId(task.getAssignedTo() != null ? task.getAssignedTo().getId() : null)
                             .assignedToEmail(task.getAssignedTo() != null ? task.getAssignedTo().getEmail() : null)
                             .tags(tagDTOs)
                             .dependsOnIds(dependsOnIds)
                             .blockedByIds(blockedByIds)
+                            .openDependencies(task.getOpenDependencies())
+                            .blocked(task.getOpenDependencies() > 0)
                             .createdAt(task.getCreatedAt())
                             .updatedAt(task.getUpdatedAt())
                             .build();
@@ -0,0 +1,157 @@
+package com.projecthub.service;
+
+import com.projecthub.model.TaskStatus;
+import com.projecthub.repository.TaskRecurrenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the upcoming occurrences of recurring tasks.
+ * Every run creates, for each series, the occurrences due between today and the end of the look-ahead
+ * window, then moves the series' next occurrence date past the window (or clears it once the recurrence
+ * end date is reached). Only series whose next occurrence falls inside the window are read, through a
+ * partial index, and they are handled in batches that each commit on their own. Occurrences missed
+ * while nothing ran are not created in the past.
+ */
+@Service
+@Slf4j
+public class RecurrenceService {
+
+    private final TaskRecurrenceRepository taskRecurrenceRepository;
+    private final FlowAnalyticsService flowAnalyticsService;
+    private final TagCatalogService tagCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int lookAheadDays;
+    private final int batchSize;
+
+    public RecurrenceService(TaskRecurrenceRepository taskRecurrenceRepository,
+                             FlowAnalyticsService flowAnalyticsService,
+                             TagCatalogService tagCatalogService,
+                             ApplicationEventPublisher eventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${app.recurrence.look-ahead-days:14}") int lookAheadDays,
+                             @Value("${app.recurrence.batch-size:200}") int batchSize) {
+        this.taskRecurrenceRepository = taskRecurrenceRepository;
+        this.flowAnalyticsService = flowAnalyticsService;
+        this.tagCatalogService = tagCatalogService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.lookAheadDays = lookAheadDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Create every occurrence that is due inside the look-ahead window.
+     * Safe to run on several nodes at once: each batch locks its series and skips the ones
+     * another node holds, and an occurrence is never created twice for the same series and date.
+     *
+     * @return number of occurrences created
+     */
+    @Scheduled(fixedDelayString = "${app.recurrence.interval:PT10M}", initialDelayString = "${app.recurrence.initial-delay:PT1M}")
+    public int materializeDue() {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(lookAheadDays);
+        int created = 0;
+        int batches = 0;
+        while (true) {
+            BatchResult result = transactionTemplate.execute(status -> materializeBatch(today, horizon));
+            created += result.created();
+            batches++;
+            if (result.series() < batchSize) {
+                break;
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} task occurrences up to {} in {} batches", created, horizon, batches);
+        }
+        return created;
+    }
+
+    /**
+     * Handle one batch of series. Must run inside a transaction.
+     */
+    BatchResult materializeBatch(LocalDate today, LocalDate horizon) {
+        List<TaskRecurrenceRepository.Series> series = taskRecurrenceRepository.claimDueSeries(horizon, batchSize);
+        if (series.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<List<LocalDate>> datesBySeries = new ArrayList<>(series.size());
+        List<LocalDate> nextDates = new ArrayList<>(series.size());
+        int count = 0;
+        for (TaskRecurrenceRepository.Series s : series) {
+            List<LocalDate> dates = new ArrayList<>();
+            nextDates.add(occurrencesUntil(s, today, horizon, dates));
+            datesBySeries.add(dates);
+            count += dates.size();
+        }
+
+        List<TaskRecurrenceRepository.Occurrence> occurrences = new ArrayList<>(count);
+        Iterator<Long> ids = taskRecurrenceRepository.nextTaskIds(count).iterator();
+        for (int i = 0; i < series.size(); i++) {
+            for (LocalDate date : datesBySeries.get(i)) {
+                occurrences.add(new TaskRecurrenceRepository.Occurrence(ids.next(), series.get(i).id(), date));
+            }
+        }
+
+        List<TaskRecurrenceRepository.CreatedOccurrence> created =
+                taskRecurrenceRepository.insertOccurrences(occurrences, LocalDateTime.now());
+        taskRecurrenceRepository.copyTags(created.stream()
+                        .map(TaskRecurrenceRepository.CreatedOccurrence::id)
+                        .collect(Collectors.toList()))
+                .forEach(tagCatalogService::tagsChangedAfterCommit);
+        taskRecurrenceRepository.advance(
+                series.stream().map(TaskRecurrenceRepository.Series::id).collect(Collectors.toList()), nextDates);
+        flowAnalyticsService.recordTransitions(created.stream()
+                .map(occurrence -> new FlowAnalyticsService.StatusChange(
+                        occurrence.id(), occurrence.projectId(), null, TaskStatus.TODO, occurrence.createdAt()))
+                .collect(Collectors.toList()));
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new TasksChangedEvent(
+                    created.stream()
+                            .map(TaskRecurrenceRepository.CreatedOccurrence::projectId)
+                            .distinct()
+                            .collect(Collectors.toList()),
+                    created.stream()
+                            .map(TaskRecurrenceRepository.CreatedOccurrence::id)
+                            .collect(Collectors.toList())));
+        }
+        return new BatchResult(series.size(), created.size());
+    }
+
+    /**
+     * Collect the occurrences of a series from its next occurrence (but not before today) up to the horizon.
+     *
+     * @return the first occurrence after the horizon, or null if the series ends before it
+     */
+    static LocalDate occurrencesUntil(TaskRecurrenceRepository.Series series, LocalDate today, LocalDate horizon,
+                                      List<LocalDate> dates) {
+        LocalDate from = series.nextDate().isBefore(today) ? today : series.nextDate();
+        long index = series.pattern().firstIndexOnOrAfter(series.start(), from);
+        LocalDate date = series.pattern().occurrence(series.start(), index);
+        while (!date.isAfter(horizon) && (series.endDate() == null || !date.isAfter(series.endDate()))) {
+            dates.add(date);
+            date = series.pattern().occurrence(series.start(), ++index);
+        }
+        return series.endDate() == null || !date.isAfter(series.endDate()) ? date : null;
+    }
+
+    /**
+     * @param series number of series handled
+     * @param created number of occurrences created
+     */
+    record BatchResult(int series, int created) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.UserSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link BloomFilter} of registered emails, so lookups of unknown emails skip the database.
+ * It is built with one streaming scan when the {@link CacheInvalidationBus} connects, and again
+ * after every reconnect, with room for twice the users found. Until then, and whenever the bus
+ * loses its connection and could miss registrations on other nodes, every email may exist.
+ * Registrations are added inside their transaction, so there is no moment where a committed user
+ * is missing; a rollback only leaves a false positive. Other nodes are told on {@link #CHANNEL}.
+ */
+@Service
+@Slf4j
+public class RegisteredEmailFilter {
+
+    static final String CHANNEL = "user_registered";
+
+    private final UserSearchRepository userSearchRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+
+    /** Null until built and while disconnected; every email may exist meanwhile. */
+    private volatile BloomFilter filter;
+    /** Guarded by this; the filter being built, which also receives new registrations. */
+    private BloomFilter building;
+    /** Guarded by this; bumped on every disconnect, so a build that overlaps one is not published. */
+    private long connection;
+
+    public RegisteredEmailFilter(UserSearchRepository userSearchRepository,
+                                 CacheInvalidationBus cacheInvalidationBus,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.email-filter.expected-users:100000}") long expectedUsers,
+                                 @Value("${app.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userSearchRepository = userSearchRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        cacheInvalidationBus.subscribe(CHANNEL, this::userRegistered);
+        cacheInvalidationBus.onDisconnect(this::disconnected);
+    }
+
+    /**
+     * False if no user has this exact email; true if one may have it.
+     */
+    public boolean mightExist(String email) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(email);
+    }
+
+    @EventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        add(event.email());
+        cacheInvalidationBus.publish(CHANNEL, event.userId());
+    }
+
+    /**
+     * Add a user registered on another node, or rebuild if notifications may have been missed.
+     */
+    private void userRegistered(Long userId) {
+        if (userId == null) {
+            rebuild();
+            return;
+        }
+        userSearchRepository.findById(userId).ifPresent(user -> add(user.email()));
+    }
+
+    /**
+     * Answer "may exist" for every email until the bus has reconnected and the filter is rebuilt.
+     */
+    private synchronized void disconnected() {
+        connection++;
+        filter = null;
+    }
+
+    void rebuild() {
+        long users = userSearchRepository.countUsers();
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedUsers, 2 * users), falsePositiveRate);
+        long builtOn;
+        synchronized (this) {
+            building = rebuilt;
+            builtOn = connection;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userSearchRepository.forEachUser(user -> rebuilt.add(user.email())));
+            synchronized (this) {
+                if (connection != builtOn) {
+                    log.info("Discarding the email filter built while the cache invalidation listener failed");
+                    return;
+                }
+                filter = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                if (building == rebuilt) {
+                    building = null;
+                }
+            }
+        }
+        log.info("Built email filter of {} users with {} bits and {} hashes",
+                users, rebuilt.bitSize(), rebuilt.hashCount());
+    }
+
+    private void add(String email) {
+        BloomFilter current;
+        synchronized (this) {
+            if (building != null) {
+                building.add(email);
+            }
+            current = filter;
+        }
+        if (current != null) {
+            current.add(email);
+        }
+    }
+}
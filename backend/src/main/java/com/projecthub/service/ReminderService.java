@@ -0,0 +1,109 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.ReminderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Sends due-soon and overdue reminders for open tasks with a due date.
+ * Each day's reminders are sent by one node only, through a shared checkpoint. The node that claims
+ * the days not sent yet reads their tasks from the database, with one range query over the partial
+ * index on open due dates per kind of reminder, so it sees tasks created, moved or completed on any
+ * node, and tasks are never scanned project by project. Days missed while no node was running are
+ * sent with the next claim, up to {@code app.reminders.catch-up-days} back.
+ */
+@Service
+@Slf4j
+public class ReminderService {
+
+    private final ReminderRepository reminderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int dueSoonDays;
+    private final int catchUpDays;
+
+    /** Last day this node tried to send, so checks cost a date comparison until the next day. */
+    private LocalDate checkedThrough;
+
+    public ReminderService(ReminderRepository reminderRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.reminders.due-soon-days:1}") int dueSoonDays,
+                           @Value("${app.reminders.catch-up-days:14}") int catchUpDays) {
+        this.reminderRepository = reminderRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.dueSoonDays = dueSoonDays;
+        this.catchUpDays = catchUpDays;
+    }
+
+    /**
+     * Record today as the starting point on the very first start, then send whatever was missed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LocalDate today = LocalDate.now();
+        reminderRepository.findFiredThrough(today.minusDays(1));
+        sendDue(today);
+    }
+
+    /**
+     * Send the reminders of every day up to today that were not sent yet.
+     *
+     * @return number of reminders sent
+     */
+    @Scheduled(fixedDelayString = "${app.reminders.interval:PT1M}", initialDelayString = "${app.reminders.interval:PT1M}")
+    public int sendDue() {
+        return sendDue(LocalDate.now());
+    }
+
+    synchronized int sendDue(LocalDate today) {
+        if (checkedThrough != null && !today.isAfter(checkedThrough)) {
+            return 0;
+        }
+        int sent = transactionTemplate.execute(status -> send(today));
+        checkedThrough = today;
+        return sent;
+    }
+
+    /**
+     * Publish the reminders of the days this node claims. Must run inside a transaction.
+     */
+    int send(LocalDate today) {
+        LocalDate firedThrough = reminderRepository.claimThrough(today);
+        if (firedThrough == null) {
+            log.debug("Task reminders through {} were already sent", today);
+            return 0;
+        }
+        LocalDate first = firedThrough.plusDays(1);
+        LocalDate oldest = today.minusDays(catchUpDays);
+        if (first.isBefore(oldest)) {
+            log.warn("Skipping task reminders due from {} to {}", first, oldest.minusDays(1));
+            first = oldest;
+        }
+
+        // Reminders sent on day d are the due-soon ones of tasks due on d + dueSoonDays and the overdue ones of tasks due on d - 1
+        int sent = publish(TaskReminderEvent.Type.DUE_SOON,
+                reminderRepository.findDueTasks(first.plusDays(dueSoonDays), today.plusDays(dueSoonDays)));
+        sent += publish(TaskReminderEvent.Type.OVERDUE,
+                reminderRepository.findDueTasks(first.minusDays(1), today.minusDays(1)));
+        log.info("Sent {} task reminders from {} through {}", sent, first, today);
+        return sent;
+    }
+
+    private int publish(TaskReminderEvent.Type type, List<ReminderRepository.DueTask> tasks) {
+        if (!tasks.isEmpty()) {
+            eventPublisher.publishEvent(new TaskReminderEvent(type, tasks));
+        }
+        return tasks.size();
+    }
+}
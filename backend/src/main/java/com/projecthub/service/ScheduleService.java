@@ -0,0 +1,124 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.ScheduleResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.repository.TaskDependencyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Service for project schedules: critical path, earliest and latest finish dates, slack,
+ * and what-if delay propagation. Due dates are read with one query, dependencies come from
+ * the cached {@link DependencyGraph} and the computation is done by {@link CriticalPath}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleService {
+
+    private final ProjectMemberService projectMemberService;
+    private final DependencyGraphService dependencyGraphService;
+    private final TaskDependencyRepository taskDependencyRepository;
+
+    /**
+     * Compute the schedule of a project.
+     *
+     * @param projectId project ID
+     * @param delayTaskId task assumed to finish late, or null
+     * @param delayDays days the task finishes late; required with {@code delayTaskId}
+     * @param userId authenticated user's ID
+     * @return schedule of every task
+     */
+    public ScheduleResponse getSchedule(Long projectId, Long delayTaskId, Integer delayDays, Long userId) {
+        if (!projectMemberService.isMember(projectId, userId)) {
+            throw new NotFoundException("Project", "id", projectId);
+        }
+        if ((delayTaskId == null) != (delayDays == null)) {
+            throw new IllegalArgumentException("delayTaskId and delayDays must be given together");
+        }
+        if (delayDays != null && delayDays <= 0) {
+            throw new IllegalArgumentException("delayDays must be positive");
+        }
+
+        long start = System.nanoTime();
+        CriticalPath criticalPath = load(projectId);
+        long loaded = System.nanoTime();
+        CriticalPath.Result baseline = criticalPath.compute(-1, 0);
+        CriticalPath.Result result = baseline;
+        if (delayTaskId != null) {
+            int delayed = criticalPath.indexOf(delayTaskId);
+            if (delayed < 0) {
+                throw new NotFoundException("Task", "id", delayTaskId);
+            }
+            result = criticalPath.compute(delayed, delayDays);
+        }
+        long computed = System.nanoTime();
+
+        ScheduleResponse response = ScheduleResponse.builder()
+                .projectId(projectId)
+                .projectEndDate(toDate(result.projectEnd()))
+                .delayedTaskId(delayTaskId)
+                .delayDays(delayDays)
+                .baselineEndDate(delayTaskId != null ? toDate(baseline.projectEnd()) : null)
+                .build();
+        for (int t : result.criticalPath()) {
+            response.getCriticalPath().add(criticalPath.taskIdAt(t));
+        }
+        for (int t = 0; t < criticalPath.size(); t++) {
+            long earliest = result.earliestFinish()[t];
+            long latest = result.latestFinish()[t];
+            boolean scheduled = earliest != CriticalPath.NONE;
+            response.getTasks().add(ScheduleResponse.TaskSchedule.builder()
+                    .taskId(criticalPath.taskIdAt(t))
+                    .dueDate(toDate(criticalPath.dueDateAt(t)))
+                    .earliestFinish(toDate(earliest))
+                    .latestFinish(toDate(latest))
+                    .slackDays(scheduled ? latest - earliest : null)
+                    .critical(scheduled && latest == earliest)
+                    .shiftDays(delayTaskId != null && scheduled ? earliest - baseline.earliestFinish()[t] : null)
+                    .build());
+        }
+
+        log.debug("Computed schedule of project {} ({} tasks): load {} ms, passes {} ms, total {} ms",
+                projectId, criticalPath.size(), (loaded - start) / 1_000_000, (computed - loaded) / 1_000_000,
+                (System.nanoTime() - start) / 1_000_000);
+        return response;
+    }
+
+    private CriticalPath load(Long projectId) {
+        DependencyGraph graph = dependencyGraphService.getGraph(projectId);
+        DueDates dueDates = new DueDates();
+        taskDependencyRepository.forEachDueDate(projectId, dueDates);
+        return new CriticalPath(Arrays.copyOf(dueDates.taskIds, dueDates.size),
+                Arrays.copyOf(dueDates.dates, dueDates.size), graph);
+    }
+
+    /**
+     * Collects task IDs and due dates into growable primitive arrays.
+     */
+    private static class DueDates implements TaskDependencyRepository.DueDateHandler {
+
+        private long[] taskIds = new long[1024];
+        private long[] dates = new long[1024];
+        private int size;
+
+        @Override
+        public void task(long taskId, Long dueDate) {
+            if (size == taskIds.length) {
+                taskIds = Arrays.copyOf(taskIds, size * 2);
+                dates = Arrays.copyOf(dates, size * 2);
+            }
+            taskIds[size] = taskId;
+            dates[size] = dueDate != null ? dueDate : CriticalPath.NONE;
+            size++;
+        }
+    }
+
+    private static LocalDate toDate(long epochDay) {
+        return epochDay == CriticalPath.NONE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,78 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.SearchHit;
+import com.projecthub.dto.SearchResponse;
+import com.projecthub.repository.SearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service for full-text search over the tasks and projects a user can access.
+ * Titles weigh more than descriptions. Queries use web search syntax: quoted phrases, "or" and "-word".
+ */
+@Service
+@Slf4j
+public class SearchService {
+
+    static final int MAX_PAGE_SIZE = 50;
+
+    private final SearchRepository searchRepository;
+    private final int maxRanked;
+
+    public SearchService(SearchRepository searchRepository,
+                         @Value("${app.search.max-ranked:1000}") int maxRanked) {
+        this.searchRepository = searchRepository;
+        this.maxRanked = maxRanked;
+    }
+
+    /**
+     * Search tasks and projects of the user's projects.
+     */
+    public SearchResponse search(String query, int page, int size, Long userId) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("The search query must not be empty");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("The page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Long> projectIds = searchRepository.findAccessibleProjectIds(userId);
+        if (projectIds.isEmpty()) {
+            return SearchResponse.builder().results(List.of()).page(page).size(size).hasMore(false).build();
+        }
+        // Rank enough matches to fill the requested page even past the usual cap, plus one row to
+        // tell if there are more; if a cap is still reached, more matches exist than were ranked
+        long offset = (long) page * size;
+        SearchRepository.Page found = searchRepository.search(query.trim(), projectIds,
+                maxRanked + offset + size + 1, size + 1, offset);
+        List<SearchHit> results = found.hits().stream()
+                .map(SearchService::toHit)
+                .toList();
+        log.debug("Search for user {} found {} results on page {}", userId, results.size(), page);
+
+        boolean hasMore = results.size() > size || found.capped();
+        return SearchResponse.builder()
+                .results(results.size() > size ? results.subList(0, size) : results)
+                .page(page)
+                .size(size)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static SearchHit toHit(SearchRepository.Hit hit) {
+        return SearchHit.builder()
+                .type(SearchHit.Type.valueOf(hit.type()))
+                .id(hit.id())
+                .projectId(hit.projectId())
+                .title(hit.title())
+                .snippet(hit.snippet())
+                .rank(hit.rank())
+                .build();
+    }
+}
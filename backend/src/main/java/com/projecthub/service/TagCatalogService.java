@@ -0,0 +1,145 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.TagDTO;
+import com.projecthub.repository.TagCatalogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Cache of each project's tags with the number of tasks using them.
+ * A catalog is loaded with one query on first use. When a transaction changes tags or their use,
+ * the tags involved are counted again after it commits, so the catalog stays live without being
+ * reloaded. Other nodes are told through the {@link CacheInvalidationBus} and drop their copy.
+ */
+@Service
+@Slf4j
+public class TagCatalogService {
+
+    static final String CHANNEL = "tag_catalog";
+
+    private final TagCatalogRepository tagCatalogRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LoadingCache<Long, Catalog> catalogs;
+
+    public TagCatalogService(TagCatalogRepository tagCatalogRepository,
+                             CacheInvalidationBus cacheInvalidationBus,
+                             @Value("${app.tag-catalog.max-projects:1000}") int maxProjects) {
+        this.tagCatalogRepository = tagCatalogRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.catalogs = new LoadingCache<>(maxProjects);
+        cacheInvalidationBus.subscribe(CHANNEL, this::invalidate);
+    }
+
+    /**
+     * The tags of a project by ID. Replaced as a whole on every refresh, so readers never lock.
+     */
+    private static final class Catalog {
+        private volatile SortedMap<Long, TagDTO> tags;
+
+        Catalog(SortedMap<Long, TagDTO> tags) {
+            this.tags = Collections.unmodifiableSortedMap(tags);
+        }
+    }
+
+    /**
+     * Tags of a project in creation order, with their usage counts.
+     */
+    public List<TagDTO> getTags(Long projectId) {
+        return List.copyOf(catalogs.get(projectId, this::load).tags.values());
+    }
+
+    private Catalog load(Long projectId) {
+        SortedMap<Long, TagDTO> tags = new TreeMap<>();
+        tagCatalogRepository.findByProject(projectId).forEach(tag -> tags.put(tag.id(), toDTO(tag)));
+        log.debug("Loaded tag catalog of project {} with {} tags", projectId, tags.size());
+        return new Catalog(tags);
+    }
+
+    /**
+     * Count tags of a project again once the current transaction commits, or right away when there
+     * is no transaction. Covers tags created or deleted and tags added to or removed from tasks.
+     */
+    public void tagsChangedAfterCommit(Long projectId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        cacheInvalidationBus.publish(CHANNEL, projectId);
+        List<Long> ids = List.copyOf(tagIds);
+        afterCommit(() -> refresh(projectId, ids));
+    }
+
+    /**
+     * Drop the catalogs of projects once the current transaction commits, for changes whose tags
+     * are not known.
+     */
+    public void invalidateAfterCommit(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        projectIds.forEach(projectId -> cacheInvalidationBus.publish(CHANNEL, projectId));
+        List<Long> ids = List.copyOf(projectIds);
+        afterCommit(() -> ids.forEach(this::invalidate));
+    }
+
+    /**
+     * Re-read tags into a cached catalog. Refreshes of the same project are serialized, so the last
+     * one applied has read the latest commit.
+     */
+    private void refresh(Long projectId, List<Long> tagIds) {
+        Catalog catalog = catalogs.changed(projectId);
+        if (catalog == null) {
+            return;
+        }
+        synchronized (catalog) {
+            SortedMap<Long, TagDTO> tags = new TreeMap<>(catalog.tags);
+            tagIds.forEach(tags::remove);
+            tagCatalogRepository.findByIds(tagIds).stream()
+                    .filter(tag -> tag.projectId() == projectId)
+                    .forEach(tag -> tags.put(tag.id(), toDTO(tag)));
+            catalog.tags = Collections.unmodifiableSortedMap(tags);
+        }
+    }
+
+    /**
+     * Drop the catalog of a project, or of every project if null.
+     */
+    private void invalidate(Long projectId) {
+        if (projectId == null) {
+            catalogs.invalidateAll();
+        } else {
+            catalogs.invalidate(projectId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static TagDTO toDTO(TagCatalogRepository.TagUsage tag) {
+        return TagDTO.builder()
+                .id(tag.id())
+                .name(tag.name())
+                .color(tag.color())
+                .projectId(tag.projectId())
+                .taskCount(tag.tasks())
+                .build();
+    }
+}
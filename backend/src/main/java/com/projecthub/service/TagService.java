@@ -13,7 +13,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for managing tags.
@@ -26,6 +25,8 @@ public class TagService {
     private final TagRepository tagRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberService projectMemberService;
+    private final TaskFacetService taskFacetService;
+    private final TagCatalogService tagCatalogService;
 
     /**
      * Create a new tag for a project.
@@ -54,13 +55,14 @@ public class TagService {
                 .build();
 
         tag = tagRepository.save(tag);
+        tagCatalogService.tagsChangedAfterCommit(projectId, List.of(tag.getId()));
         log.info("Tag created: {} for project {}", tag.getName(), projectId);
 
         return mapToDTO(tag);
     }
 
     /**
-     * Get all tags for a project.
+     * Get all tags for a project with the number of tasks using each, from the tag catalog.
      */
     public List<TagDTO> getProjectTags(Long projectId, Long userId) {
         log.debug("Getting tags for project {}", projectId);
@@ -70,9 +72,7 @@ public class TagService {
             throw new IllegalArgumentException("You don't have access to this project");
         }
 
-        return tagRepository.findByProjectId(projectId).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return tagCatalogService.getTags(projectId);
     }
 
     /**
@@ -90,7 +90,10 @@ public class TagService {
             throw new IllegalArgumentException("You don't have access to this project");
         }
 
+        tagRepository.deleteTaskLinks(tagId);
         tagRepository.delete(tag);
+        taskFacetService.removeTagAfterCommit(tag.getProject().getId(), tagId);
+        tagCatalogService.tagsChangedAfterCommit(tag.getProject().getId(), List.of(tagId));
         log.info("Tag deleted: {}", tagId);
     }
 
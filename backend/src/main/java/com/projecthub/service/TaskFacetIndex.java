@@ -0,0 +1,293 @@
+package com.projecthub.service;
+
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index of a project's tasks by status, priority, assignee and tag.
+ * Every task gets a small ordinal, reused once the task is deleted, and every facet value a
+ * {@link RoaringBitmap} of the ordinals that have it. A filter ORs the bitmaps of the values picked
+ * within a facet and ANDs the facets together. The count of a value is the size of its intersection
+ * with the filter on the other facets, so picking a value does not hide the alternatives.
+ * Thread-safe: queries share a read lock and changes take the write lock.
+ */
+final class TaskFacetIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private long[] taskIds = new long[16];
+    private Facets[] facets = new Facets[16];
+    private int nextOrdinal;
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<TaskStatus, RoaringBitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, RoaringBitmap> byPriority = new EnumMap<>(TaskPriority.class);
+    private final Map<Long, RoaringBitmap> byAssignee = new HashMap<>();
+    private final RoaringBitmap unassigned = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+
+    TaskFacetIndex() {
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new RoaringBitmap());
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, new RoaringBitmap());
+        }
+    }
+
+    private record Facets(TaskStatus status, TaskPriority priority, Long assigneeId, Set<Long> tagIds) {
+    }
+
+    /**
+     * Facet values to filter on; an empty set does not filter its facet.
+     *
+     * @param unassigned whether tasks without an assignee match the assignee facet
+     * @param allTags whether tasks must have all of the tags rather than any of them
+     */
+    record Filter(Set<TaskStatus> statuses, Set<TaskPriority> priorities, Set<Long> assigneeIds,
+                  boolean unassigned, Set<Long> tagIds, boolean allTags) {
+    }
+
+    /**
+     * @param total number of matching tasks
+     * @param taskIds the matching tasks with the lowest IDs, in ascending order; when {@code total} is
+     *                larger, the rest of the matching tasks have higher IDs
+     */
+    record Result(int total, List<Long> taskIds, Map<TaskStatus, Integer> statuses,
+                  Map<TaskPriority, Integer> priorities, Map<Long, Integer> assignees, int unassigned,
+                  Map<Long, Integer> tags) {
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index a task, replacing its previous values.
+     */
+    void put(long taskId, TaskStatus status, TaskPriority priority, Long assigneeId, Collection<Long> tagIds) {
+        Facets task = new Facets(status, priority, assigneeId, Set.copyOf(tagIds));
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(taskId);
+            if (ordinal != null) {
+                unindex(ordinal, facets[ordinal]);
+            } else {
+                ordinal = allocate(taskId);
+            }
+            facets[ordinal] = task;
+            all.add(ordinal);
+            byStatus.get(status).add(ordinal);
+            byPriority.get(priority).add(ordinal);
+            (assigneeId != null ? bitmap(byAssignee, assigneeId) : unassigned).add(ordinal);
+            for (Long tagId : task.tagIds()) {
+                bitmap(byTag, tagId).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(taskId);
+            if (ordinal != null) {
+                unindex(ordinal, facets[ordinal]);
+                all.remove(ordinal);
+                facets[ordinal] = null;
+                freeOrdinals.push(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a deleted tag from every task that had it.
+     */
+    void removeTag(long tagId) {
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap tagged = byTag.remove(tagId);
+            if (tagged != null) {
+                tagged.forEach(ordinal -> {
+                    Facets task = facets[ordinal];
+                    Set<Long> tagIds = new HashSet<>(task.tagIds());
+                    tagIds.remove(tagId);
+                    facets[ordinal] = new Facets(task.status(), task.priority(), task.assigneeId(), Set.copyOf(tagIds));
+                });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Result query(Filter filter, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap status = union(filter.statuses(), byStatus);
+            RoaringBitmap priority = union(filter.priorities(), byPriority);
+            RoaringBitmap assignee = assigneeFilter(filter);
+            RoaringBitmap tag = filter.allTags() ? intersection(filter.tagIds()) : union(filter.tagIds(), byTag);
+            RoaringBitmap matching = and(status, priority, assignee, tag);
+
+            RoaringBitmap otherThanAssignee = and(status, priority, tag);
+            return new Result(
+                    matching.cardinality(),
+                    lowestTaskIds(matching, limit),
+                    counts(byStatus, and(priority, assignee, tag)),
+                    counts(byPriority, and(status, assignee, tag)),
+                    counts(byAssignee, otherThanAssignee),
+                    RoaringBitmap.andCardinality(unassigned, otherThanAssignee),
+                    counts(byTag, filter.allTags() ? matching : and(status, priority, assignee)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks of some ordinals with the lowest IDs, in ascending order. Ordinals are reused after
+     * deletes, so they are not in the order of the tasks.
+     */
+    private List<Long> lowestTaskIds(RoaringBitmap ordinals, int limit) {
+        if (limit == 0) {
+            return List.of();
+        }
+        PriorityQueue<Long> highestFirst = new PriorityQueue<>(Comparator.reverseOrder());
+        ordinals.forEach(ordinal -> {
+            long taskId = taskIds[ordinal];
+            if (highestFirst.size() < limit) {
+                highestFirst.add(taskId);
+            } else if (taskId < highestFirst.peek()) {
+                highestFirst.poll();
+                highestFirst.add(taskId);
+            }
+        });
+        List<Long> lowest = new ArrayList<>(highestFirst);
+        lowest.sort(null);
+        return lowest;
+    }
+
+    private int allocate(long taskId) {
+        Integer ordinal = freeOrdinals.poll();
+        if (ordinal == null) {
+            ordinal = nextOrdinal++;
+            if (ordinal == taskIds.length) {
+                taskIds = Arrays.copyOf(taskIds, ordinal * 2);
+                facets = Arrays.copyOf(facets, ordinal * 2);
+            }
+        }
+        ordinals.put(taskId, ordinal);
+        taskIds[ordinal] = taskId;
+        return ordinal;
+    }
+
+    private void unindex(int ordinal, Facets task) {
+        byStatus.get(task.status()).remove(ordinal);
+        byPriority.get(task.priority()).remove(ordinal);
+        if (task.assigneeId() != null) {
+            removeFrom(byAssignee, task.assigneeId(), ordinal);
+        } else {
+            unassigned.remove(ordinal);
+        }
+        for (Long tagId : task.tagIds()) {
+            removeFrom(byTag, tagId, ordinal);
+        }
+    }
+
+    private RoaringBitmap assigneeFilter(Filter filter) {
+        RoaringBitmap assignee = union(filter.assigneeIds(), byAssignee);
+        if (!filter.unassigned()) {
+            return assignee;
+        }
+        return assignee != null ? RoaringBitmap.or(assignee, unassigned) : unassigned;
+    }
+
+    /**
+     * Tasks with any of the values, or null for no filter.
+     */
+    private static <K> RoaringBitmap union(Set<K> values, Map<K, RoaringBitmap> bitmaps) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap union = null;
+        for (K value : values) {
+            RoaringBitmap bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                union = union == null ? bitmap : RoaringBitmap.or(union, bitmap);
+            }
+        }
+        return union != null ? union : new RoaringBitmap();
+    }
+
+    /**
+     * Tasks with all of the tags, or null for no filter.
+     */
+    private RoaringBitmap intersection(Set<Long> tagIds) {
+        RoaringBitmap intersection = null;
+        for (Long tagId : tagIds) {
+            RoaringBitmap bitmap = byTag.getOrDefault(tagId, new RoaringBitmap());
+            intersection = intersection == null ? bitmap : RoaringBitmap.and(intersection, bitmap);
+        }
+        return intersection;
+    }
+
+    /**
+     * Intersection of the given filters, ignoring the null ones; every task if all are null.
+     */
+    private RoaringBitmap and(RoaringBitmap... filters) {
+        RoaringBitmap result = all;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = result == all ? filter : RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private <K> Map<K, Integer> counts(Map<K, RoaringBitmap> bitmaps, RoaringBitmap filter) {
+        Map<K, Integer> counts = new LinkedHashMap<>();
+        bitmaps.forEach((value, bitmap) -> counts.put(value,
+                filter == all ? bitmap.cardinality() : RoaringBitmap.andCardinality(bitmap, filter)));
+        return counts;
+    }
+
+    private static <K> RoaringBitmap bitmap(Map<K, RoaringBitmap> bitmaps, K value) {
+        return bitmaps.computeIfAbsent(value, key -> new RoaringBitmap());
+    }
+
+    /**
+     * Remove an ordinal from the bitmap of a value, dropping the value once no task has it.
+     */
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K value, int ordinal) {
+        RoaringBitmap bitmap = bitmaps.get(value);
+        bitmap.remove(ordinal);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(value);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.TaskFacetsRequest;
+import com.projecthub.dto.TaskFacetsResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.repository.TaskFacetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service for task filtering and facet counts, backed by an in-memory {@link TaskFacetIndex} per project.
+ * An index is loaded with one query on first use. From then on, it is updated in place once a
+ * transaction that changes the project's tasks commits: the changed tasks are re-read by ID, and
+ * deleted tags are dropped, so the index never has to be rebuilt. Other nodes are told through the
+ * {@link CacheInvalidationBus} and drop their index of the project.
+ */
+@Service
+@Slf4j
+public class TaskFacetService {
+
+    static final String CHANNEL = "task_facets";
+    static final int MAX_LIMIT = 1000;
+
+    private final TaskFacetRepository taskFacetRepository;
+    private final ProjectMemberService projectMemberService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LoadingCache<Long, TaskFacetIndex> indexes;
+
+    public TaskFacetService(TaskFacetRepository taskFacetRepository,
+                            ProjectMemberService projectMemberService,
+                            CacheInvalidationBus cacheInvalidationBus,
+                            @Value("${app.task-facets.max-projects:1000}") int maxProjects) {
+        this.taskFacetRepository = taskFacetRepository;
+        this.projectMemberService = projectMemberService;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.indexes = new LoadingCache<>(maxProjects);
+        cacheInvalidationBus.subscribe(CHANNEL, this::invalidate);
+    }
+
+    /**
+     * Filter a project's tasks and count them per status, priority, assignee and tag.
+     */
+    public TaskFacetsResponse getFacets(Long projectId, TaskFacetsRequest request, Long userId) {
+        if (!projectMemberService.isMember(projectId, userId)) {
+            throw new NotFoundException("Project", "id", projectId);
+        }
+        if (request.getLimit() < 0 || request.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("The limit must be between 0 and " + MAX_LIMIT);
+        }
+
+        TaskFacetIndex.Result result = getIndex(projectId).query(new TaskFacetIndex.Filter(
+                Set.copyOf(request.getStatus()),
+                Set.copyOf(request.getPriority()),
+                Set.copyOf(request.getAssignee()),
+                request.isUnassigned(),
+                Set.copyOf(request.getTag()),
+                request.isAllTags()), request.getLimit());
+        return TaskFacetsResponse.builder()
+                .total(result.total())
+                .taskIds(result.taskIds())
+                .status(result.statuses())
+                .priority(result.priorities())
+                .assignee(result.assignees())
+                .unassigned(result.unassigned())
+                .tag(result.tags())
+                .build();
+    }
+
+    /**
+     * Get the facet index of a project, loading it if it is not cached.
+     */
+    TaskFacetIndex getIndex(Long projectId) {
+        return indexes.get(projectId, this::load);
+    }
+
+    private TaskFacetIndex load(Long projectId) {
+        TaskFacetIndex index = new TaskFacetIndex();
+        taskFacetRepository.forEachTask(projectId, task ->
+                index.put(task.id(), task.status(), task.priority(), task.assignedTo(), task.tagIds()));
+        log.debug("Loaded facet index of project {} with {} tasks", projectId, index.size());
+        return index;
+    }
+
+    /**
+     * Tell the other nodes about changed tasks, from inside the changing transaction.
+     */
+    @EventListener
+    public void publishTasksChanged(TasksChangedEvent event) {
+        cacheInvalidationBus.publish(CHANNEL, event.projectIds());
+    }
+
+    /**
+     * Re-read changed tasks into the indexes of their projects, if loaded.
+     * Updates of the same index are serialized, so the last one applied has read the latest commit.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksChanged(TasksChangedEvent event) {
+        for (Long projectId : event.projectIds()) {
+            TaskFacetIndex index = indexes.changed(projectId);
+            if (index == null) {
+                continue;
+            }
+            synchronized (index) {
+                Set<Long> removed = new HashSet<>(event.taskIds());
+                for (TaskFacetRepository.TaskFacets task : taskFacetRepository.findByIds(event.taskIds())) {
+                    if (task.projectId() == projectId) {
+                        index.put(task.id(), task.status(), task.priority(), task.assignedTo(), task.tagIds());
+                        removed.remove(task.id());
+                    }
+                }
+                removed.forEach(index::remove);
+            }
+        }
+    }
+
+    /**
+     * Drop a tag from the index of its project once the current transaction commits,
+     * or right away when there is no transaction.
+     */
+    public void removeTagAfterCommit(Long projectId, Long tagId) {
+        cacheInvalidationBus.publish(CHANNEL, projectId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeTag(projectId, tagId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeTag(projectId, tagId);
+            }
+        });
+    }
+
+    private void removeTag(Long projectId, Long tagId) {
+        TaskFacetIndex index = indexes.changed(projectId);
+        if (index != null) {
+            index.removeTag(tagId);
+        }
+    }
+
+    /**
+     * Drop the index of a project changed on another node, or of every project if null.
+     */
+    private void invalidate(Long projectId) {
+        if (projectId == null) {
+            indexes.invalidateAll();
+        } else {
+            indexes.invalidate(projectId);
+        }
+    }
+
+    List<Long> cachedProjects() {
+        return indexes.keys();
+    }
+}
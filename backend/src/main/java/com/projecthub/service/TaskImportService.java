@@ -0,0 +1,355 @@
+package com.projecthub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecthub.dto.ImportTaskRow;
+import com.projecthub.dto.TaskImportResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.model.RecurrencePattern;
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+import com.projecthub.repository.TaskBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for importing tasks in bulk from CSV or NDJSON.
+ * The body is streamed and validated row by row; valid rows are buffered in batches whose tags
+ * and dependencies are resolved with set-based queries and inserted with JDBC batches.
+ * Memory stays bounded by the batch size plus the map of {@code ref} keys seen so far.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final String DEFAULT_TAG_COLOR = "#6B7280";
+
+    private final ProjectMemberService projectMemberService;
+    private final TaskBulkRepository taskBulkRepository;
+    private final FlowAnalyticsService flowAnalyticsService;
+    private final DependencyGraphService dependencyGraphService;
+    private final TagCatalogService tagCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Supported import formats.
+     */
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * Import tasks into a project.
+     * Invalid rows are skipped and reported; everything else is imported in one transaction.
+     * A dependency must name the {@code ref} of an earlier row or an existing task as {@code #<id>},
+     * so an import can never introduce a dependency cycle.
+     *
+     * @param projectId project ID
+     * @param format body format
+     * @param body request body
+     * @param userId authenticated user's ID
+     * @return import summary
+     */
+    @Transactional
+    public TaskImportResponse importTasks(Long projectId, Format format, InputStream body, Long userId) {
+        log.debug("Importing {} tasks into project ID: {} by user ID: {}", format, projectId, userId);
+
+        if (!projectMemberService.isMember(projectId, userId)) {
+            throw new NotFoundException("Project", "id", projectId);
+        }
+
+        ImportRun run = new ImportRun(projectId);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 1 << 16);
+        try (TaskRowReader rows = format == Format.CSV
+                ? new CsvTaskRowReader(reader)
+                : new NdjsonTaskRowReader(reader, objectMapper)) {
+            TaskRowReader.Row row;
+            while ((row = rows.next()) != null) {
+                run.accept(row);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read import body: " + e.getMessage());
+        }
+        run.flush();
+
+        log.info("Imported {} tasks into project {} ({} rows rejected, {} tags created)",
+                run.response.getImported(), projectId, run.response.getRejected(), run.response.getTagsCreated());
+        return run.response;
+    }
+
+    /**
+     * State of one import: the pending batch, resolved refs and tags, and the running summary.
+     */
+    private class ImportRun {
+
+        private final Long projectId;
+        private final TaskImportResponse response = new TaskImportResponse();
+        private final Map<String, Long> refs = new HashMap<>();
+        private final Map<String, Long> tagIds = new HashMap<>();
+        private final Deque<Long> reservedIds = new ArrayDeque<>();
+        private final List<PendingTask> batch = new ArrayList<>();
+
+        ImportRun(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        void accept(TaskRowReader.Row row) {
+            if (row.error() != null) {
+                reject(row.line(), row.error());
+                return;
+            }
+            try {
+                batch.add(validate(row.line(), row.data()));
+            } catch (IllegalArgumentException e) {
+                reject(row.line(), e.getMessage());
+                return;
+            }
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private PendingTask validate(long line, ImportTaskRow data) {
+            String title = data.getTitle() != null ? data.getTitle().strip() : "";
+            if (title.isEmpty()) {
+                throw new IllegalArgumentException("Title is required");
+            }
+            if (title.length() > MAX_TITLE_LENGTH) {
+                throw new IllegalArgumentException("Title is longer than " + MAX_TITLE_LENGTH + " characters");
+            }
+
+            TaskStatus status = parseEnum(TaskStatus.class, data.getStatus(), "status", TaskStatus.TODO);
+            TaskPriority priority = parseEnum(TaskPriority.class, data.getPriority(), "priority", TaskPriority.MEDIUM);
+            RecurrencePattern recurrencePattern = parseEnum(RecurrencePattern.class,
+                    data.getRecurrencePattern(), "recurrencePattern", RecurrencePattern.NONE);
+            LocalDate dueDate = parseDate(data.getDueDate(), "dueDate");
+            LocalDate recurrenceEndDate = parseDate(data.getRecurrenceEndDate(), "recurrenceEndDate");
+
+            String ref = data.getRef() != null && !data.getRef().isBlank() ? data.getRef().strip() : null;
+            if (ref != null && refs.containsKey(ref)) {
+                throw new IllegalArgumentException("Duplicate ref '" + ref + "'");
+            }
+
+            Set<Long> dependsOn = new LinkedHashSet<>();
+            Set<Long> existingDependsOn = new LinkedHashSet<>();
+            for (String dependency : nonBlank(data.getDependsOn())) {
+                if (dependency.startsWith("#")) {
+                    existingDependsOn.add(parseTaskId(dependency));
+                } else {
+                    Long dependencyId = refs.get(dependency);
+                    if (dependencyId == null) {
+                        throw new IllegalArgumentException(
+                                "Unknown dependency '" + dependency + "': refs must be defined on an earlier row");
+                    }
+                    dependsOn.add(dependencyId);
+                }
+            }
+
+            Set<String> tags = nonBlank(data.getTags());
+            for (String tag : tags) {
+                if (tag.length() > MAX_TITLE_LENGTH) {
+                    throw new IllegalArgumentException("Tag name is longer than " + MAX_TITLE_LENGTH + " characters");
+                }
+            }
+
+            long id = nextId();
+            if (ref != null) {
+                refs.put(ref, id);
+            }
+            TaskBulkRepository.NewTask task = new TaskBulkRepository.NewTask(id, projectId, title,
+                    data.getDescription(), dueDate, status, priority, recurrencePattern, recurrenceEndDate);
+            return new PendingTask(line, ref, task, tags, dependsOn, existingDependsOn);
+        }
+
+        /**
+         * Resolve and insert the pending batch.
+         */
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // Existing dependencies are checked for the whole batch at once. A row pointing to a missing
+            // task is dropped, and so is any later row of the batch that depends on a dropped row.
+            Set<Long> existing = new HashSet<>();
+            Set<Long> requested = new HashSet<>();
+            batch.forEach(pending -> requested.addAll(pending.existingDependsOn()));
+            if (!requested.isEmpty()) {
+                existing.addAll(taskBulkRepository.findTaskIdsInProject(projectId, requested));
+            }
+
+            List<PendingTask> accepted = new ArrayList<>(batch.size());
+            Set<Long> dropped = new HashSet<>();
+            for (PendingTask pending : batch) {
+                String error = null;
+                for (Long dependencyId : pending.existingDependsOn()) {
+                    if (!existing.contains(dependencyId)) {
+                        error = "Dependency #" + dependencyId + " is not a task of this project";
+                        break;
+                    }
+                }
+                if (error == null && pending.dependsOn().stream().anyMatch(dropped::contains)) {
+                    error = "Depends on a rejected row";
+                }
+                if (error != null) {
+                    reject(pending.line(), error);
+                    dropped.add(pending.task().id());
+                    if (pending.ref() != null) {
+                        refs.remove(pending.ref());
+                    }
+                } else {
+                    accepted.add(pending);
+                }
+            }
+            batch.clear();
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            resolveTags(accepted);
+
+            List<TaskBulkRepository.NewTask> tasks = new ArrayList<>(accepted.size());
+            List<TaskBulkRepository.Link> tagLinks = new ArrayList<>();
+            List<TaskBulkRepository.Link> dependencyLinks = new ArrayList<>();
+            List<FlowAnalyticsService.StatusChange> changes = new ArrayList<>(accepted.size());
+            LocalDateTime now = LocalDateTime.now();
+            for (PendingTask pending : accepted) {
+                long id = pending.task().id();
+                tasks.add(pending.task());
+                new LinkedHashSet<>(pending.tags().stream().map(tagIds::get).toList())
+                        .forEach(tagId -> tagLinks.add(new TaskBulkRepository.Link(id, tagId)));
+                pending.dependsOn().forEach(dependencyId -> dependencyLinks.add(new TaskBulkRepository.Link(id, dependencyId)));
+                pending.existingDependsOn().forEach(dependencyId -> dependencyLinks.add(new TaskBulkRepository.Link(id, dependencyId)));
+                changes.add(new FlowAnalyticsService.StatusChange(id, projectId, null, pending.task().status(), now));
+            }
+
+            taskBulkRepository.insertTasks(tasks, now);
+            if (!tagLinks.isEmpty()) {
+                taskBulkRepository.insertTaskTags(tagLinks);
+                tagCatalogService.tagsChangedAfterCommit(projectId,
+                        tagLinks.stream().map(TaskBulkRepository.Link::targetId).collect(Collectors.toSet()));
+            }
+            if (!dependencyLinks.isEmpty()) {
+                taskBulkRepository.insertTaskDependencies(dependencyLinks);
+                dependencyGraphService.invalidateAfterCommit(List.of(projectId));
+            }
+            flowAnalyticsService.recordTransitions(changes);
+            eventPublisher.publishEvent(new TasksChangedEvent(List.of(projectId),
+                    tasks.stream().map(TaskBulkRepository.NewTask::id).collect(Collectors.toList())));
+            response.setImported(response.getImported() + tasks.size());
+        }
+
+        /**
+         * Look up the batch's unknown tag names and create the ones the project does not have yet.
+         */
+        private void resolveTags(List<PendingTask> accepted) {
+            Set<String> unknown = new HashSet<>();
+            accepted.forEach(pending -> pending.tags().stream()
+                    .filter(tag -> !tagIds.containsKey(tag))
+                    .forEach(unknown::add));
+            if (unknown.isEmpty()) {
+                return;
+            }
+
+            tagIds.putAll(taskBulkRepository.findTagIds(projectId, unknown));
+            unknown.removeAll(tagIds.keySet());
+            if (!unknown.isEmpty()) {
+                tagIds.putAll(taskBulkRepository.insertTags(projectId, unknown, DEFAULT_TAG_COLOR));
+                response.setTagsCreated(response.getTagsCreated() + unknown.size());
+            }
+        }
+
+        private long nextId() {
+            if (reservedIds.isEmpty()) {
+                reservedIds.addAll(taskBulkRepository.nextTaskIds(BATCH_SIZE));
+            }
+            return reservedIds.poll();
+        }
+
+        private void reject(long line, String message) {
+            response.setRejected(response.getRejected() + 1);
+            if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+                response.getErrors().add(new TaskImportResponse.RowError(line, message));
+            }
+        }
+    }
+
+    /**
+     * A validated row waiting for its batch to be flushed.
+     *
+     * @param dependsOn IDs of tasks created earlier in this import
+     * @param existingDependsOn IDs of tasks that must already exist in the project
+     */
+    private record PendingTask(long line, String ref, TaskBulkRepository.NewTask task, Set<String> tags,
+                               Set<Long> dependsOn, Set<Long> existingDependsOn) {
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field, E defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + " '" + value + "'");
+        }
+    }
+
+    private static LocalDate parseDate(String value, String field) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.strip());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + field + " '" + value + "', expected yyyy-MM-dd");
+        }
+    }
+
+    private static Long parseTaskId(String dependency) {
+        try {
+            return Long.parseLong(dependency.substring(1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid task reference '" + dependency + "'");
+        }
+    }
+
+    private static Set<String> nonBlank(List<String> values) {
+        Set<String> result = new LinkedHashSet<>();
+        if (values != null) {
+            values.stream()
+                    .filter(value -> value != null && !value.isBlank())
+                    .map(String::strip)
+                    .forEach(result::add);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,25 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.ReminderRepository;
+
+import java.util.List;
+
+/**
+ * Published once a day, on a single node, with the open tasks that are due soon or overdue.
+ * Published inside the transaction that records the day as sent; listeners that deliver
+ * notifications should use {@code @TransactionalEventListener}. No such listener ships with the
+ * application yet: reminders are scheduled and published, and delivering them by email or in-app is
+ * left to the integration that consumes this event.
+ *
+ * @param type which reminder the tasks get
+ * @param tasks tasks to remind their assignees of
+ */
+public record TaskReminderEvent(Type type, List<ReminderRepository.DueTask> tasks) {
+
+    public enum Type {
+        /** The due date is close, see {@code app.reminders.due-soon-days}. */
+        DUE_SOON,
+        /** The due date has passed. */
+        OVERDUE
+    }
+}
@@ -0,0 +1,35 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.ImportTaskRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streaming source of task import rows. Reads one row at a time so memory does not grow with the input.
+ */
+interface TaskRowReader extends Closeable {
+
+    /**
+     * Read the next row.
+     *
+     * @return the next row, or null at the end of the input
+     */
+    Row next() throws IOException;
+
+    /**
+     * A row read from the input. Either {@code data} or {@code error} is set.
+     *
+     * @param line line number the row starts on
+     */
+    record Row(long line, ImportTaskRow data, String error) {
+
+        static Row of(long line, ImportTaskRow data) {
+            return new Row(line, data, null);
+        }
+
+        static Row failed(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.projecthub.service;
 
+import com.projecthub.dto.BulkCompleteResponse;
+import com.projecthub.dto.BulkTagTasksRequest;
+import com.projecthub.dto.BulkTagTasksResponse;
+import com.projecthub.dto.BulkUpdateTasksRequest;
+import com.projecthub.dto.BulkUpdateTasksResponse;
 import com.projecthub.dto.CreateTaskRequest;
 import com.projecthub.dto.TagDTO;
 import com.projecthub.dto.TaskResponse;
@@ -7,16 +12,26 @@ import com.projecthub.dto.UpdateTaskRequest;
 import com.projecthub.exception.NotFoundException;
 import com.projecthub.model.*;
 import com.projecthub.repository.ProjectRepository;
+import com.projecthub.repository.TaskBulkRepository;
+import com.projecthub.repository.TaskDependencyRepository;
 import com.projecthub.repository.TagRepository;
 import com.projecthub.repository.TaskRepository;
 import com.projecthub.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,10 +45,19 @@ import java.util.stream.Collectors;
 public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final TaskBulkRepository taskBulkRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberService projectMemberService;
     private final UserRepository userRepository;
     private final TagRepository tagRepository;
+    private final FlowAnalyticsService flowAnalyticsService;
+    private final DependencyGraphService dependencyGraphService;
+    private final TagCatalogService tagCatalogService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    static final int BULK_CHUNK_SIZE = 1000;
 
     /**
      * Create a new task for a project.
@@ -62,26 +86,40 @@ public class TaskService {
             tags = new HashSet<>(tagRepository.findAllById(request.getTagIds()));
         }
 
-        // Load dependencies if provided
+        // Load dependencies if provided; a new task cannot close a cycle, but it must stay within its project
         Set<Task> dependencies = new HashSet<>();
         if (request.getDependsOnIds() != null && !request.getDependsOnIds().isEmpty()) {
             dependencies = new HashSet<>(taskRepository.findAllById(request.getDependsOnIds()));
+            boolean sameProject = dependencies.stream().allMatch(dependency -> dependency.getProject().getId().equals(projectId));
+            if (dependencies.size() != new HashSet<>(request.getDependsOnIds()).size() || !sameProject) {
+                throw new IllegalArgumentException("Dependencies must be existing tasks of the same project");
+            }
         }
 
+        RecurrencePattern recurrencePattern = request.getRecurrencePattern() != null
+                ? request.getRecurrencePattern() : RecurrencePattern.NONE;
         Task task = Task.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .dueDate(request.getDueDate())
                 .priority(request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM)
-                .recurrencePattern(request.getRecurrencePattern() != null ? request.getRecurrencePattern() : RecurrencePattern.NONE)
+                .recurrencePattern(recurrencePattern)
                 .recurrenceEndDate(request.getRecurrenceEndDate())
+                .recurrenceNextDate(recurrencePattern.firstRepeat(request.getDueDate(), request.getRecurrenceEndDate()))
                 .completed(false)
                 .project(project)
                 .tags(tags)
                 .dependsOn(dependencies)
+                .openDependencies((int) dependencies.stream().filter(dependency -> !dependency.getCompleted()).count())
                 .build();
 
         Task savedTask = taskRepository.save(task);
+        flowAnalyticsService.recordCreated(savedTask);
+        tasksChanged(List.of(projectId), List.of(savedTask.getId()));
+        tagCatalogService.tagsChangedAfterCommit(projectId, tagIds(savedTask));
+        if (!dependencies.isEmpty()) {
+            dependencyGraphService.invalidateAfterCommit(List.of(projectId));
+        }
         log.info("Task created successfully: ID={}, Title={}, Project={}", 
                 savedTask.getId(), savedTask.getTitle(), projectId);
 
@@ -89,15 +127,16 @@ public class TaskService {
     }
 
     /**
-     * Get all tasks for a project.
+     * Get all tasks for a project, optionally only the blocked or the actionable ones.
      * Validates that the project belongs to the user.
      *
      * @param projectId project ID
+     * @param blocked true for tasks with an open dependency, false for open tasks without one, null for all tasks
      * @param userId authenticated user's ID
      * @return list of tasks
      */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByProject(Long projectId, Long userId) {
+    public List<TaskResponse> getTasksByProject(Long projectId, Boolean blocked, Long userId) {
         log.debug("Fetching tasks for project ID: {} by user ID: {}", projectId, userId);
 
         // Verify user is a member of the project
@@ -105,8 +144,15 @@ public class TaskService {
             throw new NotFoundException("Project", "id", projectId);
         }
 
-        List<Task> tasks = taskRepository.findByProjectId(projectId);
-        log.info("Found {} tasks for project ID: {}", tasks.size(), projectId);
+        List<Task> tasks;
+        if (blocked == null) {
+            tasks = taskRepository.findByProjectId(projectId);
+        } else if (blocked) {
+            tasks = taskRepository.findBlockedByProjectId(projectId);
+        } else {
+            tasks = taskRepository.findActionableByProjectId(projectId);
+        }
+        log.info("Found {} tasks for project ID: {} (blocked={})", tasks.size(), projectId, blocked);
 
         return tasks.stream()
                 .map(this::mapToTaskResponse)
@@ -145,14 +191,21 @@ public class TaskService {
             throw new IllegalArgumentException("Only the assigned user or project admins can update this task");
         }
 
+        boolean wasCompleted = task.getCompleted();
         if (request.getCompleted() != null) {
             task.setCompleted(request.getCompleted());
         }
+        List<Long> unblocked = updateDependents(task, wasCompleted);
+        if (wasCompleted != task.getCompleted()) {
+            tasksChanged(List.of(projectId), List.of(taskId));
+        }
 
         Task updatedTask = taskRepository.save(task);
         log.info("Task {} updated by user {}: completed={}", taskId, userId, updatedTask.getCompleted());
 
-        return mapToTaskResponse(updatedTask);
+        TaskResponse response = mapToTaskResponse(updatedTask);
+        response.setUnblockedTaskIds(unblocked);
+        return response;
     }
 
     /**
@@ -169,10 +222,66 @@ public class TaskService {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new NotFoundException("Task", "id", taskId));
 
+        if (!task.getCompleted()) {
+            releaseDependents(List.of(taskId));
+        }
+        tasksChanged(List.of(task.getProject().getId()), List.of(taskId));
+        tagCatalogService.tagsChangedAfterCommit(task.getProject().getId(), tagIds(task));
+        taskDependencyRepository.deleteDependentLinks(List.of(taskId));
         taskRepository.delete(task);
+        flowAnalyticsService.recordRemovals(task.getProject().getId(), Map.of(task.getStatus(), 1L));
+        dependencyGraphService.invalidateAfterCommit(List.of(task.getProject().getId()));
         log.info("Task {} deleted successfully", taskId);
     }
 
+    /**
+     * Keep the open-dependency counts of a task's dependents in step with its completion.
+     *
+     * @return dependents that became actionable because the task was completed
+     */
+    private List<Long> updateDependents(Task task, boolean wasCompleted) {
+        if (wasCompleted == task.getCompleted()) {
+            return List.of();
+        }
+        if (task.getCompleted()) {
+            return releaseDependents(List.of(task.getId()));
+        }
+        taskDependencyRepository.holdDependents(List.of(task.getId()));
+        return List.of();
+    }
+
+    /**
+     * Decrement the counts of the direct dependents of newly completed or deleted open tasks and
+     * announce the ones that became actionable. Only the links of those tasks are touched.
+     *
+     * @return dependents that became actionable
+     */
+    private List<Long> releaseDependents(List<Long> taskIds) {
+        List<Long> unblocked = taskDependencyRepository.releaseDependents(taskIds);
+        announceUnblocked(taskIds.size(), unblocked);
+        return unblocked;
+    }
+
+    private void announceUnblocked(int released, List<Long> unblocked) {
+        if (!unblocked.isEmpty()) {
+            eventPublisher.publishEvent(new TasksUnblockedEvent(unblocked));
+            log.debug("Completing or deleting {} tasks unblocked {} tasks", released, unblocked.size());
+        }
+    }
+
+    /**
+     * Let the reminder scheduler and the facet index know that tasks were created, deleted or changed.
+     */
+    private void tasksChanged(Collection<Long> projectIds, List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            eventPublisher.publishEvent(new TasksChangedEvent(List.copyOf(projectIds), taskIds));
+        }
+    }
+
+    private static List<Long> tagIds(Task task) {
+        return task.getTags().stream().map(Tag::getId).collect(Collectors.toList());
+    }
+
     /**
      * Map Task entity to TaskResponse DTO.
      */
@@ -204,12 +313,15 @@ public class TaskService {
                 .priority(task.getPriority())
                 .recurrencePattern(task.getRecurrencePattern())
                 .recurrenceEndDate(task.getRecurrenceEndDate())
+                .recurrenceParentId(task.getRecurrenceParentId())
                 .projectId(task.getProject().getId())
                 .assignedToId(task.getAssignedTo() != null ? task.getAssignedTo().getId() : null)
                 .assignedToEmail(task.getAssignedTo() != null ? task.getAssignedTo().getEmail() : null)
                 .tags(tagDTOs)
                 .dependsOnIds(dependsOnIds)
                 .blockedByIds(blockedByIds)
+                .openDependencies(task.getOpenDependencies())
+                .blocked(task.getOpenDependencies() > 0)
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
@@ -242,6 +354,7 @@ public class TaskService {
 
         task.setAssignedTo(assignee);
         task = taskRepository.save(task);
+        tasksChanged(List.of(projectId), List.of(taskId));
         log.info("Task {} assigned to user {}", taskId, assigneeId);
 
         return mapToTaskResponse(task);
@@ -264,6 +377,7 @@ public class TaskService {
 
         task.setAssignedTo(null);
         task = taskRepository.save(task);
+        tasksChanged(List.of(task.getProject().getId()), List.of(taskId));
         log.info("Task {} unassigned", taskId);
 
         return mapToTaskResponse(task);
@@ -296,6 +410,8 @@ public class TaskService {
             throw new IllegalArgumentException("Only the assigned user or project admins can update task status");
         }
 
+        TaskStatus previousStatus = task.getStatus();
+        boolean wasCompleted = task.getCompleted();
         task.setStatus(status);
         
         // Auto-mark as completed when moved to DONE
@@ -305,55 +421,318 @@ public class TaskService {
             // Unmark completed if moved back to TODO or IN_PROGRESS
             task.setCompleted(false);
         }
+        List<Long> unblocked = updateDependents(task, wasCompleted);
+        if (previousStatus != status || wasCompleted != task.getCompleted()) {
+            tasksChanged(List.of(projectId), List.of(taskId));
+        }
 
         task = taskRepository.save(task);
+        flowAnalyticsService.recordTransition(task, previousStatus);
         log.info("Task {} status updated to {} by user {}", taskId, status, userId);
 
-        return mapToTaskResponse(task);
+        TaskResponse response = mapToTaskResponse(task);
+        response.setUnblockedTaskIds(unblocked);
+        return response;
     }
 
     /**
-     * Bulk complete tasks.
+     * Bulk complete tasks with set-based SQL.
+     * Membership and open dependencies are resolved in one query per chunk and the tasks
+     * are completed with a single UPDATE that re-checks the dependency rule, so no entity is loaded.
+     * A dependency counts as open if it was not completed before this call.
+     *
+     * @param taskIds task IDs to complete
+     * @param userId authenticated user's ID
+     * @return per-task outcome
      */
     @Transactional
-    public void bulkCompleteTasks(List<Long> taskIds, Long userId) {
+    public BulkCompleteResponse bulkCompleteTasks(List<Long> taskIds, Long userId) {
         log.debug("Bulk completing {} tasks", taskIds.size());
 
-        List<Task> tasks = taskRepository.findAllById(taskIds);
-        
-        for (Task task : tasks) {
-            // Verify user is a member
-            if (!projectMemberService.isMember(task.getProject().getId(), userId)) {
-                continue; // Skip tasks user doesn't have access to
+        BulkCompleteResponse response = new BulkCompleteResponse();
+        for (List<Long> chunk : partition(taskIds.stream().distinct().collect(Collectors.toList()), BULK_CHUNK_SIZE)) {
+            completeChunk(chunk, userId, response);
+        }
+
+        log.info("Bulk completed {} tasks ({} forbidden, {} blocked, {} not found)",
+                response.getCompleted().size(), response.getForbidden().size(),
+                response.getBlocked().size(), response.getNotFound().size());
+        return response;
+    }
+
+    /**
+     * Complete one chunk of tasks in its own transaction.
+     * Used by asynchronous bulk jobs, which commit after every chunk.
+     *
+     * @param taskIds at most {@link #BULK_CHUNK_SIZE} distinct task IDs
+     * @param userId ID of the user who submitted the job
+     * @return per-task outcome of the chunk
+     */
+    @Transactional
+    public BulkCompleteResponse completeTasksChunk(List<Long> taskIds, Long userId) {
+        BulkCompleteResponse response = new BulkCompleteResponse();
+        completeChunk(taskIds, userId, response);
+        return response;
+    }
+
+    private void completeChunk(List<Long> taskIds, Long userId, BulkCompleteResponse response) {
+        Map<Long, TaskBulkRepository.BulkCandidate> candidates = taskBulkRepository.findBulkCandidates(taskIds, userId).stream()
+                .collect(Collectors.toMap(TaskBulkRepository.BulkCandidate::id, candidate -> candidate));
+
+        List<Long> toUpdate = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            TaskBulkRepository.BulkCandidate candidate = candidates.get(taskId);
+            if (candidate == null) {
+                response.getNotFound().add(taskId);
+            } else if (!candidate.member()) {
+                response.getForbidden().add(taskId);
+            } else if (candidate.completed() && TaskStatus.DONE.name().equals(candidate.status())) {
+                response.getCompleted().add(taskId);
+            } else {
+                toUpdate.add(taskId);
             }
-            
-            // Check dependencies
-            boolean canComplete = task.getDependsOn().stream()
-                    .allMatch(Task::getCompleted);
-            
-            if (canComplete) {
-                task.setCompleted(true);
-                task.setStatus(TaskStatus.DONE);
+        }
+
+        if (toUpdate.isEmpty()) {
+            return;
+        }
+
+        Set<Long> updated = new HashSet<>(taskBulkRepository.completeUnblocked(toUpdate, LocalDateTime.now()));
+        List<FlowAnalyticsService.StatusChange> changes = new ArrayList<>();
+        List<Long> newlyCompleted = new ArrayList<>();
+        for (Long taskId : toUpdate) {
+            if (!updated.contains(taskId)) {
+                response.getBlocked().add(taskId);
+                continue;
+            }
+            response.getCompleted().add(taskId);
+
+            TaskBulkRepository.BulkCandidate candidate = candidates.get(taskId);
+            if (!candidate.completed()) {
+                newlyCompleted.add(taskId);
+            }
+            TaskStatus previousStatus = TaskStatus.valueOf(candidate.status());
+            if (previousStatus != TaskStatus.DONE) {
+                changes.add(new FlowAnalyticsService.StatusChange(
+                        taskId, candidate.projectId(), previousStatus, TaskStatus.DONE, candidate.createdAt()));
             }
         }
-        
-        taskRepository.saveAll(tasks);
-        log.info("Bulk completed {} tasks", tasks.size());
+        response.getUnblocked().addAll(releaseDependents(newlyCompleted));
+        List<Long> changed = toUpdate.stream().filter(updated::contains).collect(Collectors.toList());
+        tasksChanged(changed.stream().map(taskId -> candidates.get(taskId).projectId()).collect(Collectors.toSet()),
+                changed);
+        flowAnalyticsService.recordTransitions(changes);
     }
 
     /**
-     * Bulk delete tasks.
+     * Move and/or reassign many tasks with set-based SQL.
+     * Applies the same rules as {@link #updateTaskStatus} and {@link #assignTask} to every task,
+     * but looks up the requester's and the assignee's membership once per project and writes
+     * each chunk with a single UPDATE. A task is either fully updated or left untouched.
+     *
+     * @param request task IDs and the changes to apply
+     * @param userId authenticated user's ID
+     * @return per-task outcome in request order
+     */
+    @Transactional
+    public BulkUpdateTasksResponse bulkUpdateTasks(BulkUpdateTasksRequest request, Long userId) {
+        TaskStatus status = request.getStatus();
+        Long assigneeId = request.getAssigneeId();
+        boolean changeAssignee = assigneeId != null || request.isUnassign();
+        if (assigneeId != null && request.isUnassign()) {
+            throw new IllegalArgumentException("Cannot assign and unassign at the same time");
+        }
+        if (status == null && !changeAssignee) {
+            throw new IllegalArgumentException("Nothing to update: set a status, an assignee or unassign");
+        }
+        log.debug("Bulk updating {} tasks (status {}, assignee {})", request.getTaskIds().size(), status, assigneeId);
+
+        Map<Long, ProjectRole> roles = new HashMap<>();
+        Set<Long> assigneeProjects = new HashSet<>();
+        Set<Long> checkedProjects = new HashSet<>();
+        BulkUpdateTasksResponse response = new BulkUpdateTasksResponse();
+        List<Long> taskIds = request.getTaskIds().stream().distinct().collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (List<Long> chunk : partition(taskIds, BULK_CHUNK_SIZE)) {
+            Map<Long, TaskBulkRepository.UpdateCandidate> candidates = taskBulkRepository.lockUpdateCandidates(chunk).stream()
+                    .collect(Collectors.toMap(TaskBulkRepository.UpdateCandidate::id, candidate -> candidate));
+
+            List<Long> newProjects = candidates.values().stream()
+                    .map(TaskBulkRepository.UpdateCandidate::projectId)
+                    .filter(checkedProjects::add)
+                    .distinct()
+                    .collect(Collectors.toList());
+            if (!newProjects.isEmpty()) {
+                roles.putAll(taskBulkRepository.findRoles(userId, newProjects));
+                if (assigneeId != null) {
+                    assigneeProjects.addAll(taskBulkRepository.findRoles(assigneeId, newProjects).keySet());
+                }
+            }
+
+            List<Long> toUpdate = new ArrayList<>();
+            List<Long> completing = new ArrayList<>();
+            List<Long> reopening = new ArrayList<>();
+            List<FlowAnalyticsService.StatusChange> changes = new ArrayList<>();
+            for (Long taskId : chunk) {
+                TaskBulkRepository.UpdateCandidate candidate = candidates.get(taskId);
+                BulkUpdateTasksResponse.Outcome outcome;
+                if (candidate == null) {
+                    outcome = BulkUpdateTasksResponse.Outcome.NOT_FOUND;
+                } else if (!mayUpdate(candidate, roles.get(candidate.projectId()), status, userId)) {
+                    outcome = BulkUpdateTasksResponse.Outcome.FORBIDDEN;
+                } else if (assigneeId != null && !assigneeProjects.contains(candidate.projectId())) {
+                    outcome = BulkUpdateTasksResponse.Outcome.INVALID_ASSIGNEE;
+                } else {
+                    outcome = BulkUpdateTasksResponse.Outcome.UPDATED;
+                    toUpdate.add(taskId);
+                    if (status != null && status != candidate.status()) {
+                        changes.add(new FlowAnalyticsService.StatusChange(
+                                taskId, candidate.projectId(), candidate.status(), status, candidate.createdAt()));
+                    }
+                    if (status == TaskStatus.DONE && !candidate.completed()) {
+                        completing.add(taskId);
+                    } else if (status != null && status != TaskStatus.DONE && candidate.completed()) {
+                        reopening.add(taskId);
+                    }
+                }
+                response.getResults().add(new BulkUpdateTasksResponse.Result(taskId, outcome));
+            }
+
+            if (!toUpdate.isEmpty()) {
+                taskBulkRepository.updateStatusAndAssignee(toUpdate, status, changeAssignee, assigneeId, now);
+                response.getUnblocked().addAll(releaseDependents(completing));
+                taskDependencyRepository.holdDependents(reopening);
+                tasksChanged(toUpdate.stream().map(taskId -> candidates.get(taskId).projectId()).collect(Collectors.toSet()),
+                        toUpdate);
+                response.setUpdated(response.getUpdated() + toUpdate.size());
+            }
+            flowAnalyticsService.recordTransitions(changes);
+        }
+
+        log.info("Bulk updated {} of {} tasks by user {}", response.getUpdated(), taskIds.size(), userId);
+        return response;
+    }
+
+    /**
+     * Any member may reassign a task; moving it also requires being its assignee, owner or admin.
+     */
+    private static boolean mayUpdate(TaskBulkRepository.UpdateCandidate task, ProjectRole role,
+                                     TaskStatus status, Long userId) {
+        if (role == null) {
+            return false;
+        }
+        return status == null
+                || role == ProjectRole.OWNER
+                || role == ProjectRole.ADMIN
+                || userId.equals(task.assignedTo());
+    }
+
+    /**
+     * Add tags to and remove tags from many tasks with set-based SQL.
+     * One query checks that every task and tag exists, that they all belong to one project and that
+     * the user is a member of it; then the links are inserted and deleted with one statement each,
+     * so no task or tag entity is loaded.
+     *
+     * @param request task IDs and the tags to add and remove
+     * @param userId authenticated user's ID
+     * @return number of links added and removed
+     * @throws IllegalArgumentException if a task or tag is missing, the project is not unique or not the user's
      */
     @Transactional
+    public BulkTagTasksResponse bulkTagTasks(BulkTagTasksRequest request, Long userId) {
+        List<Long> taskIds = request.getTaskIds().stream().distinct().collect(Collectors.toList());
+        Set<Long> addTagIds = new HashSet<>(request.getAddTagIds() != null ? request.getAddTagIds() : List.of());
+        Set<Long> removeTagIds = new HashSet<>(request.getRemoveTagIds() != null ? request.getRemoveTagIds() : List.of());
+        if (addTagIds.isEmpty() && removeTagIds.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to update: add or remove at least one tag");
+        }
+        Set<Long> tagIds = new HashSet<>(addTagIds);
+        tagIds.addAll(removeTagIds);
+        if (tagIds.size() < addTagIds.size() + removeTagIds.size()) {
+            throw new IllegalArgumentException("Cannot add and remove the same tag");
+        }
+        log.debug("Bulk tagging {} tasks (+{} -{} tags)", taskIds.size(), addTagIds.size(), removeTagIds.size());
+
+        List<TaskBulkRepository.TaggingScope> scopes = taskBulkRepository.findTaggingScopes(taskIds, tagIds, userId);
+        TaskBulkRepository.TaggingScope scope = scopes.size() == 1 ? scopes.get(0) : null;
+        if (scope == null || scope.tasks() != taskIds.size() || scope.tags() != tagIds.size()) {
+            throw new IllegalArgumentException("Tasks and tags must exist and belong to the same project");
+        }
+        if (!scope.member()) {
+            throw new IllegalArgumentException("You don't have access to this project");
+        }
+
+        int added = addTagIds.isEmpty() ? 0 : taskBulkRepository.addTaskTags(taskIds, addTagIds);
+        int removed = removeTagIds.isEmpty() ? 0 : taskBulkRepository.removeTaskTags(taskIds, removeTagIds);
+        if (added + removed > 0) {
+            tasksChanged(List.of(scope.projectId()), taskIds);
+            tagCatalogService.tagsChangedAfterCommit(scope.projectId(), tagIds);
+        }
+
+        log.info("Bulk tagged {} tasks by user {}: {} links added, {} removed", taskIds.size(), userId, added, removed);
+        return new BulkTagTasksResponse(added, removed);
+    }
+
+    /**
+     * Bulk delete tasks with set-based SQL.
+     * Tasks outside the user's projects are skipped. Each chunk is deleted in its own
+     * transaction together with its tag and dependency links, so no entity is loaded
+     * and a large request never holds locks on all rows at once.
+     *
+     * @param taskIds task IDs to delete
+     * @param userId authenticated user's ID
+     */
     public void bulkDeleteTasks(List<Long> taskIds, Long userId) {
         log.debug("Bulk deleting {} tasks", taskIds.size());
 
-        List<Task> tasks = taskRepository.findAllById(taskIds);
-        List<Task> tasksToDelete = tasks.stream()
-                .filter(task -> projectMemberService.isMember(task.getProject().getId(), userId))
-                .collect(Collectors.toList());
+        int deleted = 0;
+        for (List<Long> chunk : partition(taskIds.stream().distinct().collect(Collectors.toList()), BULK_CHUNK_SIZE)) {
+            deleted += transactionTemplate.execute(status -> deleteChunk(chunk, userId)).size();
+        }
+        log.info("Bulk deleted {} tasks", deleted);
+    }
+
+    /**
+     * Delete one chunk of tasks in its own transaction.
+     * Used by asynchronous bulk jobs, which commit after every chunk.
+     *
+     * @param taskIds at most {@link #BULK_CHUNK_SIZE} distinct task IDs
+     * @param userId ID of the user who submitted the job
+     * @return IDs of the deleted tasks
+     */
+    @Transactional
+    public List<Long> deleteTasksChunk(List<Long> taskIds, Long userId) {
+        return deleteChunk(taskIds, userId);
+    }
+
+    private List<Long> deleteChunk(List<Long> taskIds, Long userId) {
+        TaskBulkRepository.Deletion deletion = taskBulkRepository.deleteAccessible(taskIds, userId);
+        List<TaskBulkRepository.DeletedTask> deleted = deletion.tasks();
+        announceUnblocked(deleted.size(), deletion.unblocked());
+        deleted.stream()
+                .collect(Collectors.groupingBy(TaskBulkRepository.DeletedTask::projectId,
+                        Collectors.groupingBy(TaskBulkRepository.DeletedTask::status,
+                                () -> new EnumMap<>(TaskStatus.class), Collectors.counting())))
+                .forEach(flowAnalyticsService::recordRemovals);
+        Set<Long> projectIds = deleted.stream()
+                .map(TaskBulkRepository.DeletedTask::projectId)
+                .collect(Collectors.toSet());
+        dependencyGraphService.invalidateAfterCommit(projectIds);
+        tagCatalogService.invalidateAfterCommit(projectIds);
+        List<Long> deletedIds = deleted.stream().map(TaskBulkRepository.DeletedTask::id).collect(Collectors.toList());
+        tasksChanged(projectIds, deletedIds);
+        return deletedIds;
+    }
 
-        taskRepository.deleteAll(tasksToDelete);
-        log.info("Bulk deleted {} tasks", tasksToDelete.size());
+    /**
+     * Split IDs into chunks to keep IN lists within bind parameter limits.
+     */
+    static List<List<Long>> partition(List<Long> ids, int size) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += size) {
+            chunks.add(ids.subList(i, Math.min(i + size, ids.size())));
+        }
+        return chunks;
     }
 }
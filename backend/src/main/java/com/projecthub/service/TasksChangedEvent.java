@@ -0,0 +1,14 @@
+package com.projecthub.service;
+
+import java.util.List;
+
+/**
+ * Published when tasks are created or deleted, or their status, completion, assignee or tags change.
+ * Published inside the changing transaction; the facet index tells the other nodes right away, and
+ * picks it up after commit to re-read the tasks.
+ *
+ * @param projectIds projects of the tasks
+ * @param taskIds tasks that changed
+ */
+public record TasksChangedEvent(List<Long> projectIds, List<Long> taskIds) {
+}
@@ -0,0 +1,13 @@
+package com.projecthub.service;
+
+import java.util.List;
+
+/**
+ * Published when completing or deleting tasks leaves other tasks with no open dependency, so they can
+ * be worked on now. Published inside the completing or deleting transaction; listeners that must only
+ * see committed changes should use {@code @TransactionalEventListener}.
+ *
+ * @param taskIds tasks that just became actionable
+ */
+public record TasksUnblockedEvent(List<Long> taskIds) {
+}
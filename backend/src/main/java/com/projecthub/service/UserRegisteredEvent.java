@@ -0,0 +1,11 @@
+package com.projecthub.service;
+
+/**
+ * Published when a user account is created, inside the creating transaction.
+ * The email indexes pick it up after commit.
+ *
+ * @param userId the new user
+ * @param email the new user's email
+ */
+public record UserRegisteredEvent(Long userId, String email) {
+}
@@ -0,0 +1,172 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.UserSearchDTO;
+import com.projecthub.repository.UserSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Service for finding users by email.
+ * Substring search runs in the database on a trigram index. Type-ahead completes email prefixes from
+ * an in-memory {@link EmailPrefixTrie}, loaded with one streaming scan on first use and extended as
+ * users register, here or on other nodes through the {@link CacheInvalidationBus}. The scan runs
+ * without holding the lock: type-ahead asks the database meanwhile, and registrations are buffered
+ * and added before the loaded trie is swapped in.
+ */
+@Service
+@Slf4j
+public class UserSearchService {
+
+    static final int MAX_LIMIT = 50;
+
+    private final UserSearchRepository userSearchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean autocompleteInMemory;
+
+    /** Guarded by this; null until first used and after a missed notification. */
+    private EmailPrefixTrie trie;
+    /** Guarded by this; users registered while the trie is being loaded, or null if no load is running. */
+    private List<UserSearchRepository.UserEmail> pending;
+    /** Guarded by this; bumped when notifications may have been missed, so a load overlapping it is not kept. */
+    private long generation;
+
+    public UserSearchService(UserSearchRepository userSearchRepository,
+                             CacheInvalidationBus cacheInvalidationBus,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${app.user-search.autocomplete-in-memory:true}") boolean autocompleteInMemory) {
+        this.userSearchRepository = userSearchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.autocompleteInMemory = autocompleteInMemory;
+        if (autocompleteInMemory) {
+            cacheInvalidationBus.subscribe(RegisteredEmailFilter.CHANNEL, this::userAdded);
+        }
+    }
+
+    /**
+     * Users whose email contains a term, ignoring case, in alphabetical order.
+     */
+    public List<UserSearchDTO> search(String term, int limit) {
+        checkLimit(limit);
+        if (term == null || term.isBlank()) {
+            return List.of();
+        }
+        return find("%" + escapeLike(term.trim()) + "%", limit);
+    }
+
+    /**
+     * Users whose email starts with a prefix, ignoring case, in alphabetical order.
+     * Answered from memory once the trie is loaded, without a transaction or a database connection.
+     */
+    public List<UserSearchDTO> autocomplete(String prefix, int limit) {
+        checkLimit(limit);
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (!autocompleteInMemory) {
+            return find(escapeLike(prefix.trim()) + "%", limit);
+        }
+        EmailPrefixTrie current = loadedTrie();
+        if (current == null) {
+            // Another request is loading the trie
+            return find(escapeLike(prefix.trim()) + "%", limit);
+        }
+        synchronized (this) {
+            return current.complete(prefix.trim(), limit).stream()
+                    .map(entry -> new UserSearchDTO(entry.id(), entry.email()))
+                    .toList();
+        }
+    }
+
+    /**
+     * Add a new user to the type-ahead once registered. Other nodes learn of it from the notification
+     * sent by the {@link RegisteredEmailFilter}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        if (!autocompleteInMemory) {
+            return;
+        }
+        add(new UserSearchRepository.UserEmail(event.userId(), event.email()));
+    }
+
+    /**
+     * Add a user registered on another node, or reload everything if null.
+     */
+    private void userAdded(Long userId) {
+        if (userId == null) {
+            synchronized (this) {
+                trie = null;
+                generation++;
+            }
+            return;
+        }
+        userSearchRepository.findById(userId).ifPresent(this::add);
+    }
+
+    private synchronized void add(UserSearchRepository.UserEmail user) {
+        if (pending != null) {
+            pending.add(user);
+        }
+        if (trie != null) {
+            trie.add(user.id(), user.email());
+        }
+    }
+
+    /**
+     * The trie, loaded first if needed, or null while another request loads it. Users registered
+     * during the scan are added before it is swapped in, so none is lost; adding a user the scan
+     * already saw changes nothing.
+     */
+    private EmailPrefixTrie loadedTrie() {
+        long loadGeneration;
+        synchronized (this) {
+            if (trie != null || pending != null) {
+                return trie;
+            }
+            pending = new ArrayList<>();
+            loadGeneration = generation;
+        }
+
+        EmailPrefixTrie loaded = new EmailPrefixTrie();
+        try {
+            // The scan's cursor needs a transaction, only for as long as it runs
+            transactionTemplate.executeWithoutResult(status ->
+                    userSearchRepository.forEachUser(user -> loaded.add(user.id(), user.email())));
+            synchronized (this) {
+                pending.forEach(user -> loaded.add(user.id(), user.email()));
+                if (generation == loadGeneration) {
+                    trie = loaded;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+        log.info("Loaded {} user emails for type-ahead", loaded.size());
+        return loaded;
+    }
+
+    private List<UserSearchDTO> find(String pattern, int limit) {
+        return userSearchRepository.findByEmailLike(pattern.toLowerCase(Locale.ROOT), limit).stream()
+                .map(user -> new UserSearchDTO(user.id(), user.email()))
+                .toList();
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
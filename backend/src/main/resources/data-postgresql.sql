@@ -0,0 +1,66 @@
+-- Idempotent data maintenance, executed on every startup after Hibernate has updated the schema.
+-- Steps that scan whole tables are one-time migrations: each first claims its row in data_migrations,
+-- and does nothing once the row exists.
+
+-- Seed the status transition log and flow rollups for tasks created before transitions were recorded.
+-- Each task without any transition gets one "created" entry in its current status.
+WITH migration AS (
+    INSERT INTO data_migrations (name, applied_at) VALUES ('seed-status-transitions', now())
+    ON CONFLICT (name) DO NOTHING
+    RETURNING name
+), seeded AS (
+    INSERT INTO task_status_transitions (task_id, project_id, from_status, to_status, transitioned_at)
+    SELECT t.id, t.project_id, NULL, t.status,
+           CASE WHEN t.status = 'DONE' THEN t.updated_at ELSE t.created_at END
+    FROM tasks t
+    WHERE EXISTS (SELECT 1 FROM migration)
+      AND NOT EXISTS (SELECT 1 FROM task_status_transitions s WHERE s.task_id = t.id)
+    RETURNING task_id, project_id, to_status, transitioned_at
+)
+INSERT INTO project_flow_rollups (project_id, bucket_date, status, entered, exited,
+                                  cycle_time_seconds, cycle_samples, lead_time_seconds)
+SELECT s.project_id, CAST(s.transitioned_at AS date), s.to_status, COUNT(*), 0, 0, 0,
+       COALESCE(SUM(CASE WHEN s.to_status = 'DONE'
+                         THEN CAST(EXTRACT(EPOCH FROM (s.transitioned_at - t.created_at)) AS bigint)
+                         ELSE 0 END), 0)
+FROM seeded s
+JOIN tasks t ON t.id = s.task_id
+GROUP BY s.project_id, CAST(s.transitioned_at AS date), s.to_status
+ON CONFLICT (project_id, bucket_date, status) DO UPDATE SET
+    entered = project_flow_rollups.entered + EXCLUDED.entered,
+    lead_time_seconds = project_flow_rollups.lead_time_seconds + EXCLUDED.lead_time_seconds;
+
+-- Count open dependencies of tasks created before the count was maintained.
+-- Only tasks with dependencies can have a count other than 0, and only rows that differ are written.
+WITH migration AS (
+    INSERT INTO data_migrations (name, applied_at) VALUES ('count-open-dependencies', now())
+    ON CONFLICT (name) DO NOTHING
+    RETURNING name
+)
+UPDATE tasks t SET open_dependencies = c.open
+FROM (SELECT d.task_id, COUNT(dep.id) AS open
+      FROM task_dependencies d
+      LEFT JOIN tasks dep ON dep.id = d.depends_on_task_id AND dep.completed = false
+      WHERE EXISTS (SELECT 1 FROM migration)
+      GROUP BY d.task_id) c
+WHERE t.id = c.task_id AND t.open_dependencies <> c.open;
+
+-- Start the series of recurring tasks created before occurrences were generated.
+-- A series that already has occurrences, or whose first repeat is past its end date, is left alone.
+WITH migration AS (
+    INSERT INTO data_migrations (name, applied_at) VALUES ('start-recurrence-series', now())
+    ON CONFLICT (name) DO NOTHING
+    RETURNING name
+)
+UPDATE tasks t SET recurrence_next_date = r.first_repeat
+FROM (SELECT id, CAST(due_date + CASE recurrence_pattern
+                                     WHEN 'DAILY' THEN INTERVAL '1 day'
+                                     WHEN 'WEEKLY' THEN INTERVAL '7 days'
+                                     ELSE INTERVAL '1 month' END AS date) AS first_repeat
+      FROM tasks
+      WHERE recurrence_pattern <> 'NONE' AND due_date IS NOT NULL
+        AND recurrence_next_date IS NULL AND recurrence_parent_id IS NULL
+        AND EXISTS (SELECT 1 FROM migration)) r
+WHERE t.id = r.id
+  AND (t.recurrence_end_date IS NULL OR r.first_repeat <= t.recurrence_end_date)
+  AND NOT EXISTS (SELECT 1 FROM tasks o WHERE o.recurrence_parent_id = t.id);
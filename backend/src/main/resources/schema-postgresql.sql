@@ -0,0 +1,117 @@
+-- Idempotent schema maintenance, executed on every startup after Hibernate has updated the schema.
+
+-- Entity ids come from pooled sequences (increment 50) created by Hibernate instead of identity columns.
+-- Existing ids are kept: the old identity/serial generator is dropped and each sequence is moved past the highest id.
+-- A sequence value v stands for the id block (v - 50, v], so the next value must be at least max(id) + 50.
+-- Sequences are only ever moved forward, so a node starting while others are running cannot reuse a block.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS users_id_seq;
+ALTER TABLE projects ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE projects ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS projects_id_seq;
+ALTER TABLE project_members ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE project_members ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS project_members_id_seq;
+ALTER TABLE project_invitations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE project_invitations ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS project_invitations_id_seq;
+ALTER TABLE tags ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tags ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS tags_id_seq;
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tasks ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS tasks_id_seq;
+
+SELECT setval('user_seq', m.max_id + 50, false)
+FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM users) m, user_seq s
+WHERE m.max_id + 50 > s.last_value + CASE WHEN s.is_called THEN 50 ELSE 0 END;
+
+SELECT setval('project_seq', m.max_id + 50, false)
+FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM projects) m, project_seq s
+WHERE m.max_id + 50 > s.last_value + CASE WHEN s.is_called THEN 50 ELSE 0 END;
+
+SELECT setval('project_member_seq', m.max_id + 50, false)
+FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM project_members) m, project_member_seq s
+WHERE m.max_id + 50 > s.last_value + CASE WHEN s.is_called THEN 50 ELSE 0 END;
+
+SELECT setval('project_invitation_seq', m.max_id + 50, false)
+FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM project_invitations) m, project_invitation_seq s
+WHERE m.max_id + 50 > s.last_value + CASE WHEN s.is_called THEN 50 ELSE 0 END;
+
+SELECT setval('tag_seq', m.max_id + 50, false)
+FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM tags) m, tag_seq s
+WHERE m.max_id + 50 > s.last_value + CASE WHEN s.is_called THEN 50 ELSE 0 END;
+
+SELECT setval('task_seq', m.max_id + 50, false)
+FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM tasks) m, task_seq s
+WHERE m.max_id + 50 > s.last_value + CASE WHEN s.is_called THEN 50 ELSE 0 END;
+
+-- Dependents of a task are found through depends_on_task_id, e.g. when it completes and their open-dependency counts drop.
+CREATE INDEX IF NOT EXISTS idx_task_dependencies_depends_on ON task_dependencies (depends_on_task_id);
+
+-- "What can I work on now" and "what is blocked" are single scans of these partial indexes.
+CREATE INDEX IF NOT EXISTS idx_tasks_actionable ON tasks (project_id) WHERE open_dependencies = 0 AND completed = false;
+CREATE INDEX IF NOT EXISTS idx_tasks_blocked ON tasks (project_id) WHERE open_dependencies > 0;
+
+-- The recurrence generator only reads series with an occurrence left to create,
+-- and an occurrence exists at most once per series and due date, whichever node creates it.
+CREATE INDEX IF NOT EXISTS idx_tasks_recurrence_next ON tasks (recurrence_next_date) WHERE recurrence_next_date IS NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_tasks_recurrence_occurrence ON tasks (recurrence_parent_id, due_date)
+    WHERE recurrence_parent_id IS NOT NULL;
+
+-- Reminders read upcoming deadlines of open tasks by due date range, and each day's reminders are sent
+-- by one node: the single checkpoint row holds the last day sent.
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due ON tasks (due_date, id) WHERE completed = false;
+CREATE TABLE IF NOT EXISTS reminder_checkpoint (
+    id smallint PRIMARY KEY,
+    fired_through date NOT NULL
+);
+
+-- Usage counts of the tag catalog and tag deletion read task links by tag.
+CREATE INDEX IF NOT EXISTS idx_task_tags_tag ON task_tags (tag_id);
+
+-- Full-text search: titles weigh more than descriptions. The vectors are generated columns, so every
+-- write path keeps them current, and tasks are indexed together with their project so a search only
+-- walks the postings of the user's projects.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks USING gin (project_id, search_vector);
+CREATE INDEX IF NOT EXISTS idx_projects_search ON projects USING gin (search_vector);
+
+-- User search: substring and prefix matches on a trigram index, alphabetical order on lower(email).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (lower(email));
+
+-- Invitations: inboxes and project lists filter by status; the sweeper finds pending invitations by
+-- expiry date and closed ones by answer date. The status check is rewritten to allow EXPIRED without
+-- rescanning the table.
+CREATE INDEX IF NOT EXISTS idx_project_invitations_invitee_status ON project_invitations (invitee_id, status);
+CREATE INDEX IF NOT EXISTS idx_project_invitations_project_status ON project_invitations (project_id, status);
+CREATE INDEX IF NOT EXISTS idx_project_invitations_pending_expiry ON project_invitations (expires_at)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_project_invitations_closed ON project_invitations (responded_at)
+    WHERE status IN ('DECLINED', 'CANCELLED', 'EXPIRED');
+ALTER TABLE project_invitations DROP CONSTRAINT IF EXISTS project_invitations_status_check;
+ALTER TABLE project_invitations ADD CONSTRAINT project_invitations_status_check
+    CHECK (status IN ('PENDING', 'ACCEPTED', 'DECLINED', 'CANCELLED', 'EXPIRED')) NOT VALID;
+
+-- Invite codes: new codes are a keyed permutation of this sequence, so they never collide. Limits are
+-- optional and checked, with the use counted, in the statement that adds the member.
+CREATE SEQUENCE IF NOT EXISTS invite_code_seq;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS invite_code_expires_at timestamp(6);
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS invite_code_max_uses integer;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS invite_code_uses integer NOT NULL DEFAULT 0;
+
+-- One-time data migrations in data-postgresql.sql record themselves here, so a step that scans whole
+-- tables runs on the first startup that knows about it and never again.
+CREATE TABLE IF NOT EXISTS data_migrations (
+    name varchar(100) PRIMARY KEY,
+    applied_at timestamp(6) NOT NULL
+);
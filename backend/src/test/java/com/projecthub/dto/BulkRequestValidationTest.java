@@ -0,0 +1,79 @@
+package com.projecthub.dto;
+
+import com.projecthub.model.BulkJobType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkRequestValidationTest {
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void testBulkTagTasksRequest_AcceptsUpTo1000Tasks() {
+        // Given
+        BulkTagTasksRequest atLimit = new BulkTagTasksRequest(ids(1000), List.of(1L), List.of());
+        BulkTagTasksRequest overLimit = new BulkTagTasksRequest(ids(1001), List.of(1L), List.of());
+
+        // When / Then
+        assertEquals(Set.of(), messages(atLimit));
+        assertEquals(Set.of("At most 1000 tasks can be tagged at once"), messages(overLimit));
+    }
+
+    @Test
+    void testBulkUpdateTasksRequest_AcceptsUpTo1000Tasks() {
+        // Given
+        BulkUpdateTasksRequest atLimit = new BulkUpdateTasksRequest(ids(1000), null, null, true);
+        BulkUpdateTasksRequest overLimit = new BulkUpdateTasksRequest(ids(1001), null, null, true);
+        BulkUpdateTasksRequest empty = new BulkUpdateTasksRequest(List.of(), null, null, true);
+
+        // When / Then
+        assertEquals(Set.of(), messages(atLimit));
+        assertEquals(Set.of("At most 1000 tasks can be updated at once"), messages(overLimit));
+        assertEquals(Set.of("Task IDs are required"), messages(empty));
+    }
+
+    @Test
+    void testBulkJobRequest_AcceptsUpTo100000Tasks() {
+        // Given
+        BulkJobRequest atLimit = new BulkJobRequest(BulkJobType.DELETE, ids(100_000));
+        BulkJobRequest overLimit = new BulkJobRequest(BulkJobType.DELETE, ids(100_001));
+
+        // When / Then
+        assertEquals(Set.of(), messages(atLimit));
+        assertEquals(Set.of("At most 100000 tasks can be processed by one job"), messages(overLimit));
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    private static Set<String> messages(Object request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}
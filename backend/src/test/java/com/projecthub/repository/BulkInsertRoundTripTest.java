@@ -0,0 +1,150 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts JDBC round trips of a 1000-row insert through Hibernate.
+ * Sequence-generated entities are sent in batches of 50; an IDENTITY entity
+ * ({@link TaskStatusTransition}) still needs one round trip per row.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@ActiveProfiles("test")
+class BulkInsertRoundTripTest {
+
+    private static final int ROWS = 1000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusTransitionRepository transitionRepository;
+
+    @Autowired
+    private RoundTripCounter roundTrips;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder().email("bench@projecthub.com").password("x").build());
+        project = entityManager.persist(Project.builder().title("Benchmark").user(user).build());
+        entityManager.flush();
+    }
+
+    @Test
+    void testSaveAllTasks_SequenceIdsAreBatched() {
+        // Given
+        List<Task> tasks = IntStream.range(0, ROWS)
+                .mapToObj(i -> Task.builder().title("Task " + i).project(project).build())
+                .toList();
+
+        // When
+        int roundTripsBefore = roundTrips.get();
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        int taskRoundTrips = roundTrips.get() - roundTripsBefore;
+
+        // Then: 20 insert batches plus 20 sequence calls instead of one insert per row
+        assertTrue(taskRoundTrips <= 2 * ROWS / 50 + 2, "round trips: " + taskRoundTrips);
+    }
+
+    @Test
+    void testSaveAllTransitions_IdentityIdsAreNotBatched() {
+        // Given
+        List<TaskStatusTransition> transitions = IntStream.range(0, ROWS)
+                .mapToObj(i -> TaskStatusTransition.builder()
+                        .taskId((long) i)
+                        .projectId(project.getId())
+                        .toStatus(TaskStatus.TODO)
+                        .transitionedAt(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        // When
+        int roundTripsBefore = roundTrips.get();
+        transitionRepository.saveAll(transitions);
+        entityManager.flush();
+        int identityRoundTrips = roundTrips.get() - roundTripsBefore;
+
+        // Then: IDENTITY needs the generated key of every row, so each insert is its own round trip
+        assertTrue(identityRoundTrips >= ROWS, "round trips: " + identityRoundTrips);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        static RoundTripCounter roundTripCounter() {
+            return new RoundTripCounter();
+        }
+    }
+
+    /**
+     * Wraps the DataSource and counts every statement execution (a batch counts once).
+     */
+    static class RoundTripCounter implements BeanPostProcessor {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        int get() {
+            return count.get();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource dataSource ? wrap(DataSource.class, dataSource) : bean;
+        }
+
+        private <T> T wrap(Class<T> type, T target) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (method.getName().startsWith("execute")) {
+                    count.incrementAndGet();
+                }
+                if (result instanceof Connection connection && type != Connection.class) {
+                    return wrap(Connection.class, connection);
+                }
+                if (result instanceof PreparedStatement statement) {
+                    return wrap(PreparedStatement.class, statement);
+                }
+                if (result instanceof Statement statement) {
+                    return wrap(Statement.class, statement);
+                }
+                return result;
+            }));
+        }
+    }
+}
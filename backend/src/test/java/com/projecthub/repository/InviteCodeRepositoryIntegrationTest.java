@@ -0,0 +1,177 @@
+package com.projecthub.repository;
+
+import com.projecthub.model.Project;
+import com.projecthub.model.ProjectRole;
+import com.projecthub.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent joins by invite code against a real PostgreSQL: the statement must keep one membership
+ * per user and never count more uses than a limited code allows, whatever the interleaving. Latency of
+ * 1000 simultaneous joins is logged for comparison between runs, but not asserted: it depends on the
+ * machine and the connection pool. Run with {@code mvn test -Pintegration}.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Tag("integration")
+@Slf4j
+class InviteCodeRepositoryIntegrationTest {
+
+    private static final int USERS = 500;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private InviteCodeRepository inviteCodeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String run = UUID.randomUUID().toString().substring(0, 8);
+
+    private Long projectId;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder().email("owner-" + run + "@join.test").password("x").build());
+        projectId = projectRepository.save(Project.builder().title("Class " + run).user(owner).build()).getId();
+        userIds = userRepository.saveAll(IntStream.range(0, USERS)
+                        .mapToObj(i -> User.builder().email("student-" + i + "-" + run + "@join.test").password("x").build())
+                        .toList())
+                .stream()
+                .map(User::getId)
+                .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM project_members WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", "%-" + run + "@join.test");
+    }
+
+    @Test
+    void testJoin_ThousandJoinsAtOnceGiveEveryUserOneMembership() throws Exception {
+        // Given: an unlimited code
+        String code = "U" + run.toUpperCase();
+        assertTrue(inviteCodeRepository.assignCode(projectId, code, null, null, LocalDateTime.now()));
+
+        // When: every user joins twice, 1000 joins all at the same moment
+        List<Long> joiners = new ArrayList<>(userIds);
+        joiners.addAll(userIds);
+        List<Join> results = joinAtOnce(joiners, code);
+
+        // Then: both joins of a user return the same membership, created by exactly one of them
+        assertTrue(results.stream().allMatch(join -> join.membership().isPresent()));
+        Map<Long, List<InviteCodeRepository.Membership>> byId = results.stream()
+                .map(join -> join.membership().get())
+                .collect(Collectors.groupingBy(InviteCodeRepository.Membership::id));
+        assertEquals(USERS, byId.size());
+        byId.values().forEach(memberships -> {
+            assertEquals(2, memberships.size());
+            assertEquals(1, memberships.stream().filter(InviteCodeRepository.Membership::inserted).count());
+            assertEquals(memberships.get(0).userEmail(), memberships.get(1).userEmail());
+        });
+        assertEquals(USERS, memberCount());
+        assertEquals(0, uses());
+
+        long[] latencies = results.stream().mapToLong(Join::nanos).sorted().toArray();
+        log.info("{} concurrent joins on {} threads: median {} us, p99 {} us, max {} us", latencies.length,
+                THREADS, latencies[latencies.length / 2] / 1000, latencies[latencies.length * 99 / 100] / 1000,
+                latencies[latencies.length - 1] / 1000);
+    }
+
+    @Test
+    void testJoin_LimitedCodeAdmitsExactlyItsMaximumUnderContention() throws Exception {
+        // Given: a code that allows 50 joins
+        String code = "L" + run.toUpperCase();
+        assertTrue(inviteCodeRepository.assignCode(projectId, code, null, 50, LocalDateTime.now()));
+
+        // When: every user tries to join at the same moment
+        List<Join> results = joinAtOnce(userIds, code);
+
+        // Then: 50 are admitted, the rest refused, and the uses match the memberships
+        assertEquals(50, results.stream().filter(join -> join.membership().isPresent()).count());
+        assertTrue(results.stream()
+                .flatMap(join -> join.membership().stream())
+                .allMatch(InviteCodeRepository.Membership::inserted));
+        assertEquals(50, memberCount());
+        assertEquals(50, uses());
+
+        // And a member joining again is not counted twice
+        Long member = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM project_members WHERE project_id = ? LIMIT 1", Long.class, projectId);
+        Optional<InviteCodeRepository.Membership> again =
+                inviteCodeRepository.join(projectId, code, member, ProjectRole.MEMBER, LocalDateTime.now());
+        assertTrue(again.isPresent());
+        assertFalse(again.get().inserted());
+        assertEquals(50, uses());
+    }
+
+    /**
+     * Outcome of one join, and how long the call took.
+     */
+    private record Join(Optional<InviteCodeRepository.Membership> membership, long nanos) {
+    }
+
+    private List<Join> joinAtOnce(List<Long> joiners, String code) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Join>> joins = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (Long userId : joiners) {
+                joins.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    Optional<InviteCodeRepository.Membership> membership =
+                            inviteCodeRepository.join(projectId, code, userId, ProjectRole.MEMBER, LocalDateTime.now());
+                    return new Join(membership, System.nanoTime() - begin);
+                }));
+            }
+            start.countDown();
+        }
+        List<Join> results = new ArrayList<>();
+        for (Future<Join> join : joins) {
+            results.add(join.get());
+        }
+        return results;
+    }
+
+    private long memberCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM project_members WHERE project_id = ?", Long.class, projectId);
+    }
+
+    private int uses() {
+        return jdbcTemplate.queryForObject(
+                "SELECT invite_code_uses FROM projects WHERE id = ?", Integer.class, projectId);
+    }
+}
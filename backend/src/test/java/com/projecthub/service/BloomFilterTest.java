@@ -0,0 +1,41 @@
+package com.projecthub.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testMightContain_NoFalseNegativesAndFalsePositivesNearTheRate() {
+        BloomFilter filter = new BloomFilter(20_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 1_500, "false positives: " + falsePositives);
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    void testMightContain_DistinguishesCaseAndLongValues() {
+        BloomFilter filter = new BloomFilter(100, 0.001);
+        String longEmail = "a.rather.long.first.and.last.name+projects@subdomain.example.com";
+        filter.add("Sam@x.io");
+        filter.add(longEmail);
+
+        assertTrue(filter.mightContain(longEmail));
+        assertFalse(filter.mightContain("sam@x.io"));
+        assertFalse(filter.mightContain(longEmail.substring(1)));
+        assertFalse(filter.mightContain(""));
+    }
+}
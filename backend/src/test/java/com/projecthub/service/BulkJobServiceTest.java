@@ -0,0 +1,190 @@
+package com.projecthub.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecthub.dto.BulkCompleteResponse;
+import com.projecthub.dto.BulkJobResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.model.BulkJob;
+import com.projecthub.model.BulkJobStatus;
+import com.projecthub.model.BulkJobType;
+import com.projecthub.repository.BulkJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkJobServiceTest {
+
+    @Mock
+    private BulkJobRepository bulkJobRepository;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskExecutor bulkJobExecutor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BulkJobService bulkJobService;
+
+    @BeforeEach
+    void setUp() {
+        bulkJobService = new BulkJobService(bulkJobRepository, taskService, bulkJobExecutor, objectMapper,
+                Duration.ofMinutes(10));
+        lenient().when(bulkJobRepository.save(any(BulkJob.class))).thenAnswer(invocation -> {
+            BulkJob job = invocation.getArgument(0);
+            job.setId(7L);
+            return job;
+        });
+        lenient().when(bulkJobRepository.markRunning(eq(7L), any())).thenReturn(1);
+    }
+
+    @Test
+    void testSubmitComplete_ProcessesChunksAndRecordsProgress() throws Exception {
+        // Given: 1500 distinct IDs make two chunks, and the executor runs jobs inline
+        List<Long> taskIds = LongStream.rangeClosed(1, 1500).boxed().toList();
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(bulkJobExecutor).execute(any());
+        when(taskService.completeTasksChunk(anyList(), eq(1L))).thenAnswer(invocation -> {
+            List<Long> chunk = invocation.getArgument(0);
+            return BulkCompleteResponse.builder()
+                    .completed(chunk.subList(0, chunk.size() - 1))
+                    .blocked(List.of(chunk.get(chunk.size() - 1)))
+                    .build();
+        });
+
+        // When
+        BulkJobResponse response = bulkJobService.submit(BulkJobType.COMPLETE, taskIds, 1L);
+
+        // Then
+        assertEquals(7L, response.getId());
+        assertEquals(1500, response.getTotalTasks());
+        verify(taskService, times(2)).completeTasksChunk(anyList(), eq(1L));
+        verify(bulkJobRepository).markRunning(eq(7L), any());
+        verify(bulkJobRepository).updateProgress(eq(7L), eq(1000), eq(999), eq(1), any());
+        verify(bulkJobRepository).updateProgress(eq(7L), eq(1500), eq(1498), eq(2), any());
+
+        ArgumentCaptor<String> outcomes = ArgumentCaptor.forClass(String.class);
+        verify(bulkJobRepository).finish(eq(7L), eq(BulkJobStatus.SUCCEEDED), outcomes.capture(), isNull(), any());
+        Map<String, List<Long>> recorded = objectMapper.readValue(outcomes.getValue(), new TypeReference<>() {
+        });
+        assertEquals(List.of(1000L, 1500L), recorded.get("blocked"));
+        assertEquals(1498, recorded.get("completed").size());
+    }
+
+    @Test
+    void testRunDelete_FailureKeepsCommittedChunks() {
+        // Given: the second chunk fails after the first one was committed
+        List<Long> taskIds = LongStream.rangeClosed(1, 1200).boxed().toList();
+        when(taskService.deleteTasksChunk(anyList(), eq(1L)))
+                .thenReturn(List.of(1L, 2L))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        // When
+        bulkJobService.run(7L, BulkJobType.DELETE, taskIds, 1L);
+
+        // Then
+        verify(bulkJobRepository).updateProgress(eq(7L), eq(1000), eq(2), eq(998), any());
+        verify(bulkJobRepository).finish(eq(7L), eq(BulkJobStatus.FAILED), anyString(), eq("connection lost"), any());
+    }
+
+    @Test
+    void testSubmit_QueueFull_MarksJobFailedAndRethrows() {
+        doThrow(new TaskRejectedException("full")).when(bulkJobExecutor).execute(any());
+
+        assertThrows(TaskRejectedException.class, () -> bulkJobService.submit(BulkJobType.DELETE, List.of(1L), 1L));
+        verify(bulkJobRepository).finish(eq(7L), eq(BulkJobStatus.FAILED), isNull(), anyString(), any());
+    }
+
+    @Test
+    void testRun_JobAlreadyStartedElsewhere_DoesNothing() {
+        // Given: another node claimed the job first
+        when(bulkJobRepository.markRunning(eq(8L), any())).thenReturn(0);
+
+        // When
+        bulkJobService.run(8L, BulkJobType.DELETE, List.of(1L), 1L);
+
+        // Then
+        verifyNoInteractions(taskService);
+        verify(bulkJobRepository, never()).finish(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testResumeAfterStartup_QueuesStoredJobsAgainAndFailsStaleOnes() {
+        // Given: a job queued before a restart, and one stored before task IDs were kept
+        BulkJob queued = BulkJob.builder()
+                .id(7L)
+                .userId(1L)
+                .operation(BulkJobType.DELETE)
+                .taskIds("[1,2]")
+                .totalTasks(2)
+                .build();
+        BulkJob legacy = BulkJob.builder().id(9L).userId(1L).operation(BulkJobType.DELETE).build();
+        when(bulkJobRepository.failStale(any(), anyString(), any())).thenReturn(1);
+        when(bulkJobRepository.findByStatusAndCreatedAtBeforeOrderByIdAsc(eq(BulkJobStatus.QUEUED), any()))
+                .thenReturn(List.of(queued, legacy));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(bulkJobExecutor).execute(any());
+        when(taskService.deleteTasksChunk(List.of(1L, 2L), 1L)).thenReturn(List.of(1L, 2L));
+
+        // When
+        bulkJobService.resumeAfterStartup();
+
+        // Then: only running jobs without a heartbeat for ten minutes are failed
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(bulkJobRepository).failStale(cutoff.capture(), anyString(), any());
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusMinutes(9)));
+        verify(bulkJobRepository).finish(eq(7L), eq(BulkJobStatus.SUCCEEDED), anyString(), isNull(), any());
+        verify(bulkJobRepository).finish(eq(9L), eq(BulkJobStatus.FAILED), isNull(), anyString(), any());
+    }
+
+    @Test
+    void testGetJob_OtherUsersJob_ThrowsNotFound() {
+        when(bulkJobRepository.findByIdAndUserId(7L, 2L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> bulkJobService.getJob(7L, 2L));
+    }
+
+    @Test
+    void testGetJob_ReportsProgressAndOutcomes() {
+        BulkJob job = BulkJob.builder()
+                .id(7L)
+                .userId(1L)
+                .operation(BulkJobType.DELETE)
+                .status(BulkJobStatus.SUCCEEDED)
+                .totalTasks(3)
+                .processedTasks(3)
+                .succeeded(2)
+                .skipped(1)
+                .outcomes("{\"deleted\":[1,2],\"skipped\":[3]}")
+                .build();
+        when(bulkJobRepository.findByIdAndUserId(7L, 1L)).thenReturn(Optional.of(job));
+
+        BulkJobResponse response = bulkJobService.getJob(7L, 1L);
+
+        assertEquals(100.0, response.getProgressPercentage());
+        assertEquals(List.of(3L), response.getOutcomes().get("skipped"));
+    }
+}
@@ -0,0 +1,116 @@
+package com.projecthub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecthub.model.RecurrencePattern;
+import com.projecthub.model.TaskStatus;
+import com.projecthub.repository.CalendarRepository;
+import com.projecthub.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 2, 8, 30);
+
+    @Mock
+    private CalendarRepository calendarRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CalendarService calendarService;
+
+    @BeforeEach
+    void setUp() {
+        calendarService = new CalendarService(calendarRepository, userRepository, new ObjectMapper());
+    }
+
+    @Test
+    void testExpand_StartsAtNextOccurrenceAndStopsAtEndDate() throws Exception {
+        // Given: a weekly series started in December with occurrences created up to Jan 8, ending on Jan 25
+        CalendarRepository.CalendarTask series = task(1L, LocalDate.of(2023, 12, 4), RecurrencePattern.WEEKLY,
+                LocalDate.of(2024, 1, 25), LocalDate.of(2024, 1, 15), null);
+        List<LocalDate> dates = new ArrayList<>();
+
+        // When
+        CalendarService.expand(series, FROM, TO, (task, date, exists) -> {
+            assertFalse(exists);
+            dates.add(date);
+        });
+
+        // Then: the series itself is outside the range and created occurrences are not repeated
+        assertEquals(List.of(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 22)), dates);
+    }
+
+    @Test
+    void testExpand_SeriesDueInRangeComesFirst() throws Exception {
+        // Given: a daily series due on the last two days of the range
+        CalendarRepository.CalendarTask series = task(1L, LocalDate.of(2024, 1, 30), RecurrencePattern.DAILY,
+                null, LocalDate.of(2024, 1, 31), null);
+        List<String> entries = new ArrayList<>();
+
+        // When
+        CalendarService.expand(series, FROM, TO, (task, date, exists) -> entries.add(date + ":" + exists));
+
+        // Then
+        assertEquals(List.of("2024-01-30:true", "2024-01-31:false"), entries);
+    }
+
+    @Test
+    void testWriteIcs_EscapesTextAndKeepsUidOfOccurrences() throws Exception {
+        // Given: a daily series and one of its occurrences that already exists as a task
+        doAnswer(invocation -> {
+            CalendarRepository.CalendarTaskHandler handler = invocation.getArgument(3);
+            handler.task(task(1L, LocalDate.of(2023, 12, 1), RecurrencePattern.DAILY,
+                    LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2), null));
+            handler.task(task(2L, LocalDate.of(2024, 1, 1), RecurrencePattern.NONE, null, null, 1L));
+            return null;
+        }).when(calendarRepository).forEachTask(eq(5L), eq(FROM), eq(TO), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        calendarService.writeIcs(5L, FROM, TO, out);
+
+        // Then: both days of the series share the UID scheme and special characters are escaped
+        String ics = out.toString(StandardCharsets.UTF_8);
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(ics.contains("UID:series-1-20240101@projecthub\r\n"));
+        assertTrue(ics.contains("UID:series-1-20240102@projecthub\r\n"));
+        assertTrue(ics.contains("DTSTART;VALUE=DATE:20240102\r\nDTEND;VALUE=DATE:20240103\r\n"));
+        assertTrue(ics.contains("SUMMARY:Review\\, plan\\; ship\r\n"));
+        assertTrue(ics.lines().allMatch(line -> line.getBytes(StandardCharsets.UTF_8).length <= 75));
+    }
+
+    @Test
+    void testGetVersionTag_RejectsRangeTooLong() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> calendarService.getVersionTag(5L, FROM, FROM.plusDays(CalendarService.MAX_RANGE_DAYS)));
+        verifyNoInteractions(calendarRepository);
+    }
+
+    private static CalendarRepository.CalendarTask task(long id, LocalDate dueDate, RecurrencePattern pattern,
+                                                        LocalDate endDate, LocalDate nextOccurrence, Long seriesId) {
+        return new CalendarRepository.CalendarTask(id, 3L, "Review, plan; ship", dueDate, TaskStatus.TODO, false,
+                pattern, endDate, nextOccurrence, seriesId, UPDATED_AT);
+    }
+}
@@ -0,0 +1,66 @@
+package com.projecthub.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriticalPathTest {
+
+    private static final long NONE = CriticalPath.NONE;
+
+    /**
+     * B and C depend on A, D depends on B and C, F (no due date) depends on C, E stands alone.
+     * Planned durations: B 5 days, C 2 days, D 5 days.
+     */
+    private final CriticalPath criticalPath = new CriticalPath(
+            new long[]{1, 2, 3, 4, 5, 6},
+            new long[]{10, 15, 12, 20, 18, NONE},
+            new DependencyGraph.Builder()
+                    .addEdge(2, 1)
+                    .addEdge(3, 1)
+                    .addEdge(4, 2)
+                    .addEdge(4, 3)
+                    .addEdge(6, 3)
+                    .build());
+
+    @Test
+    void testCompute_Baseline() {
+        CriticalPath.Result result = criticalPath.compute(-1, 0);
+
+        assertEquals(20, result.projectEnd());
+        assertArrayEquals(new int[]{0, 1, 3}, result.criticalPath());
+        assertArrayEquals(new long[]{10, 15, 12, 20, 18, 12}, result.earliestFinish());
+        assertArrayEquals(new long[]{10, 15, 15, 20, 20, 20}, result.latestFinish());
+    }
+
+    @Test
+    void testCompute_DelayPropagatesThroughDurations() {
+        // C finishes 5 days late: D needs 5 days after C, so the project ends 2 days later
+        CriticalPath.Result result = criticalPath.compute(criticalPath.indexOf(3), 5);
+
+        assertEquals(22, result.projectEnd());
+        assertArrayEquals(new int[]{0, 2, 3}, result.criticalPath());
+        assertArrayEquals(new long[]{10, 15, 17, 22, 18, 17}, result.earliestFinish());
+        assertEquals(result.earliestFinish()[2], result.latestFinish()[2]);
+    }
+
+    @Test
+    void testCompute_WithoutDueDates() {
+        CriticalPath undated = new CriticalPath(new long[]{1, 2}, new long[]{NONE, NONE},
+                new DependencyGraph.Builder().addEdge(2, 1).build());
+
+        CriticalPath.Result result = undated.compute(-1, 0);
+
+        assertEquals(NONE, result.projectEnd());
+        assertEquals(0, result.criticalPath().length);
+        assertArrayEquals(new long[]{NONE, NONE}, result.latestFinish());
+    }
+
+    @Test
+    void testCycle_ThrowsException() {
+        DependencyGraph cyclic = new DependencyGraph.Builder().addEdge(1, 2).addEdge(2, 1).build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new CriticalPath(new long[]{1, 2}, new long[]{1, 2}, cyclic));
+    }
+}
@@ -0,0 +1,107 @@
+package com.projecthub.service;
+
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.repository.TaskDependencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DependencyGraphServiceTest {
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private ProjectMemberService projectMemberService;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private DependencyGraphService dependencyGraphService;
+
+    private CacheInvalidationBus.InvalidationHandler invalidationHandler;
+
+    @BeforeEach
+    void setUp() {
+        dependencyGraphService = new DependencyGraphService(taskDependencyRepository, projectMemberService,
+                cacheInvalidationBus, 10);
+        ArgumentCaptor<CacheInvalidationBus.InvalidationHandler> handler =
+                ArgumentCaptor.forClass(CacheInvalidationBus.InvalidationHandler.class);
+        verify(cacheInvalidationBus).subscribe(eq(DependencyGraphService.CHANNEL), handler.capture());
+        invalidationHandler = handler.getValue();
+        lenient().when(projectMemberService.isMember(1L, 1L)).thenReturn(true);
+        // Project 1: task 2 depends on task 1
+        lenient().doAnswer(invocation -> {
+            invocation.<TaskDependencyRepository.EdgeHandler>getArgument(1).edge(2L, 1L);
+            return null;
+        }).when(taskDependencyRepository).forEachDependency(eq(1L), any());
+    }
+
+    @Test
+    void testAddDependency_ClosingCycle_ThrowsException() {
+        when(taskDependencyRepository.findProjectIds(List.of(1L, 2L))).thenReturn(Map.of(1L, 1L, 2L, 1L));
+
+        assertThrows(IllegalArgumentException.class, () -> dependencyGraphService.addDependency(1L, 2L, 1L));
+        verify(taskDependencyRepository).lockProject(1L);
+        verify(taskDependencyRepository, never()).insert(any(), any());
+    }
+
+    @Test
+    void testAddDependency_OtherProject_ThrowsException() {
+        when(taskDependencyRepository.findProjectIds(List.of(3L, 7L))).thenReturn(Map.of(3L, 1L, 7L, 2L));
+
+        assertThrows(IllegalArgumentException.class, () -> dependencyGraphService.addDependency(3L, 7L, 1L));
+        verify(taskDependencyRepository, never()).insert(any(), any());
+    }
+
+    @Test
+    void testAddDependency_MissingTask_ThrowsNotFound() {
+        when(taskDependencyRepository.findProjectIds(List.of(3L, 7L))).thenReturn(Map.of(3L, 1L));
+
+        assertThrows(NotFoundException.class, () -> dependencyGraphService.addDependency(3L, 7L, 1L));
+    }
+
+    @Test
+    void testGetGraph_IsCachedUntilDependenciesChange() {
+        // Given: the graph is loaded once
+        when(taskDependencyRepository.findProjectIds(List.of(3L, 2L))).thenReturn(Map.of(3L, 1L, 2L, 1L));
+        when(taskDependencyRepository.insert(3L, 2L)).thenReturn(true);
+        dependencyGraphService.getGraph(1L);
+        dependencyGraphService.getGraph(1L);
+        verify(taskDependencyRepository, times(1)).forEachDependency(eq(1L), any());
+
+        // When: a dependency is added outside a transaction, so it is invalidated right away
+        dependencyGraphService.addDependency(3L, 2L, 1L);
+        dependencyGraphService.getGraph(1L);
+
+        // Then: the cycle check read the graph under the lock and the cache was reloaded afterwards
+        verify(taskDependencyRepository, times(3)).forEachDependency(eq(1L), any());
+        verify(cacheInvalidationBus).publish(DependencyGraphService.CHANNEL, List.of(1L));
+    }
+
+    @Test
+    void testRemoteNotification_DropsOneProjectOrEveryGraph() {
+        // Given
+        dependencyGraphService.getGraph(1L);
+
+        // When: dependencies of project 1 change on another node, then the listener reconnects
+        invalidationHandler.invalidate(1L);
+        dependencyGraphService.getGraph(1L);
+        invalidationHandler.invalidate(null);
+        dependencyGraphService.getGraph(1L);
+
+        // Then
+        verify(taskDependencyRepository, times(3)).forEachDependency(eq(1L), any());
+    }
+}
@@ -0,0 +1,65 @@
+package com.projecthub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyGraphTest {
+
+    /**
+     * 4 depends on 2 and 3, which both depend on 1; 5 depends on 4. Task 9 depends on 8.
+     */
+    private final DependencyGraph graph = new DependencyGraph.Builder()
+            .addEdge(4, 2)
+            .addEdge(4, 3)
+            .addEdge(2, 1)
+            .addEdge(3, 1)
+            .addEdge(5, 4)
+            .addEdge(9, 8)
+            .build();
+
+    @Test
+    void testAdjacency() {
+        assertEquals(7, graph.size());
+        assertEquals(6, graph.edgeCount());
+        assertEquals(List.of(2L, 3L), graph.dependenciesOf(4));
+        assertEquals(List.of(2L, 3L), graph.dependentsOf(1));
+        assertEquals(List.of(), graph.dependenciesOf(1));
+        assertEquals(List.of(), graph.dependentsOf(42));
+    }
+
+    @Test
+    void testTransitiveClosure() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), graph.transitiveDependencies(5));
+        assertEquals(List.of(2L, 3L, 4L, 5L), graph.transitiveDependents(1));
+        assertTrue(graph.dependsOnTransitively(5, 1));
+        assertFalse(graph.dependsOnTransitively(1, 5));
+        assertFalse(graph.dependsOnTransitively(5, 8));
+        assertEquals(List.of(), graph.transitiveDependencies(42));
+    }
+
+    @Test
+    void testWouldCreateCycle() {
+        assertTrue(graph.wouldCreateCycle(1, 5));
+        assertTrue(graph.wouldCreateCycle(2, 4));
+        assertTrue(graph.wouldCreateCycle(7, 7));
+        assertFalse(graph.wouldCreateCycle(5, 1));
+        assertFalse(graph.wouldCreateCycle(8, 5));
+        assertFalse(graph.wouldCreateCycle(42, 1));
+    }
+
+    @Test
+    void testLargeChain_GrowsBuilderArrays() {
+        DependencyGraph.Builder builder = new DependencyGraph.Builder();
+        for (long id = 1; id < 100_000; id++) {
+            builder.addEdge(id + 1, id);
+        }
+        DependencyGraph chain = builder.build();
+
+        assertEquals(100_000, chain.size());
+        assertTrue(chain.wouldCreateCycle(1, 100_000));
+        assertEquals(99_999, chain.transitiveDependencies(100_000).size());
+    }
+}
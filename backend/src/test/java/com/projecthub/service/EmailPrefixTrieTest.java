@@ -0,0 +1,70 @@
+package com.projecthub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailPrefixTrieTest {
+
+    @Test
+    void testComplete_SplitsEdgesAndKeepsAlphabeticalOrder() {
+        EmailPrefixTrie trie = new EmailPrefixTrie();
+        trie.add(1, "anna@example.com");
+        trie.add(2, "ann@example.com");
+        trie.add(3, "Andy@corp.io");
+        trie.add(4, "bob@example.com");
+
+        assertEquals(List.of(3L, 2L, 1L), ids(trie.complete("an", 10)));
+        assertEquals(List.of(2L, 1L), ids(trie.complete("ANN", 10)));
+        assertEquals(List.of(1L), ids(trie.complete("anna@ex", 10)));
+        assertEquals(List.of(3L), ids(trie.complete("andy@corp.io", 10)));
+        assertEquals("Andy@corp.io", trie.complete("andy", 1).get(0).email());
+        assertEquals(List.of(3L, 2L), ids(trie.complete("a", 2)));
+        assertTrue(trie.complete("annb", 10).isEmpty());
+        assertTrue(trie.complete("anna@example.comx", 10).isEmpty());
+    }
+
+    @Test
+    void testAdd_KeepsUsersDifferingByCaseAndIgnoresRepeats() {
+        EmailPrefixTrie trie = new EmailPrefixTrie();
+        trie.add(1, "Sam@x.io");
+        trie.add(2, "sam@x.io");
+        trie.add(1, "Sam@x.io");
+
+        assertEquals(2, trie.size());
+        assertEquals(List.of(1L, 2L), ids(trie.complete("sam", 10)));
+    }
+
+    @Test
+    void testComplete_MatchesSortedMapOnRandomEmails() {
+        Random random = new Random(3);
+        EmailPrefixTrie trie = new EmailPrefixTrie();
+        TreeMap<String, Long> expected = new TreeMap<>();
+        for (long id = 1; id <= 5000; id++) {
+            StringBuilder email = new StringBuilder();
+            for (int i = 0, length = 2 + random.nextInt(6); i < length; i++) {
+                email.append((char) ('a' + random.nextInt(4)));
+            }
+            email.append(random.nextBoolean() ? "@a.io" : "@b.com");
+            if (expected.putIfAbsent(email.toString(), id) == null) {
+                trie.add(id, email.toString());
+            }
+        }
+
+        for (String prefix : List.of("a", "ab", "abc", "dd", "cab@", "bbbb@b", "ca")) {
+            List<Long> want = expected.subMap(prefix, prefix + Character.MAX_VALUE).values().stream()
+                    .limit(25)
+                    .toList();
+            assertEquals(want, ids(trie.complete(prefix, 25)), prefix);
+        }
+        assertEquals(expected.size(), trie.size());
+    }
+
+    private static List<Long> ids(List<EmailPrefixTrie.Entry> entries) {
+        return entries.stream().map(EmailPrefixTrie.Entry::id).toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.CumulativeFlowResponse;
+import com.projecthub.dto.ThroughputResponse;
+import com.projecthub.exception.UnauthorizedException;
+import com.projecthub.model.ProjectFlowRollup;
+import com.projecthub.model.TaskStatus;
+import com.projecthub.repository.ProjectFlowRollupRepository;
+import com.projecthub.repository.TaskStatusTransitionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlowAnalyticsServiceTest {
+
+    @Mock
+    private TaskStatusTransitionRepository transitionRepository;
+
+    @Mock
+    private ProjectFlowRollupRepository rollupRepository;
+
+    @Mock
+    private ProjectMemberService projectMemberService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private FlowAnalyticsService flowAnalyticsService;
+
+    @Test
+    void testRecordTransitions_AggregatesDeltasPerStatus() {
+        // Given: two tasks move from TODO to IN_PROGRESS in the same batch
+        List<FlowAnalyticsService.StatusChange> changes = List.of(
+                new FlowAnalyticsService.StatusChange(1L, 7L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, LocalDateTime.now()),
+                new FlowAnalyticsService.StatusChange(2L, 7L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, LocalDateTime.now()));
+
+        // When
+        flowAnalyticsService.recordTransitions(changes);
+
+        // Then: one upsert per (project, day, status), no start time lookup
+        LocalDate today = LocalDate.now();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), eq(changes), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(transitionRepository, never()).findStartTimes(any());
+        verify(rollupRepository).upsert(7L, today, "TODO", 0L, 2L, 0L, 0L, 0L);
+        verify(rollupRepository).upsert(7L, today, "IN_PROGRESS", 2L, 0L, 0L, 0L, 0L);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void testRecordTransitions_CompletionAddsCycleTime() {
+        // Given: a task started two hours ago is completed
+        TaskStatusTransitionRepository.TaskStart start = mock(TaskStatusTransitionRepository.TaskStart.class);
+        when(start.getTaskId()).thenReturn(1L);
+        when(start.getStartedAt()).thenReturn(LocalDateTime.now().minusHours(2));
+        when(transitionRepository.findStartTimes(List.of(1L))).thenReturn(List.of(start));
+
+        // When
+        flowAnalyticsService.recordTransitions(List.of(new FlowAnalyticsService.StatusChange(
+                1L, 7L, TaskStatus.IN_PROGRESS, TaskStatus.DONE, LocalDateTime.now().minusHours(5))));
+
+        // Then: cycle sample of ~2h and lead time of ~5h on the DONE row
+        verify(rollupRepository).upsert(eq(7L), any(), eq("DONE"), eq(1L), eq(0L),
+                longThat(seconds -> seconds >= 7200 && seconds < 7260), eq(1L),
+                longThat(seconds -> seconds >= 18000 && seconds < 18060));
+    }
+
+    @Test
+    void testGetCumulativeFlow_ReplaysDeltasOnBaseline() {
+        // Given: 3 TODO tasks before the range, one moved to DONE on day 2
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 3);
+        when(projectMemberService.isMember(7L, 1L)).thenReturn(true);
+
+        ProjectFlowRollupRepository.StatusCount todo = mock(ProjectFlowRollupRepository.StatusCount.class);
+        when(todo.getStatus()).thenReturn(TaskStatus.TODO);
+        when(todo.getCount()).thenReturn(3L);
+        when(rollupRepository.sumNetCountsBefore(7L, from)).thenReturn(List.of(todo));
+        when(rollupRepository.findByProjectIdAndBucketDateBetweenOrderByBucketDate(7L, from, to)).thenReturn(List.of(
+                ProjectFlowRollup.builder().projectId(7L).bucketDate(from.plusDays(1)).status(TaskStatus.TODO).exited(1).build(),
+                ProjectFlowRollup.builder().projectId(7L).bucketDate(from.plusDays(1)).status(TaskStatus.DONE).entered(1).build()));
+
+        // When
+        CumulativeFlowResponse response = flowAnalyticsService.getCumulativeFlow(7L, from, to, 1L);
+
+        // Then
+        Map<LocalDate, Map<TaskStatus, Long>> days = response.getDays();
+        assertEquals(3, days.size());
+        assertEquals(3L, days.get(from).get(TaskStatus.TODO));
+        assertEquals(0L, days.get(from).get(TaskStatus.DONE));
+        assertEquals(2L, days.get(to).get(TaskStatus.TODO));
+        assertEquals(1L, days.get(to).get(TaskStatus.DONE));
+    }
+
+    @Test
+    void testGetThroughput_FillsEmptyDays() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 7);
+        when(projectMemberService.isMember(7L, 1L)).thenReturn(true);
+        when(rollupRepository.findByProjectIdAndBucketDateBetweenOrderByBucketDate(7L, from, to)).thenReturn(List.of(
+                ProjectFlowRollup.builder().projectId(7L).bucketDate(from).status(TaskStatus.DONE).entered(4).build(),
+                ProjectFlowRollup.builder().projectId(7L).bucketDate(from).status(TaskStatus.TODO).entered(9).build()));
+
+        ThroughputResponse response = flowAnalyticsService.getThroughput(7L, from, to, 1L);
+
+        assertEquals(7, response.getCompletedPerDay().size());
+        assertEquals(4L, response.getCompletedPerDay().get(from));
+        assertEquals(4L, response.getTotalCompleted());
+    }
+
+    @Test
+    void testGetThroughput_NonMember_ThrowsException() {
+        when(projectMemberService.isMember(7L, 2L)).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> flowAnalyticsService.getThroughput(7L, null, null, 2L));
+        verifyNoInteractions(rollupRepository);
+    }
+}
@@ -0,0 +1,60 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.InvitationSweepRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvitationSweeperTest {
+
+    @Mock
+    private InvitationSweepRepository invitationSweepRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PendingInvitationCounter pendingInvitationCounter;
+
+    private InvitationSweeper invitationSweeper;
+
+    @BeforeEach
+    void setUp() {
+        invitationSweeper = new InvitationSweeper(invitationSweepRepository, pendingInvitationCounter,
+                transactionTemplate,
+                Duration.ofDays(14), Duration.ofDays(30), 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void testSweep_RunsEachStepInBatchesUntilOneComesBackShort() {
+        // Given: 5 invitations to expire, 2 to purge, none without expiry
+        when(invitationSweepRepository.setMissingExpiry(Duration.ofDays(14), 2)).thenReturn(0);
+        when(invitationSweepRepository.expireDue(any(), eq(2))).thenReturn(List.of(1L, 2L), List.of(3L, 3L), List.of(4L));
+        when(invitationSweepRepository.purgeClosedBefore(any(), eq(2))).thenReturn(2, 0);
+
+        // When
+        invitationSweeper.sweep();
+
+        // Then: one transaction per batch, and closed invitations are kept for the retention period
+        verify(transactionTemplate, times(6)).execute(any());
+        verify(invitationSweepRepository, times(3)).expireDue(any(), eq(2));
+        verify(invitationSweepRepository, times(2)).purgeClosedBefore(
+                argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusDays(29))), eq(2));
+        verify(pendingInvitationCounter).invalidateAfterCommit(List.of(3L, 3L));
+        verify(pendingInvitationCounter).invalidateAfterCommit(List.of(4L));
+    }
+}
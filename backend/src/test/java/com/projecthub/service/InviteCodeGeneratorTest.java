@@ -0,0 +1,55 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.InviteCodeRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InviteCodeGeneratorTest {
+
+    private final InviteCodeRepository inviteCodeRepository = mock(InviteCodeRepository.class);
+
+    private final InviteCodeGenerator generator = new InviteCodeGenerator(inviteCodeRepository, "test-key");
+
+    @Test
+    void testEncode_DistinctValuesGiveDistinctReadableCodes() {
+        // Given
+        Set<String> codes = new HashSet<>();
+
+        // When: the first 200,000 values and the last few of the code space
+        for (long value = 0; value < 200_000; value++) {
+            codes.add(generator.encode(value));
+        }
+        for (long value = (1L << 40) - 1000; value < 1L << 40; value++) {
+            codes.add(generator.encode(value));
+        }
+
+        // Then
+        assertEquals(201_000, codes.size());
+        assertTrue(codes.stream().allMatch(code -> code.matches("[0-9A-HJKMNP-TV-Z]{8}")));
+    }
+
+    @Test
+    void testEncode_DependsOnTheKeyAndHidesTheOrder() {
+        // Given
+        InviteCodeGenerator otherKey = new InviteCodeGenerator(inviteCodeRepository, "other-key");
+
+        // When / Then: consecutive values share no obvious prefix
+        assertNotEquals(generator.encode(1), otherKey.encode(1));
+        assertNotEquals(generator.encode(1).substring(0, 4), generator.encode(2).substring(0, 4));
+        assertThrows(IllegalStateException.class, () -> generator.encode(1L << 40));
+    }
+
+    @Test
+    void testNext_EncodesTheNextSequenceValue() {
+        // Given
+        when(inviteCodeRepository.nextCodeValue()).thenReturn(42L);
+
+        // When / Then
+        assertEquals(generator.encode(42), generator.next());
+    }
+}
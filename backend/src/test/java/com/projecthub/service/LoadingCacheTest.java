@@ -0,0 +1,100 @@
+package com.projecthub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadingCacheTest {
+
+    @Test
+    void testGet_LoadsOnceAndEvictsTheLeastRecentlyUsed() {
+        LoadingCache<Long, String> cache = new LoadingCache<>(2);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key -> "one" + loads.incrementAndGet());
+        cache.get(2L, key -> "two" + loads.incrementAndGet());
+        assertEquals("one1", cache.get(1L, key -> "one" + loads.incrementAndGet()));
+        cache.get(3L, key -> "three" + loads.incrementAndGet());
+
+        assertEquals(3, loads.get());
+        assertEquals(List.of(1L, 3L), cache.keys());
+        assertNull(cache.get(4L, key -> null));
+        assertEquals(List.of(1L, 3L), cache.keys());
+    }
+
+    @Test
+    void testGet_LoadOverlappingAnInvalidationIsNotCached() throws Exception {
+        // Given: a load that is still running
+        LoadingCache<Long, String> cache = new LoadingCache<>(10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> cache.get(1L, key -> {
+            started.countDown();
+            await(release);
+            return "before the change";
+        }));
+        started.await();
+
+        // When: the key changes meanwhile
+        cache.invalidate(1L);
+        release.countDown();
+
+        // Then: the old value reaches its caller only, and the next read loads again
+        assertEquals("before the change", slow.get());
+        assertEquals("after the change", cache.get(1L, key -> "after the change"));
+    }
+
+    @Test
+    void testGet_ConcurrentMissesShareOneLoad() throws Exception {
+        // Given
+        LoadingCache<Long, String> cache = new LoadingCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(1L, key -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "value";
+        }));
+        started.await();
+
+        // When: another miss of the same key, whether it arrives before or after the load ends
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        release.countDown();
+
+        // Then
+        assertEquals("value", first.get());
+        assertEquals("value", second.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testInvalidateValues_DropsMatchingEntries() {
+        LoadingCache<String, Long> cache = new LoadingCache<>(10);
+        cache.get("A", key -> 1L);
+        cache.get("B", key -> 1L);
+        cache.get("C", key -> 2L);
+
+        cache.invalidateValues(Long.valueOf(1L)::equals);
+
+        assertEquals(List.of("C"), cache.keys());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.ProjectInvitationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingInvitationCounterTest {
+
+    @Mock
+    private ProjectInvitationRepository invitationRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private PendingInvitationCounter pendingInvitationCounter;
+
+    private CacheInvalidationBus.InvalidationHandler invalidationHandler;
+
+    @BeforeEach
+    void setUp() {
+        pendingInvitationCounter = new PendingInvitationCounter(invitationRepository, cacheInvalidationBus, 10);
+        ArgumentCaptor<CacheInvalidationBus.InvalidationHandler> handler =
+                ArgumentCaptor.forClass(CacheInvalidationBus.InvalidationHandler.class);
+        verify(cacheInvalidationBus).subscribe(eq(PendingInvitationCounter.CHANNEL), handler.capture());
+        invalidationHandler = handler.getValue();
+    }
+
+    @Test
+    void testGetCount_QueriesOnceUntilInvalidated() {
+        // Given
+        when(invitationRepository.countPending(eq(1L), any())).thenReturn(3L, 2L);
+
+        // When: read twice, then an invitation of user 1 is answered outside a transaction
+        long first = pendingInvitationCounter.getCount(1L);
+        long cached = pendingInvitationCounter.getCount(1L);
+        pendingInvitationCounter.invalidateAfterCommit(List.of(1L));
+        long reloaded = pendingInvitationCounter.getCount(1L);
+
+        // Then: other nodes are told in one batch
+        assertEquals(3, first);
+        assertEquals(3, cached);
+        assertEquals(2, reloaded);
+        verify(invitationRepository, times(2)).countPending(eq(1L), any());
+        verify(cacheInvalidationBus).publish(PendingInvitationCounter.CHANNEL, List.of(1L));
+    }
+
+    @Test
+    void testRemoteNotification_DropsOneUserOrEveryone() {
+        // Given: counts of users 1 and 2 are cached
+        when(invitationRepository.countPending(eq(1L), any())).thenReturn(1L);
+        when(invitationRepository.countPending(eq(2L), any())).thenReturn(4L);
+        pendingInvitationCounter.getCount(1L);
+        pendingInvitationCounter.getCount(2L);
+
+        // When: another node invites user 1, then the listener reconnects
+        invalidationHandler.invalidate(1L);
+        pendingInvitationCounter.getCount(1L);
+        pendingInvitationCounter.getCount(2L);
+        invalidationHandler.invalidate(null);
+        pendingInvitationCounter.getCount(2L);
+
+        // Then
+        verify(invitationRepository, times(2)).countPending(eq(1L), any());
+        verify(invitationRepository, times(2)).countPending(eq(2L), any());
+    }
+}
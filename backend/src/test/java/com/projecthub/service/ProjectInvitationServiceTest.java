@@ -0,0 +1,163 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.BulkInviteRequest;
+import com.projecthub.dto.BulkInviteResponse;
+import com.projecthub.model.InvitationStatus;
+import com.projecthub.model.ProjectInvitation;
+import com.projecthub.model.ProjectRole;
+import com.projecthub.model.User;
+import com.projecthub.repository.InvitationBulkRepository;
+import com.projecthub.repository.InviteCodeRepository;
+import com.projecthub.repository.ProjectInvitationRepository;
+import com.projecthub.repository.ProjectRepository;
+import com.projecthub.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectInvitationServiceTest {
+
+    @Mock
+    private ProjectInvitationRepository invitationRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectMemberService projectMemberService;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private InvitationBulkRepository invitationBulkRepository;
+
+    @Mock
+    private PendingInvitationCounter pendingInvitationCounter;
+
+    @Mock
+    private InviteCodeRepository inviteCodeRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private InviteCodeGenerator inviteCodeGenerator;
+
+    private ProjectInvitationService invitationService;
+
+    @BeforeEach
+    void setUp() {
+        invitationService = new ProjectInvitationService(invitationRepository, projectRepository, userRepository,
+                projectMemberService, registeredEmailFilter, invitationBulkRepository, pendingInvitationCounter,
+                new InviteCodeCache(inviteCodeRepository, cacheInvalidationBus, 10), inviteCodeRepository,
+                inviteCodeGenerator, Duration.ofDays(14));
+    }
+
+    @Test
+    void testInviteUsers_ReportsEveryEmailAndInsertsInOneBatch() {
+        // Given: unknown@x.io is a definite miss of the filter
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(registeredEmailFilter.mightExist(anyString()))
+                .thenAnswer(invocation -> !invocation.getArgument(0).equals("unknown@x.io"));
+        when(invitationBulkRepository.findInviteTargets(1L,
+                Set.of("a@x.io", "member@x.io", "pending@x.io", "b@x.io", "typo@x.io"))).thenReturn(Map.of(
+                "a@x.io", new InvitationBulkRepository.InviteTarget(10L, "a@x.io", false, false),
+                "member@x.io", new InvitationBulkRepository.InviteTarget(11L, "member@x.io", true, false),
+                "pending@x.io", new InvitationBulkRepository.InviteTarget(12L, "pending@x.io", false, true),
+                "b@x.io", new InvitationBulkRepository.InviteTarget(13L, "b@x.io", false, false)));
+        when(invitationBulkRepository.insertPending(eq(1L), eq(5L), eq(ProjectRole.MEMBER), eq(List.of(10L, 13L)),
+                any(), any()))
+                .thenReturn(List.of(100L, 101L));
+
+        // When
+        BulkInviteResponse response = invitationService.inviteUsers(1L, new BulkInviteRequest(List.of(
+                "a@x.io", "member@x.io", "pending@x.io", "unknown@x.io", "b@x.io", "a@x.io", "typo@x.io"),
+                ProjectRole.MEMBER), 5L);
+
+        // Then
+        assertEquals(2, response.getInvited());
+        assertEquals(List.of(
+                new BulkInviteResponse.Result("a@x.io", BulkInviteResponse.Outcome.INVITED, 100L),
+                new BulkInviteResponse.Result("member@x.io", BulkInviteResponse.Outcome.ALREADY_MEMBER, null),
+                new BulkInviteResponse.Result("pending@x.io", BulkInviteResponse.Outcome.ALREADY_INVITED, null),
+                new BulkInviteResponse.Result("unknown@x.io", BulkInviteResponse.Outcome.NOT_FOUND, null),
+                new BulkInviteResponse.Result("b@x.io", BulkInviteResponse.Outcome.INVITED, 101L),
+                new BulkInviteResponse.Result("a@x.io", BulkInviteResponse.Outcome.DUPLICATE, null),
+                new BulkInviteResponse.Result("typo@x.io", BulkInviteResponse.Outcome.NOT_FOUND, null)),
+                response.getResults());
+        verify(projectMemberService).verifyCanManageMembers(1L, 5L);
+        verify(pendingInvitationCounter).invalidateAfterCommit(List.of(10L, 13L));
+    }
+
+    @Test
+    void testInviteUsers_RejectsOwnerRole() {
+        // Given
+        when(projectRepository.existsById(1L)).thenReturn(true);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> invitationService.inviteUsers(1L,
+                new BulkInviteRequest(List.of("a@x.io"), ProjectRole.OWNER), 5L));
+        verifyNoInteractions(invitationBulkRepository);
+    }
+
+    @Test
+    void testAcceptInvitation_RejectsExpiredInvitationNotSweptYet() {
+        // Given
+        User invitee = new User();
+        invitee.setId(10L);
+        ProjectInvitation invitation = ProjectInvitation.builder()
+                .id(100L)
+                .invitee(invitee)
+                .status(InvitationStatus.PENDING)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        when(invitationRepository.findById(100L)).thenReturn(Optional.of(invitation));
+
+        // When / Then
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> invitationService.acceptInvitation(100L, 10L));
+        assertEquals("This invitation has expired", error.getMessage());
+        verifyNoInteractions(projectMemberService);
+    }
+
+    @Test
+    void testGetPendingInvitations_RejectsOversizedPage() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> invitationService.getPendingInvitations(10L, 0, ProjectInvitationService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(invitationRepository);
+    }
+
+    @Test
+    void testJoinProjectByCode_ExplainsRefusalOfUsedUpCode() {
+        // Given: the code allows 30 joins and all are taken
+        when(inviteCodeRepository.findProjectId("Q7M2X9KD")).thenReturn(Optional.of(1L));
+        when(inviteCodeRepository.join(eq(1L), eq("Q7M2X9KD"), eq(10L), eq(ProjectRole.MEMBER), any()))
+                .thenReturn(Optional.empty());
+        when(inviteCodeRepository.findCodeState(1L)).thenReturn(Optional.of(
+                new InviteCodeRepository.CodeState("Q7M2X9KD", null, 30, 30)));
+
+        // When / Then: codes are matched ignoring case and spaces
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> invitationService.joinProjectByCode(" q7m2x9kd ", 10L));
+        assertEquals("This invite code has reached its maximum number of uses", error.getMessage());
+    }
+}
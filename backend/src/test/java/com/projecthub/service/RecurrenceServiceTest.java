@@ -0,0 +1,111 @@
+package com.projecthub.service;
+
+import com.projecthub.model.RecurrencePattern;
+import com.projecthub.repository.TaskRecurrenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurrenceServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 10);
+
+    @Mock
+    private TaskRecurrenceRepository taskRecurrenceRepository;
+
+    @Mock
+    private FlowAnalyticsService flowAnalyticsService;
+
+    @Mock
+    private TagCatalogService tagCatalogService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RecurrenceService recurrenceService;
+
+    @BeforeEach
+    void setUp() {
+        recurrenceService = new RecurrenceService(taskRecurrenceRepository, flowAnalyticsService, tagCatalogService,
+                eventPublisher, transactionTemplate, 14, 200);
+    }
+
+    @Test
+    void testOccurrencesUntil_MonthlyKeepsDayOfMonthAndStopsAtEndDate() {
+        // Given: a monthly series started on Jan 31 that ends on Apr 29
+        TaskRecurrenceRepository.Series series = new TaskRecurrenceRepository.Series(1L, RecurrencePattern.MONTHLY,
+                LocalDate.of(2024, 1, 31), LocalDate.of(2024, 4, 29), LocalDate.of(2024, 2, 29));
+        List<LocalDate> dates = new ArrayList<>();
+
+        // When: generate up to a horizon past the end date
+        LocalDate next = RecurrenceService.occurrencesUntil(series, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 12, 31), dates);
+
+        // Then: the day is clamped per month, not carried over, and the series is finished
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31)), dates);
+        assertNull(next);
+    }
+
+    @Test
+    void testOccurrencesUntil_SkipsMissedOccurrencesAndStopsAtHorizon() {
+        // Given: a weekly series whose next occurrence was a month ago
+        TaskRecurrenceRepository.Series series = new TaskRecurrenceRepository.Series(1L, RecurrencePattern.WEEKLY,
+                LocalDate.of(2023, 12, 4), null, LocalDate.of(2023, 12, 11));
+        List<LocalDate> dates = new ArrayList<>();
+
+        // When
+        LocalDate next = RecurrenceService.occurrencesUntil(series, TODAY, TODAY.plusDays(14), dates);
+
+        // Then: nothing is created in the past and the next date is the first one after the horizon
+        assertEquals(List.of(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 22)), dates);
+        assertEquals(LocalDate.of(2024, 1, 29), next);
+    }
+
+    @Test
+    void testMaterializeBatch_InsertsOccurrencesAndAdvancesSeriesTogether() {
+        // Given: a daily series due today and a weekly one whose end date is tomorrow
+        when(taskRecurrenceRepository.claimDueSeries(TODAY.plusDays(2), 200)).thenReturn(List.of(
+                new TaskRecurrenceRepository.Series(1L, RecurrencePattern.DAILY, TODAY.minusDays(1), null, TODAY),
+                new TaskRecurrenceRepository.Series(2L, RecurrencePattern.WEEKLY, TODAY.minusDays(6), TODAY.plusDays(1), TODAY.plusDays(1))));
+        when(taskRecurrenceRepository.nextTaskIds(4)).thenReturn(List.of(100L, 101L, 102L, 103L));
+        when(taskRecurrenceRepository.insertOccurrences(any(), any())).thenReturn(List.of(
+                new TaskRecurrenceRepository.CreatedOccurrence(100L, 5L, LocalDateTime.now())));
+        when(taskRecurrenceRepository.copyTags(List.of(100L))).thenReturn(Map.of(5L, Set.of(8L)));
+
+        // When
+        RecurrenceService.BatchResult result = recurrenceService.materializeBatch(TODAY, TODAY.plusDays(2));
+
+        // Then: one insert for all occurrences, one update for all series, transitions only for created rows
+        verify(taskRecurrenceRepository).insertOccurrences(eq(List.of(
+                new TaskRecurrenceRepository.Occurrence(100L, 1L, TODAY),
+                new TaskRecurrenceRepository.Occurrence(101L, 1L, TODAY.plusDays(1)),
+                new TaskRecurrenceRepository.Occurrence(102L, 1L, TODAY.plusDays(2)),
+                new TaskRecurrenceRepository.Occurrence(103L, 2L, TODAY.plusDays(1)))), any());
+        verify(taskRecurrenceRepository).advance(List.of(1L, 2L), Arrays.asList(TODAY.plusDays(3), null));
+        verify(flowAnalyticsService).recordTransitions(argThat(changes -> changes.size() == 1));
+        verify(eventPublisher).publishEvent(new TasksChangedEvent(List.of(5L), List.of(100L)));
+        verify(tagCatalogService).tagsChangedAfterCommit(5L, Set.of(8L));
+        assertEquals(new RecurrenceService.BatchResult(2, 1), result);
+    }
+}
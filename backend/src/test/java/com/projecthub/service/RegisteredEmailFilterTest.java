@@ -0,0 +1,131 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.UserSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserSearchRepository userSearchRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    private CacheInvalidationBus.InvalidationHandler invalidationHandler;
+
+    private Runnable disconnected;
+
+    @BeforeEach
+    void setUp() {
+        registeredEmailFilter = new RegisteredEmailFilter(userSearchRepository, cacheInvalidationBus,
+                transactionTemplate, 1000, 0.01);
+        ArgumentCaptor<CacheInvalidationBus.InvalidationHandler> handler =
+                ArgumentCaptor.forClass(CacheInvalidationBus.InvalidationHandler.class);
+        verify(cacheInvalidationBus).subscribe(eq(RegisteredEmailFilter.CHANNEL), handler.capture());
+        invalidationHandler = handler.getValue();
+        ArgumentCaptor<Runnable> onDisconnect = ArgumentCaptor.forClass(Runnable.class);
+        verify(cacheInvalidationBus).onDisconnect(onDisconnect.capture());
+        disconnected = onDisconnect.getValue();
+    }
+
+    @Test
+    void testMightExist_EveryEmailUntilBuilt() {
+        assertTrue(registeredEmailFilter.mightExist("nobody@x.io"));
+    }
+
+    @Test
+    void testMightExist_KnowsScannedAndRegisteredUsers() {
+        // Given: one user in the table, one registering during the scan
+        when(userSearchRepository.countUsers()).thenReturn(1L);
+        doAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(invocation -> {
+            UserSearchRepository.UserEmailHandler handler = invocation.getArgument(0);
+            handler.user(new UserSearchRepository.UserEmail(1L, "alice@x.io"));
+            registeredEmailFilter.onUserRegistered(new UserRegisteredEvent(2L, "bob@x.io"));
+            return null;
+        }).when(userSearchRepository).forEachUser(any());
+        when(userSearchRepository.findById(3L)).thenReturn(Optional.of(
+                new UserSearchRepository.UserEmail(3L, "carol@x.io")));
+
+        // When: the listener connects, then a user registers on another node
+        invalidationHandler.invalidate(null);
+        invalidationHandler.invalidate(3L);
+
+        // Then
+        assertTrue(registeredEmailFilter.mightExist("alice@x.io"));
+        assertTrue(registeredEmailFilter.mightExist("bob@x.io"));
+        assertTrue(registeredEmailFilter.mightExist("carol@x.io"));
+        assertFalse(registeredEmailFilter.mightExist("dave@x.io"));
+        verify(cacheInvalidationBus).publish(RegisteredEmailFilter.CHANNEL, 2L);
+    }
+
+    @Test
+    void testMightExist_EveryEmailFromADisconnectUntilRebuilt() {
+        // Given: the filter is built from one user
+        when(userSearchRepository.countUsers()).thenReturn(1L);
+        doAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(invocation -> {
+            invocation.<UserSearchRepository.UserEmailHandler>getArgument(0)
+                    .user(new UserSearchRepository.UserEmail(1L, "alice@x.io"));
+            return null;
+        }).when(userSearchRepository).forEachUser(any());
+        invalidationHandler.invalidate(null);
+        assertFalse(registeredEmailFilter.mightExist("bob@x.io"));
+
+        // When: the listener fails, so bob may have registered on another node unnoticed
+        disconnected.run();
+
+        // Then
+        assertTrue(registeredEmailFilter.mightExist("bob@x.io"));
+    }
+
+    @Test
+    void testRebuild_OverlappingADisconnectIsNotPublished() {
+        // Given: the listener fails while the filter is being built
+        when(userSearchRepository.countUsers()).thenReturn(1L);
+        doAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(invocation -> {
+            invocation.<UserSearchRepository.UserEmailHandler>getArgument(0)
+                    .user(new UserSearchRepository.UserEmail(1L, "alice@x.io"));
+            disconnected.run();
+            return null;
+        }).when(userSearchRepository).forEachUser(any());
+
+        // When
+        registeredEmailFilter.rebuild();
+
+        // Then: it stays open until the rebuild after the reconnect
+        assertTrue(registeredEmailFilter.mightExist("bob@x.io"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.ReminderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 10);
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReminderService reminderService;
+
+    @BeforeEach
+    void setUp() {
+        reminderService = new ReminderService(reminderRepository, eventPublisher, transactionTemplate, 1, 14);
+    }
+
+    @Test
+    void testSendDue_ClaimingNodeReadsMissedDaysFromTheDatabase() {
+        // Given: reminders were last sent three days ago
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(reminderRepository.claimThrough(TODAY)).thenReturn(TODAY.minusDays(3));
+        ReminderRepository.DueTask overdue = new ReminderRepository.DueTask(1L, 5L, "Report", TODAY.minusDays(2), 7L);
+        ReminderRepository.DueTask dueSoon = new ReminderRepository.DueTask(2L, 5L, "Review", TODAY.plusDays(1), null);
+        when(reminderRepository.findDueTasks(TODAY.minusDays(1), TODAY.plusDays(1))).thenReturn(List.of(dueSoon));
+        when(reminderRepository.findDueTasks(TODAY.minusDays(3), TODAY.minusDays(1))).thenReturn(List.of(overdue));
+
+        // When
+        int sent = reminderService.sendDue(TODAY);
+
+        // Then: both are sent, whichever node changed the tasks, and nothing happens again until tomorrow
+        assertEquals(2, sent);
+        verify(eventPublisher).publishEvent(new TaskReminderEvent(TaskReminderEvent.Type.OVERDUE, List.of(overdue)));
+        verify(eventPublisher).publishEvent(new TaskReminderEvent(TaskReminderEvent.Type.DUE_SOON, List.of(dueSoon)));
+        assertEquals(0, reminderService.sendDue(TODAY));
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    void testSend_SkipsDaysAlreadySentByAnotherNode() {
+        // Given
+        when(reminderRepository.claimThrough(TODAY)).thenReturn(null);
+
+        // When
+        int sent = reminderService.send(TODAY);
+
+        // Then
+        assertEquals(0, sent);
+        verify(reminderRepository, never()).findDueTasks(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testSend_CatchesUpAtMostTheConfiguredDays() {
+        // Given: reminders were last sent a month ago
+        when(reminderRepository.claimThrough(TODAY)).thenReturn(TODAY.minusDays(30));
+        when(reminderRepository.findDueTasks(any(), any())).thenReturn(List.of());
+
+        // When
+        reminderService.send(TODAY);
+
+        // Then
+        verify(reminderRepository).findDueTasks(TODAY.minusDays(13), TODAY.plusDays(1));
+        verify(reminderRepository).findDueTasks(TODAY.minusDays(15), TODAY.minusDays(1));
+    }
+}
@@ -0,0 +1,104 @@
+package com.projecthub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringBitmapTest {
+
+    @Test
+    void testAddAndRemove_MatchSortedSetAcrossContainerTypes() {
+        Random random = new Random(42);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        // Dense in the first container, sparse in the next ones, then thinned out below the array limit
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(10) < 8 ? random.nextInt(8192) : random.nextInt(300_000);
+            bitmap.add(value);
+            expected.add(value);
+        }
+        assertMatches(expected, bitmap);
+        for (int value = 0; value < 8192; value += 2) {
+            bitmap.remove(value);
+            expected.remove(value);
+        }
+        assertMatches(expected, bitmap);
+        assertFalse(bitmap.contains(0));
+        assertFalse(bitmap.contains(-1 >>> 1));
+
+        for (int value : new ArrayList<>(expected)) {
+            bitmap.remove(value);
+        }
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    void testAndOr_MatchSortedSets() {
+        Random random = new Random(7);
+        for (int density : new int[]{100, 5000, 60_000}) {
+            RoaringBitmap a = new RoaringBitmap();
+            RoaringBitmap b = new RoaringBitmap();
+            TreeSet<Integer> setA = new TreeSet<>();
+            TreeSet<Integer> setB = new TreeSet<>();
+            for (int i = 0; i < density; i++) {
+                int valueA = random.nextInt(200_000);
+                int valueB = random.nextInt(200_000);
+                a.add(valueA);
+                setA.add(valueA);
+                b.add(valueB);
+                setB.add(valueB);
+            }
+
+            TreeSet<Integer> intersection = new TreeSet<>(setA);
+            intersection.retainAll(setB);
+            TreeSet<Integer> union = new TreeSet<>(setA);
+            union.addAll(setB);
+
+            assertMatches(intersection, RoaringBitmap.and(a, b));
+            assertEquals(intersection.size(), RoaringBitmap.andCardinality(a, b));
+            assertMatches(union, RoaringBitmap.or(a, b));
+        }
+    }
+
+    @Test
+    void testOr_ResultIsIndependentOfInputs() {
+        RoaringBitmap a = new RoaringBitmap();
+        RoaringBitmap b = new RoaringBitmap();
+        a.add(1);
+        b.add(70_000);
+
+        RoaringBitmap union = RoaringBitmap.or(a, b);
+        union.add(2);
+        union.remove(70_000);
+
+        assertFalse(a.contains(2));
+        assertTrue(b.contains(70_000));
+    }
+
+    @Test
+    void testToArray_StopsAtLimit() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : new int[]{70_000, 5, 3, 65_536}) {
+            bitmap.add(value);
+        }
+
+        assertArrayEquals(new int[]{3, 5, 65_536}, bitmap.toArray(3));
+        assertArrayEquals(new int[]{3, 5, 65_536, 70_000}, bitmap.toArray(10));
+    }
+
+    private static void assertMatches(TreeSet<Integer> expected, RoaringBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        assertEquals(new ArrayList<>(expected), values);
+        assertEquals(expected.size(), bitmap.cardinality());
+        for (int value : expected) {
+            assertTrue(bitmap.contains(value));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.SearchHit;
+import com.projecthub.dto.SearchResponse;
+import com.projecthub.repository.SearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchService(searchRepository, 100);
+    }
+
+    @Test
+    void testSearch_FetchesOneExtraRowToTellIfThereIsMore() {
+        // Given: user 1 can access projects 5 and 6
+        when(searchRepository.findAccessibleProjectIds(1L)).thenReturn(List.of(5L, 6L));
+        when(searchRepository.search("release notes", List.of(5L, 6L), 107L, 3, 4L))
+                .thenReturn(new SearchRepository.Page(List.of(
+                        new SearchRepository.Hit("PROJECT", 5L, 5L, "Release", "", 0.9f),
+                        new SearchRepository.Hit("TASK", 42L, 6L, "Write release notes", "<b>notes</b>", 0.6f),
+                        new SearchRepository.Hit("TASK", 41L, 5L, "Notes", "", 0.1f)), false));
+
+        // When: the third page of two results
+        SearchResponse response = searchService.search("  release notes ", 2, 2, 1L);
+
+        // Then
+        assertTrue(response.isHasMore());
+        assertEquals(List.of(SearchHit.Type.PROJECT, SearchHit.Type.TASK),
+                response.getResults().stream().map(SearchHit::getType).toList());
+        assertEquals(6L, response.getResults().get(1).getProjectId());
+    }
+
+    @Test
+    void testSearch_RanksPastTheCapForLaterPagesAndReportsMoreWhenItIsReached() {
+        // Given: the 60th page of 20 is past the usual cap of 100 ranked matches
+        when(searchRepository.findAccessibleProjectIds(1L)).thenReturn(List.of(5L));
+        when(searchRepository.search("sched", List.of(5L), 1321L, 21, 1200L))
+                .thenReturn(new SearchRepository.Page(List.of(
+                        new SearchRepository.Hit("TASK", 7L, 5L, "Schedule", "", 0.6f)), true));
+
+        // When
+        SearchResponse response = searchService.search("sched", 60, 20, 1L);
+
+        // Then: more matches exist than were ranked
+        assertEquals(1, response.getResults().size());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    void testSearch_RejectsBadInputAndSkipsQueryWithoutProjects() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(" ", 0, 20, 1L));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("x", -1, 20, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> searchService.search("x", 0, SearchService.MAX_PAGE_SIZE + 1, 1L));
+
+        when(searchRepository.findAccessibleProjectIds(2L)).thenReturn(List.of());
+        SearchResponse response = searchService.search("x", 0, 20, 2L);
+
+        assertTrue(response.getResults().isEmpty());
+        assertFalse(response.isHasMore());
+        verify(searchRepository, never()).search(anyString(), anyCollection(), anyLong(), anyInt(), anyLong());
+    }
+}
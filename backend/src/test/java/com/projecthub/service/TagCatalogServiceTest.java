@@ -0,0 +1,77 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.TagDTO;
+import com.projecthub.repository.TagCatalogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagCatalogServiceTest {
+
+    @Mock
+    private TagCatalogRepository tagCatalogRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private TagCatalogService tagCatalogService;
+
+    private CacheInvalidationBus.InvalidationHandler invalidationHandler;
+
+    @BeforeEach
+    void setUp() {
+        tagCatalogService = new TagCatalogService(tagCatalogRepository, cacheInvalidationBus, 10);
+        ArgumentCaptor<CacheInvalidationBus.InvalidationHandler> handler =
+                ArgumentCaptor.forClass(CacheInvalidationBus.InvalidationHandler.class);
+        verify(cacheInvalidationBus).subscribe(eq(TagCatalogService.CHANNEL), handler.capture());
+        invalidationHandler = handler.getValue();
+
+        // Project 1: tag 10 used by two tasks, tag 11 unused
+        when(tagCatalogRepository.findByProject(1L)).thenReturn(List.of(
+                new TagCatalogRepository.TagUsage(10L, 1L, "bug", "#f00", 2),
+                new TagCatalogRepository.TagUsage(11L, 1L, "ui", "#0f0", 0)));
+    }
+
+    @Test
+    void testTagsChanged_RecountsOnlyTheTagsInvolved() {
+        // Given: the catalog is cached
+        tagCatalogService.getTags(1L);
+        when(tagCatalogRepository.findByIds(List.of(10L, 12L))).thenReturn(List.of(
+                new TagCatalogRepository.TagUsage(12L, 1L, "api", "#00f", 1)));
+
+        // When: tag 10 was deleted and tag 12 created and used, outside a transaction
+        tagCatalogService.tagsChangedAfterCommit(1L, List.of(10L, 12L));
+        List<TagDTO> tags = tagCatalogService.getTags(1L);
+
+        // Then: other nodes are told and this node's catalog is updated without a reload
+        verify(cacheInvalidationBus).publish(TagCatalogService.CHANNEL, 1L);
+        verify(tagCatalogRepository, times(1)).findByProject(1L);
+        assertEquals(List.of(11L, 12L), tags.stream().map(TagDTO::getId).toList());
+        assertEquals(List.of(0, 1), tags.stream().map(TagDTO::getTaskCount).toList());
+    }
+
+    @Test
+    void testInvalidationFromOtherNode_DropsCatalog() {
+        // Given
+        tagCatalogService.getTags(1L);
+
+        // When: another node changed project 1, then the listener reconnected
+        invalidationHandler.invalidate(1L);
+        tagCatalogService.getTags(1L);
+        invalidationHandler.invalidate(null);
+        tagCatalogService.getTags(1L);
+
+        // Then
+        verify(tagCatalogRepository, times(3)).findByProject(1L);
+    }
+}
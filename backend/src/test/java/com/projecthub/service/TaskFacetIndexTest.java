@@ -0,0 +1,102 @@
+package com.projecthub.service;
+
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFacetIndexTest {
+
+    private final TaskFacetIndex index = new TaskFacetIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.put(1, TaskStatus.TODO, TaskPriority.HIGH, 10L, List.of(100L));
+        index.put(2, TaskStatus.TODO, TaskPriority.LOW, 20L, List.of(100L, 200L));
+        index.put(3, TaskStatus.IN_PROGRESS, TaskPriority.HIGH, null, List.of(200L));
+        index.put(4, TaskStatus.DONE, TaskPriority.HIGH, 10L, List.of());
+    }
+
+    @Test
+    void testQuery_CountsOfAFacetIgnoreItsOwnFilter() {
+        // When: TODO tasks of priority HIGH
+        TaskFacetIndex.Result result = index.query(filter(Set.of(TaskStatus.TODO), Set.of(TaskPriority.HIGH),
+                Set.of(), false, Set.of(), false), 10);
+
+        // Then: every status keeps the count it would have if picked
+        assertEquals(1, result.total());
+        assertEquals(List.of(1L), result.taskIds());
+        assertEquals(Map.of(TaskStatus.TODO, 1, TaskStatus.IN_PROGRESS, 1, TaskStatus.DONE, 1), result.statuses());
+        assertEquals(1, result.priorities().get(TaskPriority.HIGH));
+        assertEquals(1, result.priorities().get(TaskPriority.LOW));
+        assertEquals(Map.of(10L, 1, 20L, 0), result.assignees());
+        assertEquals(0, result.unassigned());
+        assertEquals(Map.of(100L, 1, 200L, 0), result.tags());
+    }
+
+    @Test
+    void testQuery_ValuesOfAFacetAreAlternatives() {
+        // When: assigned to user 20 or nobody, tagged 100 or 200
+        TaskFacetIndex.Result anyTag = index.query(filter(Set.of(), Set.of(),
+                Set.of(20L), true, Set.of(100L, 200L), false), 10);
+        TaskFacetIndex.Result allTags = index.query(filter(Set.of(), Set.of(),
+                Set.of(20L), true, Set.of(100L, 200L), true), 10);
+
+        // Then
+        assertEquals(List.of(2L, 3L), anyTag.taskIds());
+        assertEquals(1, anyTag.unassigned());
+        assertEquals(List.of(2L), allTags.taskIds());
+        assertEquals(Map.of(100L, 1, 200L, 1), allTags.tags());
+    }
+
+    @Test
+    void testPutAndRemove_UpdateBitmapsAndReuseOrdinals() {
+        // When: task 1 moves and loses its tag, task 2 is deleted and task 5 takes its ordinal
+        index.put(1, TaskStatus.DONE, TaskPriority.HIGH, null, List.of());
+        index.remove(2);
+        index.put(5, TaskStatus.TODO, TaskPriority.MEDIUM, 30L, List.of(300L));
+
+        // Then
+        TaskFacetIndex.Result result = index.query(filter(Set.of(), Set.of(), Set.of(), false, Set.of(), false), 10);
+        assertEquals(4, index.size());
+        assertEquals(List.of(1L, 3L, 4L, 5L), result.taskIds());
+        assertEquals(List.of(1L, 3L),
+                index.query(filter(Set.of(), Set.of(), Set.of(), false, Set.of(), false), 2).taskIds());
+        assertEquals(Map.of(TaskStatus.TODO, 1, TaskStatus.IN_PROGRESS, 1, TaskStatus.DONE, 2), result.statuses());
+        assertEquals(Map.of(10L, 1, 30L, 1), result.assignees());
+        assertEquals(2, result.unassigned());
+        assertEquals(Map.of(200L, 1, 300L, 1), result.tags());
+    }
+
+    @Test
+    void testRemoveTag_DropsTagFromTasks() {
+        // When
+        index.removeTag(100L);
+        index.put(2, TaskStatus.IN_PROGRESS, TaskPriority.LOW, 20L, List.of(200L));
+
+        // Then: re-indexing a task that had the tag does not fail
+        TaskFacetIndex.Result result = index.query(filter(Set.of(), Set.of(), Set.of(), false, Set.of(100L), false), 10);
+        assertEquals(0, result.total());
+        assertEquals(Map.of(200L, 2), result.tags());
+    }
+
+    @Test
+    void testQuery_LimitsTaskIdsButNotTotal() {
+        TaskFacetIndex.Result result = index.query(filter(Set.of(), Set.of(), Set.of(), false, Set.of(), false), 2);
+
+        assertEquals(4, result.total());
+        assertEquals(List.of(1L, 2L), result.taskIds());
+    }
+
+    private static TaskFacetIndex.Filter filter(Set<TaskStatus> statuses, Set<TaskPriority> priorities,
+                                                Set<Long> assigneeIds, boolean unassigned, Set<Long> tagIds,
+                                                boolean allTags) {
+        return new TaskFacetIndex.Filter(statuses, priorities, assigneeIds, unassigned, tagIds, allTags);
+    }
+}
@@ -0,0 +1,69 @@
+package com.projecthub.service;
+
+import com.projecthub.repository.TaskFacetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskFacetServiceTest {
+
+    @Mock
+    private TaskFacetRepository taskFacetRepository;
+
+    @Mock
+    private ProjectMemberService projectMemberService;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private TaskFacetService taskFacetService;
+
+    private CacheInvalidationBus.InvalidationHandler invalidationHandler;
+
+    @BeforeEach
+    void setUp() {
+        taskFacetService = new TaskFacetService(taskFacetRepository, projectMemberService, cacheInvalidationBus, 10);
+        ArgumentCaptor<CacheInvalidationBus.InvalidationHandler> handler =
+                ArgumentCaptor.forClass(CacheInvalidationBus.InvalidationHandler.class);
+        verify(cacheInvalidationBus).subscribe(eq(TaskFacetService.CHANNEL), handler.capture());
+        invalidationHandler = handler.getValue();
+    }
+
+    @Test
+    void testPublishTasksChanged_TellsOtherNodesTheProjects() {
+        // When
+        taskFacetService.publishTasksChanged(new TasksChangedEvent(List.of(1L, 2L), List.of(10L, 20L)));
+
+        // Then
+        verify(cacheInvalidationBus).publish(TaskFacetService.CHANNEL, List.of(1L, 2L));
+    }
+
+    @Test
+    void testRemoteNotification_DropsOneProjectOrEveryIndex() {
+        // Given: indexes of projects 1 and 2 are loaded
+        taskFacetService.getIndex(1L);
+        taskFacetService.getIndex(2L);
+
+        // When: tasks of project 1 change on another node, then the listener reconnects
+        invalidationHandler.invalidate(1L);
+        List<Long> afterChange = taskFacetService.cachedProjects();
+        invalidationHandler.invalidate(null);
+
+        // Then
+        assertEquals(List.of(2L), afterChange);
+        assertEquals(List.of(), taskFacetService.cachedProjects());
+        taskFacetService.getIndex(1L);
+        verify(taskFacetRepository, times(2)).forEachTask(eq(1L), any());
+    }
+}
@@ -0,0 +1,149 @@
+package com.projecthub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecthub.dto.TaskImportResponse;
+import com.projecthub.exception.NotFoundException;
+import com.projecthub.model.TaskPriority;
+import com.projecthub.model.TaskStatus;
+import com.projecthub.repository.TaskBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    private ProjectMemberService projectMemberService;
+
+    @Mock
+    private TaskBulkRepository taskBulkRepository;
+
+    @Mock
+    private FlowAnalyticsService flowAnalyticsService;
+
+    @Mock
+    private DependencyGraphService dependencyGraphService;
+
+    @Mock
+    private TagCatalogService tagCatalogService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private TaskImportService taskImportService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(projectMemberService.isMember(1L, 1L)).thenReturn(true);
+        lenient().when(taskBulkRepository.nextTaskIds(anyInt()))
+                .thenReturn(LongStream.rangeClosed(100, 1099).boxed().toList());
+    }
+
+    @Test
+    void testImportCsv_ValidatesRowsAndLinksRefs() {
+        // Given: a quoted multi-line description, a ref dependency, an existing tag and three bad rows
+        String csv = """
+                ref,Title,Description,Priority,Tags,Depends_On
+                a,First,"multi
+                line, ""quoted\""",high,backend;new-tag,
+                b,Second,,,backend,a
+                ,,no title,,,
+                c,Third,,URGENT,,
+                d,Fourth,,,,missing
+                """;
+        when(taskBulkRepository.findTagIds(1L, Set.of("backend", "new-tag"))).thenReturn(Map.of("backend", 5L));
+        when(taskBulkRepository.insertTags(eq(1L), eq(Set.of("new-tag")), anyString())).thenReturn(Map.of("new-tag", 6L));
+
+        // When
+        TaskImportResponse response = taskImportService.importTasks(1L, TaskImportService.Format.CSV, body(csv), 1L);
+
+        // Then
+        assertEquals(2, response.getImported());
+        assertEquals(3, response.getRejected());
+        assertEquals(1, response.getTagsCreated());
+        assertEquals(List.of(5L, 6L, 7L), response.getErrors().stream().map(TaskImportResponse.RowError::getLine).toList());
+        assertEquals("Invalid priority 'URGENT'", response.getErrors().get(1).getMessage());
+
+        ArgumentCaptor<List<TaskBulkRepository.NewTask>> tasks = ArgumentCaptor.forClass(List.class);
+        verify(taskBulkRepository).insertTasks(tasks.capture(), any());
+        TaskBulkRepository.NewTask first = tasks.getValue().get(0);
+        assertEquals(100L, first.id());
+        assertEquals("multi\nline, \"quoted\"", first.description());
+        assertEquals(TaskPriority.HIGH, first.priority());
+        assertEquals(TaskStatus.TODO, first.status());
+
+        verify(taskBulkRepository).insertTaskTags(List.of(
+                new TaskBulkRepository.Link(100L, 5L),
+                new TaskBulkRepository.Link(100L, 6L),
+                new TaskBulkRepository.Link(101L, 5L)));
+        verify(taskBulkRepository).insertTaskDependencies(List.of(new TaskBulkRepository.Link(101L, 100L)));
+        verify(flowAnalyticsService).recordTransitions(argThat(changes -> changes.size() == 2));
+    }
+
+    @Test
+    void testImportNdjson_DropsRowsWithMissingExistingDependency() {
+        // Given: row b needs task #7 which is not in the project, and row c depends on b
+        String ndjson = """
+                {"ref": "a", "title": "First", "dependsOn": ["#8"]}
+                {"ref": "b", "title": "Second", "dependsOn": ["#7"]}
+
+                {"ref": "c", "title": "Third", "dependsOn": ["b"]}
+                {"title": broken}
+                """;
+        when(taskBulkRepository.findTaskIdsInProject(eq(1L), argThat(ids -> ids.containsAll(Set.of(7L, 8L)))))
+                .thenReturn(List.of(8L));
+
+        // When
+        TaskImportResponse response = taskImportService.importTasks(1L, TaskImportService.Format.NDJSON, body(ndjson), 1L);
+
+        // Then
+        assertEquals(1, response.getImported());
+        assertEquals(3, response.getRejected());
+        assertEquals(List.of(5L, 2L, 4L), response.getErrors().stream().map(TaskImportResponse.RowError::getLine).toList());
+        verify(taskBulkRepository).insertTaskDependencies(List.of(new TaskBulkRepository.Link(100L, 8L)));
+        verify(taskBulkRepository, never()).insertTaskTags(any());
+    }
+
+    @Test
+    void testImportCsv_WithoutTitleColumn_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                taskImportService.importTasks(1L, TaskImportService.Format.CSV, body("name,priority\nx,LOW\n"), 1L));
+        verify(taskBulkRepository, never()).insertTasks(any(), any());
+    }
+
+    @Test
+    void testImport_NonMember_ThrowsNotFound() {
+        when(projectMemberService.isMember(1L, 2L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () ->
+                taskImportService.importTasks(1L, TaskImportService.Format.CSV, body("title\nx\n"), 2L));
+        verifyNoInteractions(taskBulkRepository);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
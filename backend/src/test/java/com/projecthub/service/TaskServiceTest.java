@@ -1,7 +1,14 @@
 package com.projecthub.service;
 
+import com.projecthub.dto.BulkCompleteResponse;
+import com.projecthub.dto.BulkTagTasksRequest;
+import com.projecthub.dto.BulkTagTasksResponse;
+import com.projecthub.dto.BulkUpdateTasksRequest;
+import com.projecthub.dto.BulkUpdateTasksResponse;
 import com.projecthub.dto.TaskResponse;
 import com.projecthub.model.*;
+import com.projecthub.repository.TaskBulkRepository;
+import com.projecthub.repository.TaskDependencyRepository;
 import com.projecthub.repository.TaskRepository;
 import com.projecthub.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,13 +17,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,12 +46,33 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskBulkRepository taskBulkRepository;
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private ProjectMemberService projectMemberService;
 
+    @Mock
+    private FlowAnalyticsService flowAnalyticsService;
+
+    @Mock
+    private DependencyGraphService dependencyGraphService;
+
+    @Mock
+    private TagCatalogService tagCatalogService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -164,9 +206,27 @@ class TaskServiceTest {
         // When: move to DONE
         taskService.updateTaskStatus(1L, TaskStatus.DONE, 2L);
 
-        // Then: automatically marked as completed
+        // Then: automatically marked as completed, and its dependents have one open dependency less
         assertTrue(testTask.getCompleted());
         assertEquals(TaskStatus.DONE, testTask.getStatus());
+        verify(taskDependencyRepository).releaseDependents(List.of(1L));
+    }
+
+    @Test
+    void testUpdateTaskStatus_MoveToDone_ReturnsAndPublishesUnblockedTasks() {
+        // Given: owner completes a task that is the last open dependency of tasks 5 and 6
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(projectMemberService.isMember(1L, 1L)).thenReturn(true);
+        when(projectMemberService.isOwner(1L, 1L)).thenReturn(true);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskDependencyRepository.releaseDependents(List.of(1L))).thenReturn(List.of(5L, 6L));
+
+        // When
+        TaskResponse response = taskService.updateTaskStatus(1L, TaskStatus.DONE, 1L);
+
+        // Then: the newly actionable tasks are in the response and announced once
+        assertEquals(List.of(5L, 6L), response.getUnblockedTaskIds());
+        verify(eventPublisher).publishEvent(new TasksUnblockedEvent(List.of(5L, 6L)));
     }
 
     @Test
@@ -184,9 +244,26 @@ class TaskServiceTest {
         // When: move back to IN_PROGRESS
         taskService.updateTaskStatus(1L, TaskStatus.IN_PROGRESS, 2L);
 
-        // Then: automatically unmarked as completed
+        // Then: automatically unmarked as completed, and its dependents wait for it again
         assertFalse(testTask.getCompleted());
         assertEquals(TaskStatus.IN_PROGRESS, testTask.getStatus());
+        verify(taskDependencyRepository).holdDependents(List.of(1L));
+    }
+
+    @Test
+    void testUpdateTaskStatus_RecordsTransition() {
+        // Given: owner moves a TODO task
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(projectMemberService.isMember(1L, 1L)).thenReturn(true);
+        when(projectMemberService.isOwner(1L, 1L)).thenReturn(true);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When: move to IN_PROGRESS
+        taskService.updateTaskStatus(1L, TaskStatus.IN_PROGRESS, 1L);
+
+        // Then: transition recorded with the previous status; completion did not change
+        verify(flowAnalyticsService, times(1)).recordTransition(testTask, TaskStatus.TODO);
+        verifyNoInteractions(taskDependencyRepository);
     }
 
     @Test
@@ -233,7 +310,189 @@ class TaskServiceTest {
         // When: delete task
         taskService.deleteTask(1L, 1L);
 
-        // Then: task deleted
+        // Then: task deleted after releasing and unlinking its dependents
+        verify(taskDependencyRepository).releaseDependents(List.of(1L));
+        verify(taskDependencyRepository).deleteDependentLinks(List.of(1L));
         verify(taskRepository, times(1)).delete(testTask);
     }
+
+    @Test
+    void testDeleteTask_OpenTask_PublishesUnblockedTasks() {
+        // Given: the open task is the last open dependency of tasks 5 and 6
+        when(taskRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testTask));
+        when(taskDependencyRepository.releaseDependents(List.of(1L))).thenReturn(List.of(5L, 6L));
+
+        // When
+        taskService.deleteTask(1L, 1L);
+
+        // Then: the newly actionable tasks are announced as when the task is completed
+        verify(eventPublisher).publishEvent(new TasksUnblockedEvent(List.of(5L, 6L)));
+    }
+
+    @Test
+    void testDeleteTasksChunk_PublishesTasksUnblockedByTheDelete() {
+        // Given: deleting task 1 leaves task 7 without open dependencies
+        when(taskBulkRepository.deleteAccessible(List.of(1L), 1L)).thenReturn(new TaskBulkRepository.Deletion(
+                List.of(new TaskBulkRepository.DeletedTask(1L, 1L, TaskStatus.TODO)), List.of(7L)));
+
+        // When
+        List<Long> deleted = taskService.deleteTasksChunk(List.of(1L), 1L);
+
+        // Then
+        assertEquals(List.of(1L), deleted);
+        verify(eventPublisher).publishEvent(new TasksUnblockedEvent(List.of(7L)));
+    }
+
+    @Test
+    void testBulkCompleteTasks_ReportsOutcomePerTask() {
+        // Given: task 1 completable, 2 blocked, 3 in a foreign project, 4 missing
+        List<TaskBulkRepository.BulkCandidate> candidates = List.of(
+                candidate(1L, true, false),
+                candidate(2L, true, true),
+                candidate(3L, false, false));
+        when(taskBulkRepository.findBulkCandidates(List.of(1L, 2L, 3L, 4L), 1L)).thenReturn(candidates);
+        when(taskBulkRepository.completeUnblocked(eq(List.of(1L, 2L)), any())).thenReturn(List.of(1L));
+
+        // When
+        BulkCompleteResponse response = taskService.bulkCompleteTasks(List.of(1L, 2L, 3L, 4L, 1L), 1L);
+
+        // Then: no entity loaded, one transition recorded for the completed task
+        assertEquals(List.of(1L), response.getCompleted());
+        assertEquals(List.of(2L), response.getBlocked());
+        assertEquals(List.of(3L), response.getForbidden());
+        assertEquals(List.of(4L), response.getNotFound());
+        verify(taskRepository, never()).findAllById(any());
+        verify(flowAnalyticsService).recordTransitions(argThat(changes ->
+                changes.size() == 1 && changes.get(0).taskId().equals(1L) && changes.get(0).to() == TaskStatus.DONE));
+        verify(taskDependencyRepository).releaseDependents(List.of(1L));
+        verify(eventPublisher).publishEvent(new TasksChangedEvent(List.of(1L), List.of(1L)));
+        verify(eventPublisher, never()).publishEvent(any(TasksUnblockedEvent.class));
+    }
+
+    @Test
+    void testGetTasksByProject_NotBlocked_UsesActionableQuery() {
+        // Given
+        when(projectMemberService.isMember(1L, 1L)).thenReturn(true);
+        when(taskRepository.findActionableByProjectId(1L)).thenReturn(List.of(testTask));
+
+        // When: ask for the tasks that can be worked on now
+        List<TaskResponse> tasks = taskService.getTasksByProject(1L, false, 1L);
+
+        // Then: served by the filtered query, not by loading every task
+        assertEquals(1, tasks.size());
+        assertFalse(tasks.get(0).isBlocked());
+        verify(taskRepository, never()).findByProjectId(anyLong());
+    }
+
+    @Test
+    void testBulkUpdateTasks_AuthorizesOncePerProject() {
+        // Given: project 1 where the user is a plain member assigned to task 1 only, project 2 where
+        // the user is not a member, and an assignee who belongs to project 1
+        when(taskBulkRepository.lockUpdateCandidates(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                new TaskBulkRepository.UpdateCandidate(1L, 1L, TaskStatus.TODO, false, 1L, LocalDateTime.now()),
+                new TaskBulkRepository.UpdateCandidate(2L, 1L, TaskStatus.TODO, false, 3L, LocalDateTime.now()),
+                new TaskBulkRepository.UpdateCandidate(3L, 2L, TaskStatus.TODO, false, 1L, LocalDateTime.now())));
+        when(taskBulkRepository.findRoles(eq(1L), argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L)))))
+                .thenReturn(Map.of(1L, ProjectRole.MEMBER));
+        BulkUpdateTasksRequest request = new BulkUpdateTasksRequest(List.of(1L, 2L, 3L, 4L), TaskStatus.DONE, null, false);
+
+        // When
+        BulkUpdateTasksResponse response = taskService.bulkUpdateTasks(request, 1L);
+
+        // Then: one role lookup, one UPDATE, one transition
+        assertEquals(1, response.getUpdated());
+        assertEquals(List.of(
+                        BulkUpdateTasksResponse.Outcome.UPDATED,
+                        BulkUpdateTasksResponse.Outcome.FORBIDDEN,
+                        BulkUpdateTasksResponse.Outcome.FORBIDDEN,
+                        BulkUpdateTasksResponse.Outcome.NOT_FOUND),
+                response.getResults().stream().map(BulkUpdateTasksResponse.Result::getOutcome).toList());
+        verify(taskBulkRepository, times(1)).findRoles(eq(1L), anyCollection());
+        verify(taskBulkRepository).updateStatusAndAssignee(eq(List.of(1L)), eq(TaskStatus.DONE), eq(false), isNull(), any());
+        verify(flowAnalyticsService).recordTransitions(argThat(changes -> changes.size() == 1));
+        verifyNoInteractions(projectMemberService);
+    }
+
+    @Test
+    void testBulkUpdateTasks_AssigneeOutsideProject_IsRejected() {
+        when(taskBulkRepository.lockUpdateCandidates(List.of(1L))).thenReturn(List.of(
+                new TaskBulkRepository.UpdateCandidate(1L, 1L, TaskStatus.TODO, false, null, LocalDateTime.now())));
+        when(taskBulkRepository.findRoles(1L, List.of(1L))).thenReturn(Map.of(1L, ProjectRole.MEMBER));
+        when(taskBulkRepository.findRoles(5L, List.of(1L))).thenReturn(Map.of());
+
+        BulkUpdateTasksResponse response = taskService.bulkUpdateTasks(
+                new BulkUpdateTasksRequest(List.of(1L), null, 5L, false), 1L);
+
+        assertEquals(BulkUpdateTasksResponse.Outcome.INVALID_ASSIGNEE, response.getResults().get(0).getOutcome());
+        verify(taskBulkRepository, never()).updateStatusAndAssignee(any(), any(), anyBoolean(), any(), any());
+    }
+
+    @Test
+    void testBulkUpdateTasks_NothingToChange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                taskService.bulkUpdateTasks(new BulkUpdateTasksRequest(List.of(1L), null, null, false), 1L));
+        assertThrows(IllegalArgumentException.class, () ->
+                taskService.bulkUpdateTasks(new BulkUpdateTasksRequest(List.of(1L), null, 5L, true), 1L));
+        verifyNoInteractions(taskBulkRepository);
+    }
+
+    @Test
+    void testBulkTagTasks_ValidatesOnceAndWritesLinksSetBased() {
+        // Given: tasks 1 and 2 and tags 7 and 8 all belong to project 3
+        when(taskBulkRepository.findTaggingScopes(List.of(1L, 2L), Set.of(7L, 8L), 1L))
+                .thenReturn(List.of(new TaskBulkRepository.TaggingScope(3L, 2, 2, true)));
+        when(taskBulkRepository.addTaskTags(List.of(1L, 2L), Set.of(7L))).thenReturn(1);
+        when(taskBulkRepository.removeTaskTags(List.of(1L, 2L), Set.of(8L))).thenReturn(2);
+
+        // When
+        BulkTagTasksResponse response = taskService.bulkTagTasks(
+                new BulkTagTasksRequest(List.of(1L, 2L, 1L), List.of(7L), List.of(8L)), 1L);
+
+        // Then: no entity loaded, facets and tag counts refreshed
+        assertEquals(new BulkTagTasksResponse(1, 2), response);
+        verify(taskRepository, never()).findAllById(any());
+        verify(eventPublisher).publishEvent(new TasksChangedEvent(List.of(3L), List.of(1L, 2L)));
+        verify(tagCatalogService).tagsChangedAfterCommit(3L, Set.of(7L, 8L));
+    }
+
+    @Test
+    void testBulkTagTasks_TagOfOtherProject_ThrowsException() {
+        // Given: tag 9 belongs to project 4
+        when(taskBulkRepository.findTaggingScopes(List.of(1L), Set.of(9L), 1L)).thenReturn(List.of(
+                new TaskBulkRepository.TaggingScope(3L, 1, 0, true),
+                new TaskBulkRepository.TaggingScope(4L, 0, 1, true)));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> taskService.bulkTagTasks(
+                new BulkTagTasksRequest(List.of(1L), List.of(9L), List.of()), 1L));
+        verify(taskBulkRepository, never()).addTaskTags(any(), any());
+    }
+
+    @Test
+    void testBulkDeleteTasks_DeletesInChunksWithoutLoadingEntities() {
+        // Given: 1500 distinct IDs, each chunk runs in its own transaction
+        List<Long> taskIds = LongStream.rangeClosed(1, 1500).boxed().toList();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(taskBulkRepository.deleteAccessible(anyList(), eq(1L))).thenReturn(new TaskBulkRepository.Deletion(
+                List.of(new TaskBulkRepository.DeletedTask(1L, 1L, TaskStatus.TODO),
+                        new TaskBulkRepository.DeletedTask(2L, 1L, TaskStatus.DONE)),
+                List.of()));
+
+        // When
+        taskService.bulkDeleteTasks(taskIds, 1L);
+
+        // Then: two chunks, removals recorded per chunk
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(taskBulkRepository).deleteAccessible(taskIds.subList(0, 1000), 1L);
+        verify(taskBulkRepository).deleteAccessible(taskIds.subList(1000, 1500), 1L);
+        verify(flowAnalyticsService, times(2)).recordRemovals(1L, Map.of(TaskStatus.TODO, 1L, TaskStatus.DONE, 1L));
+        verify(taskRepository, never()).findAllById(any());
+        verify(taskRepository, never()).deleteAll(any());
+    }
+
+    private TaskBulkRepository.BulkCandidate candidate(Long id, boolean member, boolean blocked) {
+        return new TaskBulkRepository.BulkCandidate(
+                id, 1L, TaskStatus.TODO.name(), false, LocalDateTime.now(), member, blocked);
+    }
 }
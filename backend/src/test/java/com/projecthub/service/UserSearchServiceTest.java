@@ -0,0 +1,140 @@
+package com.projecthub.service;
+
+import com.projecthub.dto.UserSearchDTO;
+import com.projecthub.repository.UserSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchServiceTest {
+
+    @Mock
+    private UserSearchRepository userSearchRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private UserSearchService userSearchService;
+
+    private CacheInvalidationBus.InvalidationHandler invalidationHandler;
+
+    @BeforeEach
+    void setUp() {
+        userSearchService = new UserSearchService(userSearchRepository, cacheInvalidationBus, transactionTemplate, true);
+        lenient().doAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        ArgumentCaptor<CacheInvalidationBus.InvalidationHandler> handler =
+                ArgumentCaptor.forClass(CacheInvalidationBus.InvalidationHandler.class);
+        verify(cacheInvalidationBus).subscribe(eq(RegisteredEmailFilter.CHANNEL), handler.capture());
+        invalidationHandler = handler.getValue();
+    }
+
+    @Test
+    void testSearch_EscapesWildcardsAndPushesLimitIntoQuery() {
+        // Given
+        when(userSearchRepository.findByEmailLike("%a\\_b\\%%", 5)).thenReturn(List.of(
+                new UserSearchRepository.UserEmail(7L, "A_B%@x.io")));
+
+        // When
+        List<UserSearchDTO> users = userSearchService.search(" A_b% ", 5);
+
+        // Then
+        assertEquals(List.of(new UserSearchDTO(7L, "A_B%@x.io")), users);
+        assertThrows(IllegalArgumentException.class, () -> userSearchService.search("a", UserSearchService.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void testAutocomplete_LoadsOnceAndAddsRegisteredUsers() {
+        // Given: two users in the table
+        doAnswer(invocation -> {
+            UserSearchRepository.UserEmailHandler handler = invocation.getArgument(0);
+            handler.user(new UserSearchRepository.UserEmail(1L, "alice@x.io"));
+            handler.user(new UserSearchRepository.UserEmail(2L, "bob@x.io"));
+            return null;
+        }).when(userSearchRepository).forEachUser(any());
+        when(userSearchRepository.findById(4L)).thenReturn(Optional.of(
+                new UserSearchRepository.UserEmail(4L, "alex@x.io")));
+
+        // When: one user registers here and one on another node
+        assertEquals(List.of(1L), ids(userSearchService.autocomplete("al", 10)));
+        userSearchService.onUserRegistered(new UserRegisteredEvent(3L, "alan@x.io"));
+        invalidationHandler.invalidate(4L);
+
+        // Then: both show up without a reload
+        assertEquals(List.of(3L, 4L, 1L), ids(userSearchService.autocomplete("al", 10)));
+        verify(userSearchRepository, times(1)).forEachUser(any());
+
+        // When: notifications may have been missed
+        invalidationHandler.invalidate(null);
+        userSearchService.autocomplete("b", 10);
+
+        // Then
+        verify(userSearchRepository, times(2)).forEachUser(any());
+    }
+
+    @Test
+    void testAutocomplete_DuringLoadAsksTheDatabaseAndKeepsRegistrations() {
+        // Given: while the table is scanned, another request completes a prefix and a user registers
+        when(userSearchRepository.findByEmailLike("al%", 10)).thenReturn(List.of(
+                new UserSearchRepository.UserEmail(1L, "alice@x.io")));
+        List<List<Long>> duringLoad = new ArrayList<>();
+        doAnswer(invocation -> {
+            UserSearchRepository.UserEmailHandler handler = invocation.getArgument(0);
+            handler.user(new UserSearchRepository.UserEmail(1L, "alice@x.io"));
+            duringLoad.add(ids(userSearchService.autocomplete("al", 10)));
+            userSearchService.onUserRegistered(new UserRegisteredEvent(3L, "alan@x.io"));
+            return null;
+        }).when(userSearchRepository).forEachUser(any());
+
+        // When
+        List<Long> loaded = ids(userSearchService.autocomplete("al", 10));
+
+        // Then: the concurrent request was not blocked, and the registration made it into the trie
+        assertEquals(List.of(List.of(1L)), duringLoad);
+        assertEquals(List.of(3L, 1L), loaded);
+        assertEquals(List.of(3L, 1L), ids(userSearchService.autocomplete("al", 10)));
+        verify(userSearchRepository, times(1)).forEachUser(any());
+    }
+
+    @Test
+    void testAutocomplete_LoadOverlappingAMissedNotificationIsNotKept() {
+        // Given: the listener reconnects during the scan
+        doAnswer(invocation -> {
+            invocation.<UserSearchRepository.UserEmailHandler>getArgument(0)
+                    .user(new UserSearchRepository.UserEmail(1L, "alice@x.io"));
+            invalidationHandler.invalidate(null);
+            return null;
+        }).when(userSearchRepository).forEachUser(any());
+
+        // When
+        userSearchService.autocomplete("al", 10);
+        userSearchService.autocomplete("al", 10);
+
+        // Then
+        verify(userSearchRepository, times(2)).forEachUser(any());
+    }
+
+    private static List<Long> ids(List<UserSearchDTO> users) {
+        return users.stream().map(UserSearchDTO::getId).toList();
+    }
+}